@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.benchmark;
+
+/**
+ * Regexes and input sequences shared by the regex benchmarks.
+ */
+final class BenchmarkInputs {
+
+    static final int LONG_INPUT_LENGTH = 4096;
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Returns the regex used to benchmark the given function.
+     *
+     * @param function name of the regex function
+     * @return regex that matches the hit inputs and does not match the miss inputs
+     */
+    static String regex(String function) {
+        switch (function) {
+            case "matches":
+                return "\\d\\d(.*)WSO2(.*)";
+            case "group":
+                return "(\\d\\d)(.*)(WSO2.*)";
+            case "find":
+            case "lookingAt":
+            default:
+                return "\\d\\d(.*)WSO2";
+        }
+    }
+
+    /**
+     * Returns an input sequence of the requested size that does or does not match {@link #regex(String)}.
+     *
+     * @param longInput whether the input should be a multi kilobyte payload
+     * @param hit       whether the input should match the regex
+     * @return input sequence
+     */
+    static String input(boolean longInput, boolean hit) {
+        String filler = " products are produced by the Siddhi stream processor";
+        if (longInput) {
+            StringBuilder builder = new StringBuilder(LONG_INPUT_LENGTH + 64);
+            while (builder.length() < LONG_INPUT_LENGTH) {
+                builder.append(filler);
+            }
+            filler = builder.toString();
+        }
+        return hit ? "21" + filler + " by WSO2 currently" : "twenty one" + filler + " currently";
+    }
+}
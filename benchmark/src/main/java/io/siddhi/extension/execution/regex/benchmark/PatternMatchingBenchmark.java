@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.benchmark;
+
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the ways the regex functions obtain a matcher, without the rest of the Siddhi event flow:
+ * compiling the regex per event, looking it up from the {@link PatternCache}, creating a new matcher from a
+ * constant pattern, and resetting the {@link ReusableMatcher} of the thread.
+ *
+ * Run with {@code java -jar benchmark/target/benchmarks.jar PatternMatchingBenchmark -prof gc} to compare the
+ * allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternMatchingBenchmark {
+
+    @Param({"short", "long"})
+    public String inputSize;
+
+    @Param({"hit", "miss"})
+    public String outcome;
+
+    private String regex;
+    private String input;
+    private Pattern pattern;
+    private PatternCache patternCache;
+    private ReusableMatcher reusableMatcher;
+
+    @Setup
+    public void setup() {
+        regex = BenchmarkInputs.regex("find");
+        input = BenchmarkInputs.input("long".equals(inputSize), "hit".equals(outcome));
+        pattern = Pattern.compile(regex);
+        patternCache = new PatternCache(PatternCache.DEFAULT_CAPACITY);
+        reusableMatcher = new ReusableMatcher(pattern);
+    }
+
+    @Benchmark
+    public boolean compilePerEvent() {
+        return Pattern.compile(regex).matcher(input).find();
+    }
+
+    @Benchmark
+    public boolean cachedPattern() {
+        return patternCache.getPattern(regex, 0).matcher(input).find();
+    }
+
+    @Benchmark
+    public boolean newMatcher() {
+        return pattern.matcher(input).find();
+    }
+
+    @Benchmark
+    public boolean reusedMatcher() {
+        return reusableMatcher.matcher(input).find();
+    }
+}
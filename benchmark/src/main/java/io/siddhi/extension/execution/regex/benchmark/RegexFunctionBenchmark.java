@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.benchmark;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.extension.execution.regex.FindFunctionExtension;
+import io.siddhi.extension.execution.regex.GroupFunctionExtension;
+import io.siddhi.extension.execution.regex.LookingAtFunctionExtension;
+import io.siddhi.extension.execution.regex.MatchesFunctionExtension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the regex functions on the full Siddhi path, from the {@link InputHandler} of the
+ * input stream to the callback of the output stream.
+ *
+ * Run with {@code java -jar benchmark/target/benchmarks.jar RegexFunctionBenchmark -prof gc} to also report the
+ * allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegexFunctionBenchmark {
+
+    @Param({"find", "matches", "lookingAt", "group"})
+    public String function;
+
+    @Param({"constant", "dynamic"})
+    public String regexMode;
+
+    @Param({"short", "long"})
+    public String inputSize;
+
+    @Param({"hit", "miss"})
+    public String outcome;
+
+    private SiddhiManager siddhiManager;
+    private SiddhiAppRuntime siddhiAppRuntime;
+    private InputHandler inputHandler;
+    private Object[] eventData;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        String regex = BenchmarkInputs.regex(function);
+        String regexArgument = "constant".equals(regexMode) ? "'" + regex + "'" : "regex";
+        String groupArgument = "group".equals(function) ? ", 3" : "";
+
+        siddhiManager = new SiddhiManager();
+        siddhiManager.setExtension("regex:find", FindFunctionExtension.class);
+        siddhiManager.setExtension("regex:matches", MatchesFunctionExtension.class);
+        siddhiManager.setExtension("regex:lookingAt", LookingAtFunctionExtension.class);
+        siddhiManager.setExtension("regex:group", GroupFunctionExtension.class);
+        String siddhiApp = "define stream inputStream (input string, regex string); " +
+                "from inputStream " +
+                "select regex:" + function + "(" + regexArgument + ", input" + groupArgument + ") as result " +
+                "insert into outputStream;";
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("outputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                blackhole.consume(events);
+            }
+        });
+        inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        eventData = new Object[]{BenchmarkInputs.input("long".equals(inputSize), "hit".equals(outcome)), regex};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        siddhiAppRuntime.shutdown();
+        siddhiManager.shutdown();
+    }
+
+    @Benchmark
+    public void sendEvent() throws InterruptedException {
+        inputHandler.send(eventData);
+    }
+}
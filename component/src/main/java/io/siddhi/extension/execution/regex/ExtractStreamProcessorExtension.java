@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.CaptureGroups;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.extension.execution.regex.util.TypedValues;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex Extract stream processor implementation.
+ *
+ * extract(regex, input.sequence, attribute.types)
+ * This stream processor matches the 'inputSequence' against the 'regex' once, and appends the sub-sequence captured by
+ * each named group of the 'regex' to the event, converted into the type declared for the group.
+ * regex - constant regular expression. eg: "(?<ts>\d+) (?<level>\w+) took (?<latency>[\d.]+)ms"
+ * inputSequence - input sequence to be matched with the regular expression eg: "1620000000 INFO took 12.5ms"
+ * attributeTypes - constant types of the named groups, as in a stream definition eg: "ts long, latency double"
+ * Accept Type(s) for extract(regex, input.sequence, attribute.types);
+ * regex : STRING
+ * input.sequence : STRING
+ * attribute.types : STRING
+ * Return Type(s): the declared type, or STRING, for each named group
+ */
+@Extension(
+        name = "extract",
+        namespace = "regex",
+        description = "Matches the input.sequence against the regex once and appends the subsequence captured by " +
+                "each named group of the regex to the event, as an attribute of the same name. The attributes " +
+                "have the types declared in attribute.types, and the subsequences are converted as by " +
+                "`convert()`, with numbers parsed straight from the input.sequence without creating " +
+                "intermediate strings. Groups whose subsequence is not a valid number of their type, that do not " +
+                "participate in the match, or that belong to an input.sequence the regex does not match, are " +
+                "`null`. The unnamed groups of the regex are not emitted.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A constant regular expression with named groups. For example, " +
+                                "`(?<ts>\\d+) (?<level>\\w+) took (?<latency>[\\d.]+)ms`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expression. "
+                                + "For example, `1620000000 INFO took 12.5ms`. "
+                                + "It can also be a `byte[]` or `ByteBuffer` `OBJECT` holding UTF-8 bytes, which "
+                                + "are matched in place when they are ASCII.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(name = "attribute.types",
+                        description = "The types of the named groups, given as in a stream definition by the " +
+                                "group names and types separated by commas, among `string`, `int`, `long`, " +
+                                "`float`, `double` and `bool`. The named groups that are not listed are of type " +
+                                "`string`. For example, `ts long, latency double`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "All the named groups are strings.")
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "attribute.types"})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "groupName",
+                        description = "The subsequence captured by the named group of the regex, converted into " +
+                                "the type declared for the group. One attribute is returned per named group.",
+                        type = {DataType.STRING, DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE,
+                                DataType.BOOL})
+        },
+        systemParameter = {
+                @SystemParameter(name = "matcher.reuse",
+                        description = "Keeps one matcher per processing thread and resets it for each event " +
+                                "instead of creating a new matcher per event. Each matcher references the last " +
+                                "input of its thread until the next event, hence disabling the reuse keeps idle " +
+                                "queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds a single evaluation may spend matching " +
+                                "the regex. Evaluations that exceed it, such as those of a regex that backtracks " +
+                                "catastrophically on an event, are aborted and emit `null` attributes instead of " +
+                                "stalling the event flow. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars a single evaluation may read while " +
+                                "matching the regex, counting every char read again on backtracking. " +
+                                "Evaluations that exceed it are aborted and emit `null` attributes. `0` disables " +
+                                "the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (msg string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#regex:extract('(?<ts>\\d+) (?<level>\\w+) took " +
+                                "(?<latency>[\\d.]+)ms', msg, 'ts long, latency double')\n" +
+                                "select ts, level, latency\n" +
+                                "insert into OutputStream;",
+                        description = "For the msg `1620000000 INFO took 12.5ms`, the event is emitted with " +
+                                "`ts` as the long `1620000000`, `level` as the string `INFO` and `latency` as the " +
+                                "double `12.5`."
+                )
+        }
+)
+public class ExtractStreamProcessorExtension extends StreamProcessor<State> {
+    private static final Logger log = LogManager.getLogger(ExtractStreamProcessorExtension.class);
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private Pattern pattern;
+    private ReusableMatcher reusableMatcher;
+    private LinearPattern linearPattern;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private int[] groups;
+    private Attribute.Type[] types;
+
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                       ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:extract() function, " +
+                    "required 2 or 3, but found " + attributeExpressionExecutors.length);
+        }
+        if (!(attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor)
+                || attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    "regex:extract() function, required a constant " + Attribute.Type.STRING);
+        }
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    "regex:extract() function, required " + Attribute.Type.STRING + " or " +
+                    Attribute.Type.OBJECT + ", but found " +
+                    attributeExpressionExecutors[1].getReturnType().toString());
+        }
+        String attributeTypes = null;
+        if (attributeExpressionExecutors.length == 3) {
+            if (!(attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor)
+                    || attributeExpressionExecutors[2].getReturnType() != Attribute.Type.STRING) {
+                throw new SiddhiAppValidationException("Invalid parameter found for the third argument of " +
+                        "regex:extract() function, required a constant " + Attribute.Type.STRING);
+            }
+            attributeTypes = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[2]).getValue();
+        }
+        String regex = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
+        if (regex == null) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    "regex:extract() function, regex cannot be null");
+        }
+        pattern = PatternCache.getInstance().getPattern(regex, 0);
+        if (RegexConfig.isLinearEngine(configReader, "regex:extract()")
+                || RegexConfig.checkBacktracking(configReader, regex, 0, "regex:extract()")) {
+            linearPattern = RegexConfig.initLinearPattern(regex, 0, RegexConfig.readBoolean(configReader,
+                    RegexConfig.LINEAR_ENGINE_FALLBACK, true, "regex:extract()"), "regex:extract()");
+        }
+        reusableMatcher = RegexConfig.initReusableMatcher(configReader, pattern, "regex:extract()");
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:extract()");
+        queryName = siddhiQueryContext.getName();
+
+        Map<String, Attribute.Type> declaredTypes = parseAttributeTypes(attributeTypes);
+        Set<String> attributeNames = new HashSet<>();
+        for (Attribute attribute : inputDefinition.getAttributeList()) {
+            attributeNames.add(attribute.getName());
+        }
+        String[] groupNames = CaptureGroups.names(pattern);
+        List<Integer> namedGroups = new ArrayList<>();
+        for (int group = 1; group < groupNames.length; group++) {
+            String name = groupNames[group];
+            if (name == null) {
+                continue;
+            }
+            if (!attributeNames.add(name)) {
+                throw new SiddhiAppValidationException("The attribute '" + name + "' returned for group " + group +
+                        " of the regex '" + regex + "' by regex:extract() function is already defined");
+            }
+            Attribute.Type type = declaredTypes.remove(name);
+            attributeList.add(new Attribute(name, type != null ? type : Attribute.Type.STRING));
+            namedGroups.add(group);
+        }
+        if (namedGroups.isEmpty()) {
+            throw new SiddhiAppValidationException("The regex '" + regex + "' given to regex:extract() function " +
+                    "has no named groups");
+        }
+        if (!declaredTypes.isEmpty()) {
+            throw new SiddhiAppValidationException("The regex '" + regex + "' given to regex:extract() function " +
+                    "has no named groups " + declaredTypes.keySet() + " declared in the attribute types");
+        }
+        groups = new int[namedGroups.size()];
+        types = new Attribute.Type[namedGroups.size()];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = namedGroups.get(i);
+            types[i] = attributeList.get(i).getType();
+        }
+        return null;
+    }
+
+    private static Map<String, Attribute.Type> parseAttributeTypes(String attributeTypes) {
+        Map<String, Attribute.Type> declaredTypes = new LinkedHashMap<>();
+        if (attributeTypes == null || attributeTypes.trim().isEmpty()) {
+            return declaredTypes;
+        }
+        for (String declaration : attributeTypes.split(",")) {
+            String[] parts = declaration.trim().split("\\s+");
+            Attribute.Type type = null;
+            if (parts.length == 2) {
+                switch (parts[1].toLowerCase(Locale.ENGLISH)) {
+                    case "string":
+                        type = Attribute.Type.STRING;
+                        break;
+                    case "int":
+                        type = Attribute.Type.INT;
+                        break;
+                    case "long":
+                        type = Attribute.Type.LONG;
+                        break;
+                    case "float":
+                        type = Attribute.Type.FLOAT;
+                        break;
+                    case "double":
+                        type = Attribute.Type.DOUBLE;
+                        break;
+                    case "bool":
+                        type = Attribute.Type.BOOL;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (type == null) {
+                throw new SiddhiAppValidationException("Invalid attribute type declaration '" + declaration.trim() +
+                        "' given to regex:extract() function, required a group name followed by one of string, " +
+                        "int, long, float, double and bool");
+            }
+            if (declaredTypes.put(parts[0], type) != null) {
+                throw new SiddhiAppValidationException("The type of the group '" + parts[0] + "' is declared " +
+                        "more than once in the attribute types given to regex:extract() function");
+            }
+        }
+        return declaredTypes;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        while (streamEventChunk.hasNext()) {
+            StreamEvent streamEvent = streamEventChunk.next();
+            Object value = attributeExpressionExecutors[1].execute(streamEvent);
+            if (value == null) {
+                complexEventPopulater.populateComplexEvent(streamEvent, new Object[groups.length]);
+                continue;
+            }
+            CharSequence source = InputSequences.of(value);
+            if (source == null) {
+                throw new SiddhiAppRuntimeException("Invalid input given to regex:extract() function. " +
+                        "Second argument should be a string, byte[] or ByteBuffer");
+            }
+            complexEventPopulater.populateComplexEvent(streamEvent, extract(source));
+        }
+        nextProcessor.process(streamEventChunk);
+    }
+
+    private Object[] extract(CharSequence source) {
+        Object[] values = new Object[groups.length];
+        CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+        try {
+            if (linearPattern != null) {
+                LinearMatcher matcher = linearPattern.reusableMatcher(input);
+                if (matcher.find()) {
+                    convert(source, matcher, values);
+                }
+            } else {
+                Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input)
+                        : pattern.matcher(input);
+                if (matcher.find()) {
+                    convert(source, matcher, values);
+                }
+            }
+        } catch (MatchBudgetExceededException e) {
+            matchBudget.onExceeded(pattern.pattern(), queryName, e);
+            return new Object[groups.length];
+        }
+        return values;
+    }
+
+    private void convert(CharSequence source, MatchResult match, Object[] values) {
+        for (int i = 0; i < groups.length; i++) {
+            int start = match.start(groups[i]);
+            if (start < 0) {
+                continue;
+            }
+            try {
+                values[i] = TypedValues.convert(source, start, match.end(groups[i]), types[i]);
+            } catch (NumberFormatException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("regex:extract() in query '" + queryName + "' cannot convert group '" +
+                            attributeList.get(i).getName() + "' into " + types[i] + ", " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.BatchMatcher;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex FilterBatch stream processor implementation.
+ *
+ * filterBatch(regex, input.sequence)
+ * filterBatch(regex, input.sequence, flags)
+ * This stream processor drops the events whose 'inputSequence' does not contain a subsequence matching the 'regex'.
+ * The input sequences of all the events of a chunk are matched in one batch with a single matcher.
+ * regex - constant regular expression. eg: "\d\d(.*)WSO2"
+ * inputSequence - input sequence to be matched with the regular expression eg: "21 products are produced by WSO2"
+ * flags - constant match flags eg: "CASE_INSENSITIVE|DOTALL"
+ * Accept Type(s) for filterBatch(regex, input.sequence, flags);
+ * regex : STRING
+ * input.sequence : STRING, OBJECT
+ * flags : STRING
+ */
+@Extension(
+        name = "filterBatch",
+        namespace = "regex",
+        description = "Filters out the events whose input.sequence does not contain a subsequence that matches the " +
+                "regex, as `regex:find(regex, input.sequence)` in a filter would. Instead of evaluating the regex " +
+                "once per event, the input sequences of all the events of a chunk are collected and matched in " +
+                "one loop with a single matcher, which pays off on the large chunks of high throughput streams. " +
+                "Events with a null input.sequence are filtered out.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A constant regular expression. For example, `\\d\\d(.*)WSO2`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expression. "
+                                + "For example, `21 products are produced by WSO2`. It can also be a `byte[]` or "
+                                + "`ByteBuffer` `OBJECT` holding UTF-8 bytes.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(name = "flags",
+                        description = "Constant match flags separated by `|`, among `CASE_INSENSITIVE`, " +
+                                "`MULTILINE`, `DOTALL`, `UNICODE_CASE` and `LITERAL`. For example, " +
+                                "`CASE_INSENSITIVE|DOTALL`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none")
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "flags"})
+        },
+        systemParameter = {
+                @SystemParameter(name = "literal.prefilter",
+                        description = "Skips matching the regex on inputs that do not contain the longest " +
+                                "literal every match of the regex requires.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds matching the input of a single event may " +
+                                "take. When it is exceeded the event is filtered out. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars matching the input of a single event " +
+                                "may read, counting every char read again on backtracking. When it is exceeded " +
+                                "the event is filtered out. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (msg string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#regex:filterBatch('ERROR|FATAL', msg)\n" +
+                                "select msg\n" +
+                                "insert into OutputStream;",
+                        description = "Only the events whose msg contains `ERROR` or `FATAL` are emitted."
+                ),
+                @Example(
+                        syntax = "define stream InputStream (msg string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#regex:filterBatch('wso2', msg, 'CASE_INSENSITIVE')\n" +
+                                "select msg\n" +
+                                "insert into OutputStream;",
+                        description = "Only the events whose msg contains `wso2` in any case are emitted."
+                )
+        }
+)
+public class FilterBatchStreamProcessorExtension extends StreamProcessor<State> {
+    private static final int INITIAL_BATCH_SIZE = 64;
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private final ThreadLocal<Batch> batches = ThreadLocal.withInitial(Batch::new);
+    private BatchMatcher batchMatcher;
+
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                       ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:filterBatch() " +
+                    "function, required 2 or 3, but found " + attributeExpressionExecutors.length);
+        }
+        if (!(attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor)
+                || attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    "regex:filterBatch() function, required a constant " + Attribute.Type.STRING);
+        }
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    "regex:filterBatch() function, required " + Attribute.Type.STRING + " or " +
+                    Attribute.Type.OBJECT + ", but found " + attributeExpressionExecutors[1].getReturnType());
+        }
+        String regex = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
+        if (regex == null) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    "regex:filterBatch() function, regex cannot be null");
+        }
+        int flags = 0;
+        if (attributeExpressionExecutors.length == 3) {
+            flags = RegexFlags.parse(attributeExpressionExecutors[2], "third", "regex:filterBatch()");
+        }
+
+        Pattern pattern = PatternCache.getInstance().getPattern(regex, flags);
+        LinearPattern linearPattern = null;
+        if (RegexConfig.isLinearEngine(configReader, "regex:filterBatch()")
+                || RegexConfig.checkBacktracking(configReader, regex, flags, "regex:filterBatch()")) {
+            linearPattern = RegexConfig.initLinearPattern(regex, flags, RegexConfig.readBoolean(configReader,
+                    RegexConfig.LINEAR_ENGINE_FALLBACK, true, "regex:filterBatch()"), "regex:filterBatch()");
+        }
+        LiteralPrefilter literalPrefilter = null;
+        if (RegexConfig.readBoolean(configReader, RegexConfig.LITERAL_PREFILTER, true, "regex:filterBatch()")) {
+            literalPrefilter = LiteralPrefilter.create(RegexFlags.canonicalRegex(regex, flags),
+                    RegexFlags.canonicalFlags(regex, flags));
+        }
+        batchMatcher = new BatchMatcher(pattern, linearPattern, literalPrefilter,
+                RegexConfig.initMatchBudget(configReader, "regex:filterBatch()"), siddhiQueryContext.getName());
+        return null;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        Batch batch = batches.get();
+        CharSequence[] inputs = batch.inputs;
+        int size = 0;
+        while (streamEventChunk.hasNext()) {
+            Object value = attributeExpressionExecutors[1].execute(streamEventChunk.next());
+            CharSequence input = null;
+            if (value != null) {
+                input = InputSequences.of(value);
+                if (input == null) {
+                    throw new SiddhiAppRuntimeException("Invalid input given to regex:filterBatch() function. " +
+                            "Second argument should be a string, byte[] or ByteBuffer");
+                }
+            }
+            if (size == inputs.length) {
+                inputs = batch.grow();
+            }
+            inputs[size++] = input;
+        }
+        boolean[] results = batch.results;
+        batchMatcher.find(inputs, size, results);
+        // Drop the references to the inputs so that the arrays kept for the next chunk do not retain them.
+        Arrays.fill(inputs, 0, size, null);
+
+        streamEventChunk.reset();
+        for (int i = 0; streamEventChunk.hasNext(); i++) {
+            streamEventChunk.next();
+            if (!results[i]) {
+                streamEventChunk.remove();
+            }
+        }
+        if (streamEventChunk.getFirst() != null) {
+            nextProcessor.process(streamEventChunk);
+        }
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+
+    /**
+     * Inputs and results of the chunks processed by a thread, kept across chunks and sized to the largest chunk
+     * seen so that a chunk is evaluated without allocating them.
+     */
+    private static final class Batch {
+        private CharSequence[] inputs = new CharSequence[INITIAL_BATCH_SIZE];
+        private boolean[] results = new boolean[INITIAL_BATCH_SIZE];
+
+        private CharSequence[] grow() {
+            inputs = Arrays.copyOf(inputs, inputs.length * 2);
+            results = new boolean[inputs.length];
+            return inputs;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.ParallelFinder;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex FindAll stream processor implementation.
+ *
+ * findAll(regex, input.sequence)
+ * This stream processor finds every sub-sequence of the 'inputSequence' that matches the 'regex', and emits one event
+ * per match with the matched sub-sequence, its offsets and the sub-sequences captured by the groups of the regex.
+ * regex - constant regular expression. eg: "(?<key>\w+)=(\w+)"
+ * inputSequence - input sequence to be matched with the regular expression eg: "user=admin host=wso2"
+ * Accept Type(s) for findAll(regex, input.sequence);
+ * regex : STRING
+ * input.sequence : STRING
+ * Return Type(s): match : STRING, startIndex : INT, endIndex : INT, STRING for each group
+ */
+@Extension(
+        name = "findAll",
+        namespace = "regex",
+        description = "Finds every subsequence of the input.sequence that matches the regex, and emits one event " +
+                "per match. Each event carries the matched subsequence, its start and end offsets, and the " +
+                "subsequence captured by each group of the regex as a separate attribute. Named groups are " +
+                "emitted as attributes of the same name, and the other groups as `group1`, `group2`, etc. after " +
+                "their group number. Matches are found as by successive `java.util.regex.Matcher.find()` calls, " +
+                "and events with no match are dropped.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A constant regular expression. For example, `(?<key>\\w+)=(\\w+)`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expression. "
+                                + "For example, `user=admin host=wso2`.",
+                        type = {DataType.STRING},
+                        dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence"})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "match",
+                        description = "The subsequence matching the regex.",
+                        type = {DataType.STRING}),
+                @ReturnAttribute(
+                        name = "startIndex",
+                        description = "The offset of the first char of the match in the input.sequence.",
+                        type = {DataType.INT}),
+                @ReturnAttribute(
+                        name = "endIndex",
+                        description = "The offset after the last char of the match in the input.sequence.",
+                        type = {DataType.INT}),
+                @ReturnAttribute(
+                        name = "groupN",
+                        description = "The subsequence captured by the group `N` of the regex in the match, named " +
+                                "after the group when the group is named. One attribute is returned per group.",
+                        type = {DataType.STRING})
+        },
+        systemParameter = {
+                @SystemParameter(name = "matcher.reuse",
+                        description = "Keeps one matcher per processing thread and resets it for each event " +
+                                "instead of creating a new matcher per event. Each matcher references the last " +
+                                "input of its thread until the next event, hence disabling the reuse keeps idle " +
+                                "queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds finding all the matches of an event may " +
+                                "take. When it is exceeded, such as by a regex that backtracks catastrophically " +
+                                "on the event, none of the matches of the event are emitted. `0` disables the " +
+                                "timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars finding all the matches of an event may " +
+                                "read, counting every char read again on backtracking. When it is exceeded, none " +
+                                "of the matches of the event are emitted. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "parallel.threshold",
+                        description = "The minimum length, in chars, of the inputs searched in parallel when the " +
+                                "regex is a constant whose matches span a bounded number of chars. Such inputs " +
+                                "are split into chunks matched on a shared pool of one thread per processor. " +
+                                "`0` disables parallel matching.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "parallel.chunk.size",
+                        description = "The number of chars of each chunk of an input matched in parallel.",
+                        defaultValue = "65536",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (msg string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#regex:findAll('(?<key>\\w+)=(\\w+)', msg)\n" +
+                                "select match, startIndex, endIndex, key, group2\n" +
+                                "insert into OutputStream;",
+                        description = "For the msg `user=admin host=wso2`, two events are emitted: one with " +
+                                "`user=admin`, `0`, `10`, `user` and `admin`, and one with `host=wso2`, `11`, " +
+                                "`20`, `host` and `wso2`."
+                )
+        }
+)
+public class FindAllStreamProcessorExtension extends StreamProcessor<State> {
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private Pattern pattern;
+    private ReusableMatcher reusableMatcher;
+    private LinearPattern linearPattern;
+    private MatchBudget matchBudget;
+    private ParallelFinder parallelFinder;
+    private String queryName;
+    private int groupCount;
+
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                       ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        String regex = GroupsStreamProcessorExtension.validateParameters(attributeExpressionExecutors,
+                "regex:findAll()");
+        pattern = PatternCache.getInstance().getPattern(regex, 0);
+        if (RegexConfig.isLinearEngine(configReader, "regex:findAll()")
+                || RegexConfig.checkBacktracking(configReader, regex, 0, "regex:findAll()")) {
+            linearPattern = RegexConfig.initLinearPattern(regex, 0, RegexConfig.readBoolean(configReader,
+                    RegexConfig.LINEAR_ENGINE_FALLBACK, true, "regex:findAll()"), "regex:findAll()");
+        }
+        reusableMatcher = RegexConfig.initReusableMatcher(configReader, pattern, "regex:findAll()");
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:findAll()");
+        parallelFinder = RegexConfig.initParallelFinder(configReader, pattern, linearPattern, matchBudget,
+                "regex:findAll()");
+        queryName = siddhiQueryContext.getName();
+
+        attributeList.add(new Attribute("match", Attribute.Type.STRING));
+        attributeList.add(new Attribute("startIndex", Attribute.Type.INT));
+        attributeList.add(new Attribute("endIndex", Attribute.Type.INT));
+        List<Attribute> groupAttributes = GroupsStreamProcessorExtension.groupAttributes(pattern, inputDefinition,
+                attributeList, "regex:findAll()");
+        groupCount = groupAttributes.size();
+        attributeList.addAll(groupAttributes);
+        return null;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        ComplexEventChunk<StreamEvent> outputStreamEventChunk = new ComplexEventChunk<>();
+        List<Object[]> eventMatches = new ArrayList<>();
+        while (streamEventChunk.hasNext()) {
+            StreamEvent streamEvent = streamEventChunk.next();
+            String source = (String) attributeExpressionExecutors[1].execute(streamEvent);
+            if (source == null) {
+                continue;
+            }
+            if (parallelFinder != null && parallelFinder.isParallel(source)) {
+                List<int[]> matches = new ArrayList<>();
+                try {
+                    parallelFinder.findAll(source, matches);
+                } catch (MatchBudgetExceededException e) {
+                    matchBudget.onExceeded(pattern.pattern(), queryName, e);
+                    continue;
+                }
+                for (int[] match : matches) {
+                    Object[] data = new Object[groupCount + 3];
+                    data[0] = source.substring(match[0], match[1]);
+                    data[1] = match[0];
+                    data[2] = match[1];
+                    for (int group = 1; group <= groupCount; group++) {
+                        data[group + 2] = match[2 * group] == -1 ? null
+                                : source.substring(match[2 * group], match[2 * group + 1]);
+                    }
+                    outputStreamEventChunk.add(copy(streamEvent, data, streamEventCloner, complexEventPopulater));
+                }
+                continue;
+            }
+            CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+            // The matches of an event are only emitted once all of them are found, so that an event whose match
+            // budget is exceeded emits none rather than an incomplete set.
+            eventMatches.clear();
+            try {
+                if (linearPattern != null) {
+                    LinearMatcher matcher = linearPattern.reusableMatcher(input);
+                    while (matcher.find()) {
+                        Object[] data = new Object[groupCount + 3];
+                        data[0] = matcher.group();
+                        data[1] = matcher.start();
+                        data[2] = matcher.end();
+                        for (int group = 1; group <= groupCount; group++) {
+                            data[group + 2] = matcher.group(group);
+                        }
+                        eventMatches.add(data);
+                    }
+                } else {
+                    Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input)
+                            : pattern.matcher(input);
+                    while (matcher.find()) {
+                        Object[] data = new Object[groupCount + 3];
+                        data[0] = matcher.group();
+                        data[1] = matcher.start();
+                        data[2] = matcher.end();
+                        for (int group = 1; group <= groupCount; group++) {
+                            data[group + 2] = matcher.group(group);
+                        }
+                        eventMatches.add(data);
+                    }
+                }
+            } catch (MatchBudgetExceededException e) {
+                matchBudget.onExceeded(pattern.pattern(), queryName, e);
+                continue;
+            }
+            for (Object[] data : eventMatches) {
+                outputStreamEventChunk.add(copy(streamEvent, data, streamEventCloner, complexEventPopulater));
+            }
+        }
+        nextProcessor.process(outputStreamEventChunk);
+    }
+
+    private static StreamEvent copy(StreamEvent streamEvent, Object[] data, StreamEventCloner streamEventCloner,
+                                    ComplexEventPopulater complexEventPopulater) {
+        StreamEvent newStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+        complexEventPopulater.populateComplexEvent(newStreamEvent, data);
+        return newStreamEvent;
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+}
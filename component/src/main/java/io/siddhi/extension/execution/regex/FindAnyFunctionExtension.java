@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.util.MultiPatternMatcher;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class representing the Regex FindAny implementation.
+ *
+ * findAny(input.sequence, regex, ...)
+ * This method attempts to find a sub-sequence of the 'inputSequence' that matches any of the 'regex' patterns, and
+ * returns the index of the first pattern that matches.
+ * inputSequence - input sequence to be matched with the regular expressions eg: "21 products are produced by WSO2
+ * currently"
+ * regex - constant regular expressions. eg: "\d\d(.*)WSO2", "Siddhi(.*)"
+ * Accept Type(s) for findAny(input.sequence, regex, ...);
+ * input.sequence : STRING
+ * regex : STRING
+ * Return Type(s): INT
+ */
+@Extension(
+        name = "findAny",
+        namespace = "regex",
+        description = "Finds the first of the given regex patterns that matches a subsequence of the " +
+                "input.sequence. All the patterns are evaluated with a single scan of the input.sequence that " +
+                "selects the patterns whose mandatory literals occur in it, and only those patterns are then " +
+                "verified by the regex engine.",
+        parameters = {
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expressions. "
+                                + "For example, `21 products are produced by WSO2`.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(name = "regex",
+                        description = "A constant regular expression. Any number of regular expressions can be " +
+                                "given. For example, `\\d\\d(.*)WSO2`.",
+                        type = {DataType.STRING})
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"input.sequence", "regex", "..."})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Returns the zero based index of the first regex that matches a subsequence of the " +
+                        "input.sequence, else returns `-1`.",
+                type = {DataType.INT}),
+        examples = {
+                @Example(
+                        syntax = "regex:findAny('21 products are produced by WSO2 currently', " +
+                                "'Siddhi(.*)', '\\d\\d(.*)WSO2', 'WSO2')",
+                        description = "This method attempts to find a subsequence of the input.sequence that " +
+                                "matches any of the given regex patterns. It returns `1` as `\\d\\d(.*)WSO2` is the " +
+                                "first pattern with a matching subsequence."
+                )
+        }
+)
+public class FindAnyFunctionExtension extends FunctionExecutor<State> {
+    private static final Logger log = LogManager.getLogger(FindAnyFunctionExtension.class);
+    private Attribute.Type returnType = Attribute.Type.INT;
+    private static final long serialVersionUID = 1L;
+    private MultiPatternMatcher multiPatternMatcher;
+
+    @Override
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        List<String> regexes = validateParameters(attributeExpressionExecutors, "regex:findAny()");
+        multiPatternMatcher = new MultiPatternMatcher(regexes, 0);
+        return null;
+    }
+
+    static List<String> validateParameters(ExpressionExecutor[] attributeExpressionExecutors, String function) {
+        if (attributeExpressionExecutors.length < 2) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to " + function + " function, " +
+                    "required at least 2, but found " + attributeExpressionExecutors.length);
+        }
+        if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the first argument of " +
+                    function + " function, required " + Attribute.Type.STRING + ", but found " +
+                    attributeExpressionExecutors[0].getReturnType().toString());
+        }
+        List<String> regexes = new ArrayList<>(attributeExpressionExecutors.length - 1);
+        for (int i = 1; i < attributeExpressionExecutors.length; i++) {
+            if (!(attributeExpressionExecutors[i] instanceof ConstantExpressionExecutor)
+                    || attributeExpressionExecutors[i].getReturnType() != Attribute.Type.STRING) {
+                throw new SiddhiAppValidationException("Invalid parameter found for the argument " + (i + 1) +
+                        " of " + function + " function, required a constant " + Attribute.Type.STRING);
+            }
+            Object regex = ((ConstantExpressionExecutor) attributeExpressionExecutors[i]).getValue();
+            if (regex == null) {
+                throw new SiddhiAppValidationException("Invalid parameter found for the argument " + (i + 1) +
+                        " of " + function + " function, regex cannot be null");
+            }
+            regexes.add((String) regex);
+        }
+        return regexes;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (data[0] == null) {
+            if (log.isDebugEnabled()) {
+                log.warn("Invalid input given to regex:findAny() function. " +
+                        "First argument cannot be null, returning -1");
+            }
+            return -1;
+        }
+        return multiPatternMatcher.findFirst((String) data[0]);
+    }
+
+    @Override
+    protected Object execute(Object o, State state) {
+        return null;  //Since the findAny function takes in at least 2 parameters, this method does not
+        // get called. Hence, not implemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return returnType;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.util.MultiPatternMatcher;
+import io.siddhi.query.api.definition.Attribute;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class representing the Regex FindAnyIndices implementation.
+ *
+ * findAnyIndices(input.sequence, regex, ...)
+ * This method returns the indexes of all the 'regex' patterns that match a sub-sequence of the 'inputSequence'.
+ * inputSequence - input sequence to be matched with the regular expressions eg: "21 products are produced by WSO2
+ * currently"
+ * regex - constant regular expressions. eg: "\d\d(.*)WSO2", "Siddhi(.*)"
+ * Accept Type(s) for findAnyIndices(input.sequence, regex, ...);
+ * input.sequence : STRING
+ * regex : STRING
+ * Return Type(s): OBJECT
+ */
+@Extension(
+        name = "findAnyIndices",
+        namespace = "regex",
+        description = "Finds all the given regex patterns that match a subsequence of the input.sequence. " +
+                "All the patterns are evaluated with a single scan of the input.sequence that selects the " +
+                "patterns whose mandatory literals occur in it, and only those patterns are then verified by " +
+                "the regex engine.",
+        parameters = {
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expressions. "
+                                + "For example, `21 products are produced by WSO2`.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(name = "regex",
+                        description = "A constant regular expression. Any number of regular expressions can be " +
+                                "given. For example, `\\d\\d(.*)WSO2`.",
+                        type = {DataType.STRING})
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"input.sequence", "regex", "..."})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Returns a `java.util.List` with the zero based indexes of the regexes that match a " +
+                        "subsequence of the input.sequence, in ascending order. The list is empty if none of " +
+                        "them match.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "regex:findAnyIndices('21 products are produced by WSO2 currently', " +
+                                "'Siddhi(.*)', '\\d\\d(.*)WSO2', 'WSO2')",
+                        description = "This method finds all the regex patterns that match a subsequence of the " +
+                                "input.sequence. It returns a list with `1` and `2`, the indexes of " +
+                                "`\\d\\d(.*)WSO2` and `WSO2`."
+                )
+        }
+)
+public class FindAnyIndicesFunctionExtension extends FunctionExecutor<State> {
+    private static final Logger log = LogManager.getLogger(FindAnyIndicesFunctionExtension.class);
+    private Attribute.Type returnType = Attribute.Type.OBJECT;
+    private static final long serialVersionUID = 1L;
+    private MultiPatternMatcher multiPatternMatcher;
+
+    @Override
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        List<String> regexes = FindAnyFunctionExtension.validateParameters(attributeExpressionExecutors,
+                "regex:findAnyIndices()");
+        multiPatternMatcher = new MultiPatternMatcher(regexes, 0);
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (data[0] == null) {
+            if (log.isDebugEnabled()) {
+                log.warn("Invalid input given to regex:findAnyIndices() function. " +
+                        "First argument cannot be null, returning an empty list");
+            }
+            return Collections.emptyList();
+        }
+        return multiPatternMatcher.findAll((String) data[0]);
+    }
+
+    @Override
+    protected Object execute(Object o, State state) {
+        return null;  //Since the findAnyIndices function takes in at least 2 parameters, this method does not
+        // get called. Hence, not implemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return returnType;
+    }
+}
@@ -23,6 +23,7 @@ import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,13 +33,23 @@ import io.siddhi.core.executor.function.FunctionExecutor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.ParallelFinder;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import io.siddhi.extension.execution.regex.util.RegexMetrics;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.extension.execution.regex.util.SlowEvaluationProfiler;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -72,8 +83,10 @@ import java.util.regex.Pattern;
                         dynamic = true),
                 @Parameter(name = "input.sequence",
                         description = "The input sequence to be matched with the regular expression. "
-                                + "For example, `21 products are produced by WSO2`.",
-                        type = {DataType.STRING},
+                                + "For example, `21 products are produced by WSO2`. "
+                                + "It can also be a `byte[]` or `ByteBuffer` `OBJECT` holding UTF-8 bytes, which "
+                                + "are matched in place when they are ASCII.",
+                        type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(name = "starting.index",
                         description = "The starting index of the input sequence from where the input sequence is" +
@@ -82,16 +95,127 @@ import java.util.regex.Pattern;
                         type = {DataType.INT},
                         optional = true,
                         dynamic = true,
-                        defaultValue = "0")
+                        defaultValue = "0"),
+                @Parameter(name = "flags",
+                        description = "Constant match flags separated by `|`, among `CASE_INSENSITIVE`, " +
+                                "`MULTILINE`, `DOTALL`, `UNICODE_CASE` and `LITERAL`. For example, " +
+                                "`CASE_INSENSITIVE|DOTALL`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none")
         },
         parameterOverloads = {
                 @ParameterOverload(parameterNames = {"regex", "input.sequence"}),
-                @ParameterOverload(parameterNames = {"regex", "input.sequence", "starting.index"})
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "starting.index"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "flags"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "starting.index", "flags"})
         },
         returnAttributes = @ReturnAttribute(
                 description = "Returns `true` if a matching subsequence is available in the input.sequence, " +
                         "else return `false`.",
                 type = {DataType.BOOL}),
+        systemParameter = {
+                @SystemParameter(name = "pattern.cache.size",
+                        description = "The maximum number of compiled regex patterns retained in the pattern " +
+                                "cache shared by the regex functions. Regexes given as event attributes are " +
+                                "compiled once and served from this cache, and the least recently used " +
+                                "patterns are evicted when the cache is full. The cache is shared by the Siddhi " +
+                                "apps of the JVM, hence when different sizes are configured the largest size of " +
+                                "the running Siddhi apps is used.",
+                        defaultValue = "1000",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "matcher.reuse",
+                        description = "When the regex is a constant, keeps one matcher per processing thread " +
+                                "and resets it for each event instead of creating a new matcher per event. Each " +
+                                "matcher references the last input of its thread until the next event, hence " +
+                                "disabling the reuse keeps idle queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "literal.prefilter",
+                        description = "When the regex is a constant, extracts the longest literal that every " +
+                                "match must contain, such as `WSO2` in `\\d\\d(.*)WSO2`, and returns `false` " +
+                                "without running the regex engine for inputs that do not contain it.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation, or the event when the regex is given as an event attribute.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds a single evaluation may spend matching " +
+                                "the regex. Evaluations that exceed it, such as those of a regex that backtracks " +
+                                "catastrophically on an event, are aborted and return `false` instead of stalling " +
+                                "the event flow. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars a single evaluation may read while " +
+                                "matching the regex, counting every char read again on backtracking. " +
+                                "Evaluations that exceed it are aborted and return `false`. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "parallel.threshold",
+                        description = "The minimum length, in chars, of the inputs searched in parallel when the " +
+                                "regex is a constant whose matches span a bounded number of chars. Such inputs " +
+                                "are split into chunks matched on a shared pool of one thread per processor. " +
+                                "`0` disables parallel matching.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "parallel.chunk.size",
+                        description = "The number of chars of each chunk of an input matched in parallel.",
+                        defaultValue = "65536",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "profile.threshold",
+                        description = "The duration in milliseconds above which an evaluation is recorded as slow, " +
+                                "along with its regex and input length. The " +
+                                "slowest evaluations of all the regex functions are exposed through the JMX " +
+                                "MBean `io.siddhi.extension.execution.regex:type=SlowEvaluations`. `0` disables " +
+                                "profiling.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.top.n",
+                        description = "The number of slowest evaluations retained. When configured differently " +
+                                "for several functions, the largest value is honoured.",
+                        defaultValue = "20",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "profile.log.interval",
+                        description = "The interval in milliseconds at which the slowest evaluations are logged, " +
+                                "when new ones were recorded. When configured differently for several functions, " +
+                                "the shortest interval of the running Siddhi apps is honoured. `0` disables logging.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.input.excerpt",
+                        description = "Records the first 200 chars of the input along with each slow evaluation, " +
+                                "which are then logged and exposed through JMX. Enable it only when the event " +
+                                "payloads hold no sensitive data.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
         examples = {
                 @Example(
                         syntax = "regex:find('\\d\\d(.*)WSO2', " +
@@ -105,21 +229,42 @@ import java.util.regex.Pattern;
                         description = "This method attempts to find the subsequence of the input.sequence "
                                 + "that matches the regex pattern, `\\d\\d(.*)WSO2` starting from index `4`. "
                                 + "It returns 'false' as subsequence does not exists."
+                ),
+                @Example(
+                        syntax = "regex:find('wso2(.*)middleware', 'WSO2 is a MIDDLEWARE company', " +
+                                "'CASE_INSENSITIVE')",
+                        description = "This method attempts to find the subsequence of the input.sequence that " +
+                                "matches the regex pattern, `wso2(.*)middleware`, ignoring case. It returns " +
+                                "`true` as a subsequence exists."
                 )
         }
 )
-public class FindFunctionExtension extends FunctionExecutor<FindFunctionExtension.ExtensionState> {
+public class FindFunctionExtension extends FunctionExecutor<State> {
     private static final Logger log = LogManager.getLogger(FindFunctionExtension.class);
     private Attribute.Type returnType = Attribute.Type.BOOL;
     private static final long serialVersionUID = 1L;
+    private PatternCache patternCache;
+    private ReusableMatcher reusableMatcher;
+    private boolean linearEngine;
+    private boolean linearEngineFallback;
+    private int flags;
+    private boolean hasStartingIndex;
+    private Pattern patternConstant;
+    private LinearPattern linearPatternConstant;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private RegexMetrics regexMetrics;
+    private SlowEvaluationProfiler slowEvaluationProfiler;
+    private LiteralPrefilter literalPrefilter;
+    private ParallelFinder parallelFinder;
 
     @Override
-    protected StateFactory<ExtensionState> init(ExpressionExecutor[] attributeExpressionExecutors,
-                                                ConfigReader configReader,
-                                                SiddhiQueryContext siddhiQueryContext) {
-        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length < 2 || attributeExpressionExecutors.length > 4) {
             throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:find() function, " +
-                    "required 2 or 3, " + "but found " +
+                    "required 2, 3 or 4, " + "but found " +
                     attributeExpressionExecutors.length);
         } else {
             if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
@@ -128,13 +273,17 @@ public class FindFunctionExtension extends FunctionExecutor<FindFunctionExtensio
                         Attribute.Type.STRING + ", but found " +
                         attributeExpressionExecutors[0].getReturnType().toString());
             }
-            if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING) {
+            if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                    && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
                 throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
                         "regex:find() function, " + "required " +
-                        Attribute.Type.STRING + ", but found " +
+                        Attribute.Type.STRING + " or " + Attribute.Type.OBJECT + ", but found " +
                         attributeExpressionExecutors[1].getReturnType().toString());
             }
-            if (attributeExpressionExecutors.length == 3) {
+            if (attributeExpressionExecutors.length == 3
+                    && attributeExpressionExecutors[2].getReturnType() == Attribute.Type.STRING) {
+                flags = RegexFlags.parse(attributeExpressionExecutors[2], "third", "regex:find()");
+            } else if (attributeExpressionExecutors.length >= 3) {
                 if (attributeExpressionExecutors[2].getReturnType() != Attribute.Type.INT) {
                     throw new SiddhiAppValidationException("Invalid parameter type found for the " + "third " +
                             "argument of str:find() function, " +
@@ -142,19 +291,69 @@ public class FindFunctionExtension extends FunctionExecutor<FindFunctionExtensio
                             attributeExpressionExecutors[1].
                                     getReturnType().toString());
                 }
+                hasStartingIndex = true;
+                if (attributeExpressionExecutors.length == 4) {
+                    flags = RegexFlags.parse(attributeExpressionExecutors[3], "fourth", "regex:find()");
+                }
             }
         }
 
+        patternCache = RegexConfig.initPatternCache(configReader, siddhiQueryContext, "regex:find()");
+        linearEngine = RegexConfig.isLinearEngine(configReader, "regex:find()");
+        linearEngineFallback = RegexConfig.readBoolean(configReader, RegexConfig.LINEAR_ENGINE_FALLBACK, true,
+                "regex:find()");
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:find()");
+        slowEvaluationProfiler = RegexConfig.initSlowEvaluationProfiler(configReader, siddhiQueryContext,
+                "regex:find()");
+        queryName = siddhiQueryContext.getName();
         if (attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor) {
             String regexConstant = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
-            Pattern patternConstant = Pattern.compile(regexConstant);
-            return () -> new ExtensionState(true, regexConstant, patternConstant);
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, "regex:find()", regexConstant, flags);
+            patternConstant = patternCache.getPattern(regexConstant, flags, regexMetrics);
+            if (linearEngine
+                    || RegexConfig.checkBacktracking(configReader, regexConstant, flags, "regex:find()")) {
+                linearPatternConstant = RegexConfig.initLinearPattern(regexConstant, flags, linearEngineFallback,
+                        "regex:find()");
+            }
+            reusableMatcher = RegexConfig.initReusableMatcher(configReader, patternConstant, "regex:find()");
+            parallelFinder = RegexConfig.initParallelFinder(configReader, patternConstant, linearPatternConstant,
+                    matchBudget, "regex:find()");
+            if (RegexConfig.readBoolean(configReader, RegexConfig.LITERAL_PREFILTER, true, "regex:find()")) {
+                literalPrefilter = LiteralPrefilter.create(RegexFlags.canonicalRegex(regexConstant, flags),
+                        RegexFlags.canonicalFlags(regexConstant, flags));
+                if (literalPrefilter != null && log.isDebugEnabled()) {
+                    log.debug("regex:find() in query '" + siddhiQueryContext.getName() + "' skips inputs " +
+                            "that do not contain '" + literalPrefilter.getLiteral() + "'");
+                }
+            }
+        } else {
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, "regex:find()", null, flags);
         }
-        return () -> new ExtensionState(false, null, null);
+        return null;
     }
 
     @Override
-    protected Object execute(Object[] data, ExtensionState extensionState) {
+    protected Object execute(Object[] data, State state) {
+        boolean measured = regexMetrics != null && regexMetrics.markIn();
+        if (!measured && slowEvaluationProfiler == null) {
+            return evaluate(data);
+        }
+        long startTime = System.nanoTime();
+        Object result = null;
+        try {
+            result = evaluate(data);
+            return result;
+        } finally {
+            if (slowEvaluationProfiler != null) {
+                slowEvaluationProfiler.record(data[0], data[1], startTime);
+            }
+            if (measured) {
+                regexMetrics.markOut(Boolean.TRUE.equals(result));
+            }
+        }
+    }
+
+    private Object evaluate(Object[] data) {
         String regex;
         Pattern pattern;
         Matcher matcher;
@@ -171,42 +370,73 @@ public class FindFunctionExtension extends FunctionExecutor<FindFunctionExtensio
             return false;
         }
 
-        String source = (String) data[1];
-
-        if (!extensionState.isRegexConstant) {
-            regex = (String) data[0];
-            pattern = Pattern.compile(regex);
-            matcher = pattern.matcher(source);
-
-        } else {
-            matcher = extensionState.patternConstant.matcher(source);
-
+        CharSequence source = InputSequences.of(data[1]);
+        if (source == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to regex:find() function. " +
+                    "Second argument should be a string, byte[] or ByteBuffer");
         }
-
-
-        if (data.length == 2) {
-            return matcher.find();
-        } else {
+        int startingIndex = 0;
+        if (hasStartingIndex) {
             if (data[2] == null) {
                 if (log.isDebugEnabled()) {
                     log.warn("Invalid input given to regex:find() function. " +
-                            "Second argument cannot be null, returning false");
+                            "Third argument cannot be null, returning false");
                 }
                 return false;
             }
-            int startingIndex;
             try {
                 startingIndex = (Integer) data[2];
             } catch (ClassCastException ex) {
-                throw new SiddhiAppRuntimeException("Invalid input given to regex:group() function. " +
+                throw new SiddhiAppRuntimeException("Invalid input given to regex:find() function. " +
                         "Third argument should be an integer");
             }
-            return matcher.find(startingIndex);
+        }
+
+        CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+        try {
+            if (patternConstant == null) {
+                regex = (String) data[0];
+                if (linearEngine) {
+                    LinearPattern linearPattern = RegexConfig.getLinearPattern(patternCache, regex, flags,
+                            linearEngineFallback, regexMetrics, "regex:find()");
+                    if (linearPattern != null) {
+                        return linearPattern.find(input, startingIndex);
+                    }
+                }
+                pattern = patternCache.getPattern(regex, flags, regexMetrics);
+                matcher = pattern.matcher(input);
+
+            } else {
+                if (literalPrefilter != null && !literalPrefilter.mayMatch(source, startingIndex)) {
+                    return false;
+                }
+                if (parallelFinder != null && parallelFinder.isParallel(source)) {
+                    return parallelFinder.find(source, startingIndex);
+                }
+                if (linearPatternConstant != null) {
+                    return linearPatternConstant.find(input, startingIndex);
+                }
+                matcher = reusableMatcher != null ? reusableMatcher.matcher(input)
+                        : patternConstant.matcher(input);
+
+            }
+
+            if (!hasStartingIndex) {
+                return matcher.find();
+            } else {
+                return matcher.find(startingIndex);
+            }
+        } catch (MatchBudgetExceededException e) {
+            if (regexMetrics != null) {
+                regexMetrics.aborted();
+            }
+            matchBudget.onExceeded((String) data[0], queryName, e);
+            return false;
         }
     }
 
     @Override
-    protected Object execute(Object o, ExtensionState extensionState) {
+    protected Object execute(Object o, State state) {
         return null;
     }
 
@@ -214,38 +444,4 @@ public class FindFunctionExtension extends FunctionExecutor<FindFunctionExtensio
     public Attribute.Type getReturnType() {
         return returnType;
     }
-
-    static class ExtensionState extends State {
-
-        private boolean isRegexConstant;
-        private String regexConstant;
-        private Pattern patternConstant;
-
-        private ExtensionState(boolean isRegexConstant, String regexConstant, Pattern patternConstant) {
-            this.isRegexConstant = isRegexConstant;
-            this.regexConstant = regexConstant;
-            this.patternConstant = patternConstant;
-        }
-
-        @Override
-        public boolean canDestroy() {
-            return false;
-        }
-
-        @Override
-        public Map<String, Object> snapshot() {
-            Map<String, Object> stateMap = new HashMap<>(3);
-            stateMap.put("isRegexConstant", isRegexConstant);
-            stateMap.put("regexConstant", regexConstant);
-            stateMap.put("patternConstant", patternConstant);
-            return stateMap;
-        }
-
-        @Override
-        public void restore(Map<String, Object> state) {
-            isRegexConstant = (Boolean) state.get("isRegexConstant");
-            regexConstant = (String) state.get("regexConstant");
-            patternConstant = (Pattern) state.get("patternConstant");
-        }
-    }
 }
@@ -23,6 +23,7 @@ import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,11 +33,22 @@ import io.siddhi.core.executor.function.FunctionExecutor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.GroupInterner;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import io.siddhi.extension.execution.regex.util.RegexMetrics;
+import io.siddhi.extension.execution.regex.util.ResultCache;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.extension.execution.regex.util.SlowEvaluationProfiler;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -66,20 +78,148 @@ import java.util.regex.Pattern;
                         dynamic = true),
                 @Parameter(name = "input.sequence",
                         description = "The input sequence to be matched with the regular expression. "
-                                + "For example, 2`1 products are produced by WSO2`.",
-                        type = {DataType.STRING},
+                                + "For example, 2`1 products are produced by WSO2`. "
+                                + "It can also be a `byte[]` or `ByteBuffer` `OBJECT` holding UTF-8 bytes, which "
+                                + "are matched in place when they are ASCII.",
+                        type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(name = "group.id",
                         description = "The given group id of the regex expression. For example, `2`.",
                         type = {DataType.INT},
-                        dynamic = true)
+                        dynamic = true),
+                @Parameter(name = "flags",
+                        description = "Constant match flags separated by `|`, among `CASE_INSENSITIVE`, " +
+                                "`MULTILINE`, `DOTALL`, `UNICODE_CASE` and `LITERAL`. For example, " +
+                                "`CASE_INSENSITIVE|DOTALL`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none")
         },
         parameterOverloads = {
-                @ParameterOverload(parameterNames = {"regex", "input.sequence", "group.id"})
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "group.id"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "group.id", "flags"})
         },
         returnAttributes = @ReturnAttribute(
                 description = "The string matching the regex group.",
                 type = {DataType.STRING}),
+        systemParameter = {
+                @SystemParameter(name = "pattern.cache.size",
+                        description = "The maximum number of compiled regex patterns retained in the pattern " +
+                                "cache shared by the regex functions. Regexes given as event attributes are " +
+                                "compiled once and served from this cache, and the least recently used " +
+                                "patterns are evicted when the cache is full. The cache is shared by the Siddhi " +
+                                "apps of the JVM, hence when different sizes are configured the largest size of " +
+                                "the running Siddhi apps is used.",
+                        defaultValue = "1000",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "matcher.reuse",
+                        description = "When the regex is a constant, keeps one matcher per processing thread " +
+                                "and resets it for each event instead of creating a new matcher per event. Each " +
+                                "matcher references the last input of its thread until the next event, hence " +
+                                "disabling the reuse keeps idle queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation, or the event when the regex is given as an event attribute.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds a single evaluation may spend matching " +
+                                "the regex. Evaluations that exceed it, such as those of a regex that backtracks " +
+                                "catastrophically on an event, are aborted and return `null` instead of stalling " +
+                                "the event flow. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars a single evaluation may read while " +
+                                "matching the regex, counting every char read again on backtracking. " +
+                                "Evaluations that exceed it are aborted and return `null`. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.threshold",
+                        description = "The duration in milliseconds above which an evaluation is recorded as slow, " +
+                                "along with its regex and input length. The " +
+                                "slowest evaluations of all the regex functions are exposed through the JMX " +
+                                "MBean `io.siddhi.extension.execution.regex:type=SlowEvaluations`. `0` disables " +
+                                "profiling.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.top.n",
+                        description = "The number of slowest evaluations retained. When configured differently " +
+                                "for several functions, the largest value is honoured.",
+                        defaultValue = "20",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "profile.log.interval",
+                        description = "The interval in milliseconds at which the slowest evaluations are logged, " +
+                                "when new ones were recorded. When configured differently for several functions, " +
+                                "the shortest interval of the running Siddhi apps is honoured. `0` disables logging.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.input.excerpt",
+                        description = "Records the first 200 chars of the input along with each slow evaluation, " +
+                                "which are then logged and exposed through JMX. Enable it only when the event " +
+                                "payloads hold no sensitive data.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "group.intern.size",
+                        description = "The number of recent group values cached by the function, so that " +
+                                "repeated values such as HTTP methods, status codes or host names are returned " +
+                                "as the same string instead of a new string per event. Values are looked up from " +
+                                "the matched chars without creating a string, and a value missing from the cache " +
+                                "replaces the one it collides with. `0` disables the cache.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "group.intern.max.length",
+                        description = "The maximum length of the group values cached, as longer values are " +
+                                "unlikely to repeat.",
+                        defaultValue = "64",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "result.cache.size",
+                        description = "The number of least recently used results remembered per function " +
+                                "call, keyed by the input string, so that repeated inputs are answered " +
+                                "without matching. Only used when the regex and `group.id` are constants and " +
+                                "the input is a string. Cache hits are reported as `resultCacheHits` in the " +
+                                "statistics, and the hit, miss and eviction counts, hit rate and estimated memory " +
+                                "of each cache through the JMX MBean " +
+                                "`io.siddhi.extension.execution.regex:type=ResultCache`. `0` disables the cache.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "result.cache.max.bytes",
+                        description = "The estimated memory in bytes the cached inputs and results may use. " +
+                                "Least recently used entries are evicted beyond this limit.",
+                        defaultValue = "16777216",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "result.cache.max.input.length",
+                        description = "The maximum length of the inputs cached. Longer inputs are unlikely " +
+                                "to repeat and are always matched.",
+                        defaultValue = "1024",
+                        possibleParameters = "Any positive integer")
+        },
         examples = {
                 @Example(
                         syntax = "regex:group('\\d\\d(.*)(WSO2.*)(WSO2.*)', "
@@ -91,17 +231,30 @@ import java.util.regex.Pattern;
                 )
         }
 )
-public class GroupFunctionExtension extends FunctionExecutor<GroupFunctionExtension.ExtensionState> {
+public class GroupFunctionExtension extends FunctionExecutor<State> {
     private Attribute.Type returnType = Attribute.Type.STRING;
     private static final long serialVersionUID = 1L;
+    private PatternCache patternCache;
+    private ReusableMatcher reusableMatcher;
+    private boolean linearEngine;
+    private boolean linearEngineFallback;
+    private int flags;
+    private Pattern patternConstant;
+    private LinearPattern linearPatternConstant;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private RegexMetrics regexMetrics;
+    private SlowEvaluationProfiler slowEvaluationProfiler;
+    private GroupInterner groupInterner;
+    private ResultCache resultCache;
 
     @Override
-    protected StateFactory<ExtensionState> init(ExpressionExecutor[] attributeExpressionExecutors,
-                                                ConfigReader configReader,
-                                                SiddhiQueryContext siddhiQueryContext) {
-        if (attributeExpressionExecutors.length != 3) {
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 3 && attributeExpressionExecutors.length != 4) {
             throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:group() function, " +
-                    "required 3, but found " + attributeExpressionExecutors.length);
+                    "required 3 or 4, but found " + attributeExpressionExecutors.length);
         }
         if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
             throw new SiddhiAppValidationException("Invalid parameter type found for the first argument of " +
@@ -109,9 +262,10 @@ public class GroupFunctionExtension extends FunctionExecutor<GroupFunctionExtens
                     ", but found " +
                     attributeExpressionExecutors[0].getReturnType().toString());
         }
-        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING) {
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
             throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
-                    "str:group() function, " + "required " + Attribute.Type.STRING +
+                    "str:group() function, " + "required " + Attribute.Type.STRING + " or " + Attribute.Type.OBJECT +
                     ", but found " +
                     attributeExpressionExecutors[1].getReturnType().toString());
         }
@@ -121,19 +275,61 @@ public class GroupFunctionExtension extends FunctionExecutor<GroupFunctionExtens
                     ", but found " +
                     attributeExpressionExecutors[1].getReturnType().toString());
         }
+        if (attributeExpressionExecutors.length == 4) {
+            flags = RegexFlags.parse(attributeExpressionExecutors[3], "fourth", "regex:group()");
+        }
+        patternCache = RegexConfig.initPatternCache(configReader, siddhiQueryContext, "regex:group()");
+        linearEngine = RegexConfig.isLinearEngine(configReader, "regex:group()");
+        linearEngineFallback = RegexConfig.readBoolean(configReader, RegexConfig.LINEAR_ENGINE_FALLBACK, true,
+                "regex:group()");
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:group()");
+        groupInterner = RegexConfig.initGroupInterner(configReader, "regex:group()");
+        slowEvaluationProfiler = RegexConfig.initSlowEvaluationProfiler(configReader, siddhiQueryContext,
+                "regex:group()");
+        queryName = siddhiQueryContext.getName();
         if (attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor) {
             String regexConstant = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
-            Pattern patternConstant = Pattern.compile(regexConstant);
-            return () -> new GroupFunctionExtension.ExtensionState(true, regexConstant, patternConstant);
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, "regex:group()", regexConstant, flags);
+            patternConstant = patternCache.getPattern(regexConstant, flags, regexMetrics);
+            if (linearEngine
+                    || RegexConfig.checkBacktracking(configReader, regexConstant, flags, "regex:group()")) {
+                linearPatternConstant = RegexConfig.initLinearPattern(regexConstant, flags, linearEngineFallback,
+                        "regex:group()");
+            }
+            reusableMatcher = RegexConfig.initReusableMatcher(configReader, patternConstant, "regex:group()");
+            if (attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor) {
+                resultCache = RegexConfig.initResultCache(configReader, siddhiQueryContext, "regex:group()");
+            }
+        } else {
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, "regex:group()", null, flags);
         }
-        return () -> new ExtensionState(false, null, null);
+        return null;
     }
 
     @Override
-    protected Object execute(Object[] data, ExtensionState extensionState) {
+    protected Object execute(Object[] data, State state) {
+        boolean measured = regexMetrics != null && regexMetrics.markIn();
+        if (!measured && slowEvaluationProfiler == null) {
+            return evaluate(data);
+        }
+        long startTime = System.nanoTime();
+        Object result = null;
+        try {
+            result = evaluate(data);
+            return result;
+        } finally {
+            if (slowEvaluationProfiler != null) {
+                slowEvaluationProfiler.record(data[0], data[1], startTime);
+            }
+            if (measured) {
+                regexMetrics.markOut(result != null);
+            }
+        }
+    }
+
+    private Object evaluate(Object[] data) {
         String regex;
         Pattern pattern;
-        Matcher matcher;
 
         if (data[0] == null) {
             throw new SiddhiAppRuntimeException("Invalid input given to regex:group() function. First argument " +
@@ -147,7 +343,11 @@ public class GroupFunctionExtension extends FunctionExecutor<GroupFunctionExtens
             throw new SiddhiAppRuntimeException("Invalid input given to regex:group() function. Third " +
                     "argument cannot be null");
         }
-        String source = (String) data[1];
+        CharSequence source = InputSequences.of(data[1]);
+        if (source == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to regex:group() function. " +
+                    "Second argument should be a string, byte[] or ByteBuffer");
+        }
         int groupId;
         try {
             groupId = (Integer) data[2];
@@ -156,25 +356,70 @@ public class GroupFunctionExtension extends FunctionExecutor<GroupFunctionExtens
                     "Third argument should be an integer");
         }
 
-        if (!extensionState.isRegexConstant) {
-            regex = (String) data[0];
-            pattern = Pattern.compile(regex);
-            matcher = pattern.matcher(source);
-        } else {
-            matcher = extensionState.patternConstant.matcher(source);
+        CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+        try {
+            if (patternConstant == null) {
+                regex = (String) data[0];
+                if (linearEngine) {
+                    LinearPattern linearPattern = RegexConfig.getLinearPattern(patternCache, regex, flags,
+                            linearEngineFallback, regexMetrics, "regex:group()");
+                    if (linearPattern != null) {
+                        return group(source, linearPattern.reusableMatcher(input), groupId);
+                    }
+                }
+                pattern = patternCache.getPattern(regex, flags, regexMetrics);
+                return group(source, pattern.matcher(input), groupId);
+            } else if (resultCache != null && resultCache.accepts(source)) {
+                Object result = resultCache.get((String) source);
+                if (result != ResultCache.MISS) {
+                    if (regexMetrics != null) {
+                        regexMetrics.resultCacheHit();
+                    }
+                    return result;
+                }
+                result = constantGroup(source, input, groupId);
+                resultCache.put((String) source, result);
+                return result;
+            } else {
+                return constantGroup(source, input, groupId);
+            }
+        } catch (MatchBudgetExceededException e) {
+            if (regexMetrics != null) {
+                regexMetrics.aborted();
+            }
+            matchBudget.onExceeded((String) data[0], queryName, e);
+            return null;
+        }
+    }
+
+    private String constantGroup(CharSequence source, CharSequence input, int groupId) {
+        if (linearPatternConstant != null) {
+            return group(source, linearPatternConstant.reusableMatcher(input), groupId);
         }
+        Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input) : patternConstant.matcher(input);
+        return group(source, matcher, groupId);
+    }
 
+    private String group(CharSequence source, Matcher matcher, int groupId) {
         if (matcher.find() && groupId <= matcher.groupCount()) {
-            return matcher.group(groupId);
-        } else {
-            //cannot terminate the event flow by throwing an exception just because a particular
-            // event might not contain a matching group
-            return null;
+            return groupInterner != null ? groupInterner.intern(source, matcher.start(groupId), matcher.end(groupId))
+                    : matcher.group(groupId);
+        }
+        //cannot terminate the event flow by throwing an exception just because a particular
+        // event might not contain a matching group
+        return null;
+    }
+
+    private String group(CharSequence source, LinearMatcher matcher, int groupId) {
+        if (matcher.find() && groupId <= matcher.groupCount()) {
+            return groupInterner != null ? groupInterner.intern(source, matcher.start(groupId), matcher.end(groupId))
+                    : matcher.group(groupId);
         }
+        return null;
     }
 
     @Override
-    protected Object execute(Object data, ExtensionState extensionState) {
+    protected Object execute(Object data, State state) {
         return null; //Since the group function takes in 3 parameters, this method does not
         // get called. Hence, not implemented.
     }
@@ -183,38 +428,4 @@ public class GroupFunctionExtension extends FunctionExecutor<GroupFunctionExtens
     public Attribute.Type getReturnType() {
         return returnType;
     }
-
-    static class ExtensionState extends State {
-
-        private boolean isRegexConstant;
-        private String regexConstant;
-        private Pattern patternConstant;
-
-        private ExtensionState(boolean isRegexConstant, String regexConstant, Pattern patternConstant) {
-            this.isRegexConstant = isRegexConstant;
-            this.regexConstant = regexConstant;
-            this.patternConstant = patternConstant;
-        }
-
-        @Override
-        public boolean canDestroy() {
-            return false;
-        }
-
-        @Override
-        public Map<String, Object> snapshot() {
-            Map<String, Object> stateMap = new HashMap<>(3);
-            stateMap.put("isRegexConstant", isRegexConstant);
-            stateMap.put("regexConstant", regexConstant);
-            stateMap.put("patternConstant", patternConstant);
-            return stateMap;
-        }
-
-        @Override
-        public void restore(Map<String, Object> state) {
-            isRegexConstant = (Boolean) state.get("isRegexConstant");
-            regexConstant = (String) state.get("regexConstant");
-            patternConstant = (Pattern) state.get("patternConstant");
-        }
-    }
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.CaptureGroups;
+import io.siddhi.extension.execution.regex.util.GroupInterner;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex Groups stream processor implementation.
+ *
+ * groups(regex, input.sequence)
+ * This stream processor matches the 'inputSequence' against the 'regex' once, and appends the sub-sequence captured
+ * by each group of the regex to the event as a separate attribute.
+ * regex - constant regular expression. eg: "(\d\d)(.*)(?<company>WSO2)"
+ * inputSequence - input sequence to be matched with the regular expression eg: "21 products are produced by WSO2
+ * currently"
+ * Accept Type(s) for groups(regex, input.sequence);
+ * regex : STRING
+ * input.sequence : STRING
+ * Return Type(s): STRING for each group
+ */
+@Extension(
+        name = "groups",
+        namespace = "regex",
+        description = "Matches the input.sequence against the regex once and appends the subsequence captured by " +
+                "each group of the regex to the event, as a separate attribute. This replaces one `regex:group()` " +
+                "call per group, each of which matches the input.sequence again. Named groups are emitted as " +
+                "attributes of the same name, and the other groups as `group1`, `group2`, etc. after their group " +
+                "number. When the regex does not match, or a group does not participate in the match, the " +
+                "attributes are `null`.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A constant regular expression. For example, `(\\d\\d)(.*)(?<company>WSO2)`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expression. "
+                                + "For example, `21 products are produced by WSO2`.",
+                        type = {DataType.STRING},
+                        dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence"})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "groupN",
+                        description = "The subsequence captured by the group `N` of the regex, named after the " +
+                                "group when the group is named. One attribute is returned per group.",
+                        type = {DataType.STRING})
+        },
+        systemParameter = {
+                @SystemParameter(name = "matcher.reuse",
+                        description = "Keeps one matcher per processing thread and resets it for each event " +
+                                "instead of creating a new matcher per event. Each matcher references the last " +
+                                "input of its thread until the next event, hence disabling the reuse keeps idle " +
+                                "queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds a single evaluation may spend matching " +
+                                "the regex. Evaluations that exceed it, such as those of a regex that backtracks " +
+                                "catastrophically on an event, are aborted and emit `null` groups instead of " +
+                                "stalling the event flow. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars a single evaluation may read while " +
+                                "matching the regex, counting every char read again on backtracking. " +
+                                "Evaluations that exceed it are aborted and emit `null` groups. `0` disables the " +
+                                "limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "group.intern.size",
+                        description = "The number of recent group values cached by the stream processor, so that " +
+                                "repeated values such as HTTP methods, status codes or host names are returned " +
+                                "as the same string instead of a new string per event. Values are looked up from " +
+                                "the matched chars without creating a string, and a value missing from the cache " +
+                                "replaces the one it collides with. `0` disables the cache.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "group.intern.max.length",
+                        description = "The maximum length of the group values cached, as longer values are " +
+                                "unlikely to repeat.",
+                        defaultValue = "64",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (msg string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#regex:groups('(\\d\\d) (\\w+) .* (?<company>WSO2.*)', msg)\n" +
+                                "select msg, group1, group2, company\n" +
+                                "insert into OutputStream;",
+                        description = "For the msg `21 products are produced by WSO2 currently`, the regex is " +
+                                "matched once and the event is emitted with `group1` as `21`, `group2` as " +
+                                "`products` and `company` as `WSO2 currently`."
+                )
+        }
+)
+public class GroupsStreamProcessorExtension extends StreamProcessor<State> {
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private Pattern pattern;
+    private ReusableMatcher reusableMatcher;
+    private LinearPattern linearPattern;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private int groupCount;
+    private GroupInterner groupInterner;
+
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                       ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        String regex = validateParameters(attributeExpressionExecutors, "regex:groups()");
+        pattern = PatternCache.getInstance().getPattern(regex, 0);
+        if (RegexConfig.isLinearEngine(configReader, "regex:groups()")
+                || RegexConfig.checkBacktracking(configReader, regex, 0, "regex:groups()")) {
+            linearPattern = RegexConfig.initLinearPattern(regex, 0, RegexConfig.readBoolean(configReader,
+                    RegexConfig.LINEAR_ENGINE_FALLBACK, true, "regex:groups()"), "regex:groups()");
+        }
+        reusableMatcher = RegexConfig.initReusableMatcher(configReader, pattern, "regex:groups()");
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:groups()");
+        groupInterner = RegexConfig.initGroupInterner(configReader, "regex:groups()");
+        queryName = siddhiQueryContext.getName();
+
+        attributeList.addAll(groupAttributes(pattern, inputDefinition, attributeList, "regex:groups()"));
+        groupCount = attributeList.size();
+        return null;
+    }
+
+    static String validateParameters(ExpressionExecutor[] attributeExpressionExecutors, String function) {
+        if (attributeExpressionExecutors.length != 2) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to " + function + " function, " +
+                    "required 2, but found " + attributeExpressionExecutors.length);
+        }
+        if (!(attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor)
+                || attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    function + " function, required a constant " + Attribute.Type.STRING);
+        }
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    function + " function, required " + Attribute.Type.STRING + ", but found " +
+                    attributeExpressionExecutors[1].getReturnType().toString());
+        }
+        String regex = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
+        if (regex == null) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    function + " function, regex cannot be null");
+        }
+        return regex;
+    }
+
+    /**
+     * Returns the attributes carrying the groups of the given pattern, named after the named groups and as
+     * {@code group<number>} for the others.
+     */
+    static List<Attribute> groupAttributes(Pattern pattern, AbstractDefinition inputDefinition,
+                                           List<Attribute> otherAttributes, String function) {
+        Set<String> attributeNames = new HashSet<>();
+        for (Attribute attribute : inputDefinition.getAttributeList()) {
+            attributeNames.add(attribute.getName());
+        }
+        for (Attribute attribute : otherAttributes) {
+            attributeNames.add(attribute.getName());
+        }
+        String[] groupNames = CaptureGroups.names(pattern);
+        List<Attribute> attributes = new ArrayList<>(groupNames.length - 1);
+        for (int group = 1; group < groupNames.length; group++) {
+            String name = groupNames[group] != null ? groupNames[group] : "group" + group;
+            if (!attributeNames.add(name)) {
+                throw new SiddhiAppValidationException("The attribute '" + name + "' returned for group " + group +
+                        " of the regex '" + pattern.pattern() + "' by " + function + " function is already defined");
+            }
+            attributes.add(new Attribute(name, Attribute.Type.STRING));
+        }
+        return attributes;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        while (streamEventChunk.hasNext()) {
+            StreamEvent streamEvent = streamEventChunk.next();
+            String source = (String) attributeExpressionExecutors[1].execute(streamEvent);
+            complexEventPopulater.populateComplexEvent(streamEvent, groups(source));
+        }
+        nextProcessor.process(streamEventChunk);
+    }
+
+    private Object[] groups(String source) {
+        Object[] groups = new Object[groupCount];
+        if (source == null) {
+            return groups;
+        }
+        CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+        try {
+            if (linearPattern != null) {
+                LinearMatcher matcher = linearPattern.reusableMatcher(input);
+                if (matcher.find()) {
+                    for (int group = 1; group <= groupCount; group++) {
+                        groups[group - 1] = groupInterner != null
+                                ? groupInterner.intern(source, matcher.start(group), matcher.end(group))
+                                : matcher.group(group);
+                    }
+                }
+            } else {
+                Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input) : pattern.matcher(input);
+                if (matcher.find()) {
+                    for (int group = 1; group <= groupCount; group++) {
+                        groups[group - 1] = groupInterner != null
+                                ? groupInterner.intern(source, matcher.start(group), matcher.end(group))
+                                : matcher.group(group);
+                    }
+                }
+            }
+        } catch (MatchBudgetExceededException e) {
+            matchBudget.onExceeded(pattern.pattern(), queryName, e);
+            return new Object[groupCount];
+        }
+        return groups;
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex IncrementalFind stream processor implementation.
+ *
+ * incrementalFind(regex, fragment)
+ * This stream processor matches the 'regex' on the concatenation of the 'fragment's of consecutive events, and emits
+ * one event per match once it is complete, with the matched sub-sequence, its offsets in the concatenated fragments
+ * and the sub-sequences captured by the groups of the regex. Only the tail of the fragments that may still be part
+ * of a match is kept between events, and it is persisted with the state of the query.
+ * regex - constant regular expression. eg: "ERROR (\d+)"
+ * fragment - part of the input sequence carried by an event eg: "ERR"
+ * Accept Type(s) for incrementalFind(regex, fragment);
+ * regex : STRING
+ * fragment : STRING
+ * Return Type(s): match : STRING, startOffset : LONG, endOffset : LONG, STRING for each group
+ */
+@Extension(
+        name = "incrementalFind",
+        namespace = "regex",
+        description = "Finds the matches of the regex in the input sequence formed by concatenating the fragments " +
+                "of consecutive events, such as a log or a network payload split over several events. An event " +
+                "is emitted per match once the following fragments can no longer change it, copying the event " +
+                "whose fragment completed the match, and events that complete no match are dropped. Each event " +
+                "carries the matched subsequence, its start and end offsets in the concatenated fragments, and " +
+                "the subsequence captured by each group of the regex as for `#regex:findAll`. Matches are found " +
+                "as by successive `java.util.regex.Matcher.find()` calls on the concatenated fragments. Only the " +
+                "tail of the fragments in which a match may still start is kept between events, where it is " +
+                "matched again along with the next fragment, and it is persisted with the state of the query. Use " +
+                "it in a partition to match the fragments of each key separately. The regex is matched with the " +
+                "`linear` engine, hence it must be supported by that engine.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A constant regular expression. For example, `ERROR (\\d+)`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "fragment",
+                        description = "The part of the input sequence carried by the event. For example, `ERR`. " +
+                                "Events with a null fragment are dropped.",
+                        type = {DataType.STRING},
+                        dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "fragment"})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "match",
+                        description = "The subsequence matching the regex.",
+                        type = {DataType.STRING}),
+                @ReturnAttribute(
+                        name = "startOffset",
+                        description = "The offset of the first char of the match in the concatenated fragments.",
+                        type = {DataType.LONG}),
+                @ReturnAttribute(
+                        name = "endOffset",
+                        description = "The offset after the last char of the match in the concatenated fragments.",
+                        type = {DataType.LONG}),
+                @ReturnAttribute(
+                        name = "groupN",
+                        description = "The subsequence captured by the group `N` of the regex in the match, named " +
+                                "after the group when the group is named. One attribute is returned per group.",
+                        type = {DataType.STRING})
+        },
+        systemParameter = {
+                @SystemParameter(name = "pending.limit",
+                        description = "The maximum number of chars kept between events while a match may still " +
+                                "be in progress. When a regex with matches of unbounded length keeps more, the " +
+                                "oldest chars are dropped along with the matches that start in them. The kept chars " +
+                                "are matched again along with each new fragment, so that a match in progress over " +
+                                "many small fragments costs time quadratic in its length, bounded by this limit.",
+                        defaultValue = "65536",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream PayloadStream (connection string, chunk string);\n" +
+                                "partition with (connection of PayloadStream)\n" +
+                                "begin\n" +
+                                "    from PayloadStream#regex:incrementalFind('ERROR (\\d+)', chunk)\n" +
+                                "    select connection, match, group1 as code\n" +
+                                "    insert into ErrorStream;\n" +
+                                "end;",
+                        description = "For the chunks `log: ERR`, `OR 50` and `3 done` of a connection, one event " +
+                                "is emitted with the last chunk, carrying `ERROR 503` and the code `503`."
+                )
+        }
+)
+public class IncrementalFindStreamProcessorExtension
+        extends StreamProcessor<IncrementalFindStreamProcessorExtension.ExtensionState> {
+    private static final Logger log = LogManager.getLogger(IncrementalFindStreamProcessorExtension.class);
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private LinearPattern linearPattern;
+    private int groupCount;
+    private int pendingLimit;
+
+    @Override
+    protected StateFactory<ExtensionState> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                                ExpressionExecutor[] attributeExpressionExecutors,
+                                                ConfigReader configReader,
+                                                StreamEventClonerHolder streamEventClonerHolder,
+                                                boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                                SiddhiQueryContext siddhiQueryContext) {
+        String regex = GroupsStreamProcessorExtension.validateParameters(attributeExpressionExecutors,
+                "regex:incrementalFind()");
+        Pattern pattern = PatternCache.getInstance().getPattern(regex, 0);
+        linearPattern = RegexConfig.initLinearPattern(regex, 0, false, "regex:incrementalFind()");
+        pendingLimit = RegexConfig.readPositiveInt(configReader, RegexConfig.PENDING_LIMIT, 65536,
+                "regex:incrementalFind()");
+
+        attributeList.add(new Attribute("match", Attribute.Type.STRING));
+        attributeList.add(new Attribute("startOffset", Attribute.Type.LONG));
+        attributeList.add(new Attribute("endOffset", Attribute.Type.LONG));
+        List<Attribute> groupAttributes = GroupsStreamProcessorExtension.groupAttributes(pattern, inputDefinition,
+                attributeList, "regex:incrementalFind()");
+        groupCount = groupAttributes.size();
+        attributeList.addAll(groupAttributes);
+        return ExtensionState::new;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           ExtensionState state) {
+        ComplexEventChunk<StreamEvent> outputStreamEventChunk = new ComplexEventChunk<>();
+        synchronized (state) {
+            while (streamEventChunk.hasNext()) {
+                StreamEvent streamEvent = streamEventChunk.next();
+                String fragment = (String) attributeExpressionExecutors[1].execute(streamEvent);
+                if (fragment != null) {
+                    match(state, fragment, streamEvent, outputStreamEventChunk, streamEventCloner,
+                            complexEventPopulater);
+                }
+            }
+        }
+        nextProcessor.process(outputStreamEventChunk);
+    }
+
+    /**
+     * Appends the fragment to the pending tail of the state, emits the matches that became final, and keeps the tail
+     * in which a match may still start, along with one char before it for the assertions looking behind.
+     */
+    private void match(ExtensionState state, String fragment, StreamEvent streamEvent,
+                       ComplexEventChunk<StreamEvent> outputStreamEventChunk, StreamEventCloner streamEventCloner,
+                       ComplexEventPopulater complexEventPopulater) {
+        String text = state.pending.concat(fragment);
+        int length = text.length();
+        if (length > 0 && Character.isHighSurrogate(text.charAt(length - 1))) {
+            // The surrogate pair may be completed by the next fragment.
+            length--;
+        }
+        LinearMatcher matcher = linearPattern.reusableMatcher(length == text.length() ? text
+                : text.substring(0, length));
+        int from = state.from;
+        int trim;
+        while (true) {
+            if (from > length) {
+                trim = length;
+                break;
+            }
+            boolean found = matcher.findPartial(from);
+            int pendingStart = matcher.pendingStart();
+            if (found && pendingStart < 0) {
+                Object[] data = new Object[groupCount + 3];
+                data[0] = matcher.group();
+                data[1] = state.offset + matcher.start();
+                data[2] = state.offset + matcher.end();
+                for (int group = 1; group <= groupCount; group++) {
+                    data[group + 2] = matcher.group(group);
+                }
+                StreamEvent newStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+                complexEventPopulater.populateComplexEvent(newStreamEvent, data);
+                outputStreamEventChunk.add(newStreamEvent);
+                from = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+            } else {
+                trim = found ? Math.min(matcher.start(), pendingStart) : pendingStart >= 0 ? pendingStart : length;
+                break;
+            }
+        }
+        int keep = Math.max(0, trim - 1);
+        if (text.length() - keep > pendingLimit) {
+            keep = text.length() - pendingLimit;
+            if (log.isDebugEnabled()) {
+                log.debug("regex:incrementalFind() in query '" + siddhiQueryContext.getName() + "' dropped " +
+                        "pending chars exceeding the limit of " + pendingLimit + " chars");
+            }
+        }
+        state.pending = text.substring(keep);
+        state.offset += keep;
+        int next = Math.max(trim, from) - keep;
+        state.from = state.offset > 0 ? Math.max(1, next) : next;
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+
+    static class ExtensionState extends State {
+
+        private String pending = "";
+        private long offset;
+        private int from;
+
+        @Override
+        public boolean canDestroy() {
+            return false;
+        }
+
+        @Override
+        public Map<String, Object> snapshot() {
+            Map<String, Object> stateMap = new HashMap<>(4);
+            stateMap.put("pending", pending);
+            stateMap.put("offset", offset);
+            stateMap.put("from", from);
+            return stateMap;
+        }
+
+        @Override
+        public void restore(Map<String, Object> state) {
+            pending = (String) state.get("pending");
+            offset = (Long) state.get("offset");
+            from = (Integer) state.get("from");
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.RuleSet;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class representing the Regex MatchRuleSet implementation.
+ *
+ * matchRuleSet(rule.set, input.sequence)
+ * This method finds the first rule of the 'ruleSet' whose regex matches a sub-sequence of the 'inputSequence', and
+ * returns its id. The rules are maintained with the #regex:updateRuleSet stream processor.
+ * ruleSet - constant name of the rule set. eg: "alerts"
+ * inputSequence - input sequence to be matched with the rules eg: "disk failure on WSO2-node-2"
+ * Accept Type(s) for matchRuleSet(rule.set, input.sequence);
+ * rule.set : STRING
+ * input.sequence : STRING, OBJECT
+ * Return Type(s): STRING
+ */
+@Extension(
+        name = "matchRuleSet",
+        namespace = "regex",
+        description = "Finds the first rule of the rule set whose regex matches a subsequence of the " +
+                "input.sequence, and returns the id of that rule. Rule sets are named sets of regexes maintained " +
+                "with `#regex:updateRuleSet` and shared by the queries of the Siddhi app. All the rules are " +
+                "evaluated with a single scan of the input.sequence that selects the rules whose mandatory literals " +
+                "occur in it, and only those rules are then verified by the regex engine. Joining a table of rules " +
+                "on its primary key with the returned id replaces evaluating every rule of the table per event. " +
+                "Rules without a mandatory literal, such as `^\\d{5}$` or `[A-Z]{3,}`, cannot be selected by the " +
+                "scan and are verified for every input.sequence, so that their cost still grows with their number.",
+        parameters = {
+                @Parameter(name = "rule.set",
+                        description = "The constant name of the rule set. For example, `alerts`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the rules. "
+                                + "For example, `disk failure on WSO2-node-2`. It can also be a `byte[]` or "
+                                + "`ByteBuffer` `OBJECT` holding UTF-8 bytes.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"rule.set", "input.sequence"})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Returns the id of the first rule, in the order the rules were added, whose regex " +
+                        "matches a subsequence of the input.sequence, else returns `null`.",
+                type = {DataType.STRING}),
+        examples = {
+                @Example(
+                        syntax = "define stream RuleStream (ruleId string, pattern string);\n" +
+                                "define stream LogStream (msg string);\n" +
+                                "@PrimaryKey('ruleId')\n" +
+                                "define table RuleTable (ruleId string, pattern string, severity string);\n\n" +
+                                "from RuleStream#regex:updateRuleSet('alerts', ruleId, pattern)\n" +
+                                "select ruleId, pattern, 'HIGH' as severity\n" +
+                                "update or insert into RuleTable\n" +
+                                "    on RuleTable.ruleId == ruleId;\n\n" +
+                                "from LogStream#window.length(1) join RuleTable\n" +
+                                "    on RuleTable.ruleId == regex:matchRuleSet('alerts', LogStream.msg)\n" +
+                                "select LogStream.msg, RuleTable.ruleId, RuleTable.severity\n" +
+                                "insert into AlertStream;",
+                        description = "The rules are added to both the `alerts` rule set and the `RuleTable` " +
+                                "table. Each log message is matched against all the rules at once, and joined " +
+                                "with the table row of the first matching rule through the primary key."
+                )
+        }
+)
+public class MatchRuleSetFunctionExtension extends FunctionExecutor<State> {
+    private static final Logger log = LogManager.getLogger(MatchRuleSetFunctionExtension.class);
+    private Attribute.Type returnType = Attribute.Type.STRING;
+    private static final long serialVersionUID = 1L;
+    private RuleSet ruleSet;
+
+    @Override
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:matchRuleSet() " +
+                    "function, required 2, but found " + attributeExpressionExecutors.length);
+        }
+        ruleSet = UpdateRuleSetStreamProcessorExtension.ruleSet(attributeExpressionExecutors[0],
+                siddhiQueryContext, "regex:matchRuleSet()");
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    "regex:matchRuleSet() function, required " + Attribute.Type.STRING + " or " +
+                    Attribute.Type.OBJECT + ", but found " + attributeExpressionExecutors[1].getReturnType());
+        }
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (data[1] == null) {
+            if (log.isDebugEnabled()) {
+                log.warn("Invalid input given to regex:matchRuleSet() function. " +
+                        "Second argument cannot be null, returning null");
+            }
+            return null;
+        }
+        CharSequence input = InputSequences.of(data[1]);
+        if (input == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to regex:matchRuleSet() function. " +
+                    "Second argument should be a string, byte[] or ByteBuffer");
+        }
+        return ruleSet.findFirst(input);
+    }
+
+    @Override
+    protected Object execute(Object o, State state) {
+        return null;  //Since the matchRuleSet function takes in 2 parameters, this method does not get called.
+        // Hence, not implemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return returnType;
+    }
+}
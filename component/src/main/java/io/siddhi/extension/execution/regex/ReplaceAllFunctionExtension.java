@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+
+/**
+ * Class representing the Regex Replace All implementation.
+ *
+ * replaceAll(regex, input.sequence, replacement)
+ * This method replaces every subsequence of the input sequence that matches the regex with the replacement.
+ * regex - regular expression. eg: "(\w+)@"
+ * inputSequence - input sequence to be matched with the regular expression eg: "Contact john@wso2.com"
+ * replacement - replacement string, where $n and ${name} refer to the groups of the match eg: "***@"
+ * Accept Type(s) for replaceAll(regex, input.sequence, replacement);
+ * regex : STRING
+ * input.sequence : STRING
+ * replacement : STRING
+ * Return Type(s): STRING
+ */
+@Extension(
+        name = "replaceAll",
+        namespace = "regex",
+        description = "Replaces every subsequence of the input sequence that matches the given regex pattern " +
+                "with the given replacement.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A regular expression. For example, `(\\w+)@`.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be matched with the regular expression. "
+                                + "For example, `Contact john@wso2.com`. "
+                                + "It can also be a `byte[]` or `ByteBuffer` `OBJECT` holding UTF-8 bytes, which "
+                                + "are matched in place when they are ASCII.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(name = "replacement",
+                        description = "The string that replaces the match, where `$n` stands for the n-th group " +
+                                "of the match, `${name}` for the group with the given name, and `\\` escapes " +
+                                "the next char. For example, `***@`.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(name = "flags",
+                        description = "Constant match flags separated by `|`, among `CASE_INSENSITIVE`, " +
+                                "`MULTILINE`, `DOTALL`, `UNICODE_CASE` and `LITERAL`. For example, " +
+                                "`CASE_INSENSITIVE|DOTALL`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none")
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "replacement"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "replacement", "flags"})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The input sequence with the matches replaced, or the input sequence itself when " +
+                        "nothing matches.",
+                type = {DataType.STRING}),
+        systemParameter = {
+                @SystemParameter(name = "pattern.cache.size",
+                        description = "The maximum number of compiled regex patterns retained in the pattern " +
+                                "cache shared by the regex functions. Regexes given as event attributes are " +
+                                "compiled once and served from this cache, and the least recently used " +
+                                "patterns are evicted when the cache is full. The cache is shared by the Siddhi " +
+                                "apps of the JVM, hence when different sizes are configured the largest size of " +
+                                "the running Siddhi apps is used.",
+                        defaultValue = "1000",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "matcher.reuse",
+                        description = "When the regex is a constant, keeps one matcher per processing thread " +
+                                "and resets it for each event instead of creating a new matcher per event. Each " +
+                                "matcher references the last input of its thread until the next event, hence " +
+                                "disabling the reuse keeps idle queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "literal.prefilter",
+                        description = "When the regex is a constant, extracts the longest literal that every " +
+                                "match must contain, such as `@` in `(\\w+)@(\\w+)`, and returns the input " +
+                                "unchanged without running the regex engine for inputs that do not contain it.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation, or the event when the regex is given as an event attribute.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds a single evaluation may spend matching " +
+                                "the regex. Evaluations that exceed it, such as those of a regex that backtracks " +
+                                "catastrophically on an event, are aborted and return `null` instead of stalling " +
+                                "the event flow. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars a single evaluation may read while " +
+                                "matching the regex, counting every char read again on backtracking. " +
+                                "Evaluations that exceed it are aborted and return `null`. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.threshold",
+                        description = "The duration in milliseconds above which an evaluation is recorded as slow, " +
+                                "along with its regex and input length. The " +
+                                "slowest evaluations of all the regex functions are exposed through the JMX " +
+                                "MBean `io.siddhi.extension.execution.regex:type=SlowEvaluations`. `0` disables " +
+                                "profiling.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.top.n",
+                        description = "The number of slowest evaluations retained. When configured differently " +
+                                "for several functions, the largest value is honoured.",
+                        defaultValue = "20",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "profile.log.interval",
+                        description = "The interval in milliseconds at which the slowest evaluations are logged, " +
+                                "when new ones were recorded. When configured differently for several functions, " +
+                                "the shortest interval of the running Siddhi apps is honoured. `0` disables logging.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.input.excerpt",
+                        description = "Records the first 200 chars of the input along with each slow evaluation, " +
+                                "which are then logged and exposed through JMX. Enable it only when the event " +
+                                "payloads hold no sensitive data.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "regex:replaceAll('\\w+@', 'Contact john@wso2.com or jane@wso2.com', '***@')",
+                        description = "This method replaces every subsequence of the input.sequence that matches " +
+                                "the regex pattern, `\\w+@`, with `***@`. It returns " +
+                                "'Contact ***@wso2.com or ***@wso2.com'."
+                ),
+                @Example(
+                        syntax = "regex:replaceAll('(?<day>\\d\\d)-(?<month>\\d\\d)-(?<year>\\d{4})', " +
+                                "'17-05-2024', '${year}/${month}/${day}')",
+                        description = "This method reorders the groups of the date that matches the regex " +
+                                "pattern. It returns '2024/05/17'."
+                )
+        }
+)
+public class ReplaceAllFunctionExtension extends ReplaceFunctionExtension {
+
+    public ReplaceAllFunctionExtension() {
+        super("regex:replaceAll()", true);
+    }
+}
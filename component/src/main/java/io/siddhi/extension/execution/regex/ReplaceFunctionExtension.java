@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import io.siddhi.extension.execution.regex.util.RegexMetrics;
+import io.siddhi.extension.execution.regex.util.Replacement;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.extension.execution.regex.util.SlowEvaluationProfiler;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Base of the regex:replaceAll and regex:replaceFirst functions, which only differ in whether every match of the
+ * regex or only the first one is replaced.
+ */
+abstract class ReplaceFunctionExtension extends FunctionExecutor<State> {
+    // Stands for the input returned as is, so that the evaluations replacing nothing can be told apart.
+    private static final Object UNMATCHED = new Object();
+    private Attribute.Type returnType = Attribute.Type.STRING;
+    private static final long serialVersionUID = 1L;
+    private PatternCache patternCache;
+    private ReusableMatcher reusableMatcher;
+    private boolean linearEngine;
+    private boolean linearEngineFallback;
+    private int flags;
+    private Pattern patternConstant;
+    private LinearPattern linearPatternConstant;
+    private Replacement replacementConstant;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private RegexMetrics regexMetrics;
+    private SlowEvaluationProfiler slowEvaluationProfiler;
+    private LiteralPrefilter literalPrefilter;
+    private final String functionName;
+    private final boolean all;
+
+    /**
+     * @param functionName name of the function, used in log and error messages
+     * @param all          whether every match is replaced, rather than only the first one
+     */
+    ReplaceFunctionExtension(String functionName, boolean all) {
+        this.functionName = functionName;
+        this.all = all;
+    }
+
+    @Override
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 3 && attributeExpressionExecutors.length != 4) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to " + functionName +
+                    " function, required 3 or 4, but found " + attributeExpressionExecutors.length);
+        }
+        if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the first argument of " +
+                    functionName + " function, required " + Attribute.Type.STRING + ", but found " +
+                    attributeExpressionExecutors[0].getReturnType().toString());
+        }
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    functionName + " function, required " + Attribute.Type.STRING + " or " +
+                    Attribute.Type.OBJECT + ", but found " +
+                    attributeExpressionExecutors[1].getReturnType().toString());
+        }
+        if (attributeExpressionExecutors[2].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the third argument of " +
+                    functionName + " function, required " + Attribute.Type.STRING + ", but found " +
+                    attributeExpressionExecutors[2].getReturnType().toString());
+        }
+        if (attributeExpressionExecutors.length == 4) {
+            flags = RegexFlags.parse(attributeExpressionExecutors[3], "fourth", functionName);
+        }
+        patternCache = RegexConfig.initPatternCache(configReader, siddhiQueryContext, functionName);
+        linearEngine = RegexConfig.isLinearEngine(configReader, functionName);
+        linearEngineFallback = RegexConfig.readBoolean(configReader, RegexConfig.LINEAR_ENGINE_FALLBACK, true,
+                functionName);
+        matchBudget = RegexConfig.initMatchBudget(configReader, functionName);
+        slowEvaluationProfiler = RegexConfig.initSlowEvaluationProfiler(configReader, siddhiQueryContext,
+                functionName);
+        queryName = siddhiQueryContext.getName();
+        if (attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor) {
+            String regexConstant = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, functionName, regexConstant, flags);
+            patternConstant = patternCache.getPattern(regexConstant, flags, regexMetrics);
+            if (linearEngine || RegexConfig.checkBacktracking(configReader, regexConstant, flags, functionName)) {
+                linearPatternConstant = RegexConfig.initLinearPattern(regexConstant, flags, linearEngineFallback,
+                        functionName);
+            }
+            reusableMatcher = RegexConfig.initReusableMatcher(configReader, patternConstant, functionName);
+            if (RegexConfig.readBoolean(configReader, RegexConfig.LITERAL_PREFILTER, true, functionName)) {
+                literalPrefilter = LiteralPrefilter.create(RegexFlags.canonicalRegex(regexConstant, flags),
+                        RegexFlags.canonicalFlags(regexConstant, flags));
+            }
+            if (attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor) {
+                String replacement = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[2])
+                        .getValue();
+                if (replacement == null) {
+                    throw new SiddhiAppValidationException("The replacement of " + functionName + " cannot be null");
+                }
+                try {
+                    replacementConstant = linearPatternConstant != null
+                            ? Replacement.parse(replacement, linearPatternConstant)
+                            : Replacement.parse(replacement, patternConstant);
+                } catch (IllegalArgumentException e) {
+                    throw new SiddhiAppValidationException("Invalid replacement '" + replacement + "' given to " +
+                            functionName + ", " + e.getMessage(), e);
+                }
+            }
+        } else {
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, functionName, null, flags);
+        }
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        boolean measured = regexMetrics != null && regexMetrics.markIn();
+        if (!measured && slowEvaluationProfiler == null) {
+            return result(evaluate(data), data[1]);
+        }
+        long startTime = System.nanoTime();
+        Object result = null;
+        try {
+            result = evaluate(data);
+            return result(result, data[1]);
+        } finally {
+            if (slowEvaluationProfiler != null) {
+                slowEvaluationProfiler.record(data[0], data[1], startTime);
+            }
+            if (measured) {
+                regexMetrics.markOut(result != null && result != UNMATCHED);
+            }
+        }
+    }
+
+    /**
+     * Returns the input as a string in place of {@link #UNMATCHED}.
+     */
+    private static Object result(Object result, Object input) {
+        if (result != UNMATCHED) {
+            return result;
+        }
+        return input instanceof String ? input : InputSequences.of(input).toString();
+    }
+
+    /**
+     * Returns the input with the matches replaced, {@link #UNMATCHED} when nothing matches, or null.
+     */
+
+    private Object evaluate(Object[] data) {
+        if (data[0] == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to " + functionName + " function. " +
+                    "First argument cannot be null");
+        }
+        if (data[1] == null) {
+            return null;
+        }
+        if (data[2] == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to " + functionName + " function. " +
+                    "Third argument cannot be null");
+        }
+        CharSequence source = InputSequences.of(data[1]);
+        if (source == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to " + functionName + " function. " +
+                    "Second argument should be a string, byte[] or ByteBuffer");
+        }
+
+        CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+        try {
+            if (patternConstant == null) {
+                String regex = (String) data[0];
+                if (linearEngine) {
+                    LinearPattern linearPattern = RegexConfig.getLinearPattern(patternCache, regex, flags,
+                            linearEngineFallback, regexMetrics, functionName);
+                    if (linearPattern != null) {
+                        return replaced(replacement(data[2], linearPattern)
+                                .replaceMatches(source, linearPattern.reusableMatcher(input), all));
+                    }
+                }
+                Pattern pattern = patternCache.getPattern(regex, flags, regexMetrics);
+                return replaced(replacement(data[2], pattern).replaceMatches(source, pattern.matcher(input), all));
+            }
+            if (literalPrefilter != null && !literalPrefilter.mayMatch(source, 0)) {
+                return UNMATCHED;
+            }
+            if (linearPatternConstant != null) {
+                Replacement replacement = replacementConstant != null ? replacementConstant
+                        : replacement(data[2], linearPatternConstant);
+                return replaced(replacement.replaceMatches(source, linearPatternConstant.reusableMatcher(input), all));
+            }
+            Replacement replacement = replacementConstant != null ? replacementConstant
+                    : replacement(data[2], patternConstant);
+            Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input)
+                    : patternConstant.matcher(input);
+            return replaced(replacement.replaceMatches(source, matcher, all));
+        } catch (MatchBudgetExceededException e) {
+            if (regexMetrics != null) {
+                regexMetrics.aborted();
+            }
+            matchBudget.onExceeded((String) data[0], queryName, e);
+            return null;
+        }
+    }
+
+    private static Object replaced(String result) {
+        return result != null ? result : UNMATCHED;
+    }
+
+    private Replacement replacement(Object replacement, Pattern pattern) {
+        try {
+            return Replacement.parse((String) replacement, pattern);
+        } catch (IllegalArgumentException e) {
+            throw new SiddhiAppRuntimeException("Invalid replacement '" + replacement + "' given to " +
+                    functionName + ", " + e.getMessage(), e);
+        }
+    }
+
+    private Replacement replacement(Object replacement, LinearPattern pattern) {
+        try {
+            return Replacement.parse((String) replacement, pattern);
+        } catch (IllegalArgumentException e) {
+            throw new SiddhiAppRuntimeException("Invalid replacement '" + replacement + "' given to " +
+                    functionName + ", " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        return null; //Since the replace functions take in 3 parameters, this method does not
+        // get called. Hence, not implemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return returnType;
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import io.siddhi.extension.execution.regex.util.RegexMetrics;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.extension.execution.regex.util.SlowEvaluationProfiler;
+import io.siddhi.extension.execution.regex.util.Splitter;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex Split implementation.
+ *
+ * split(regex, input.sequence)
+ * split(regex, input.sequence, limit)
+ * These methods split the input sequence around the matches of the regex, as java.util.regex.Pattern.split() does.
+ * regex - regular expression. eg: ",\s*"
+ * inputSequence - input sequence to be split eg: "WSO2, Siddhi, CEP"
+ * limit - maximum number of tokens when positive, all the tokens with trailing empty ones dropped when zero, and all
+ * the tokens when negative eg: 2
+ * Accept Type(s) for split(regex, input.sequence, limit);
+ * regex : STRING
+ * input.sequence : STRING
+ * limit : INT
+ * Return Type(s): OBJECT
+ */
+@Extension(
+        name = "split",
+        namespace = "regex",
+        description = "Splits the input sequence around the matches of the given regex pattern, and returns the " +
+                "tokens as a `java.util.List` of strings, in the same way as `java.util.regex.Pattern.split()`. A " +
+                "zero-width match at the beginning of the input sequence never produces a leading empty token.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A regular expression matching the delimiters. For example, `,\\s*`.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be split. For example, `WSO2, Siddhi, CEP`. "
+                                + "It can also be a `byte[]` or `ByteBuffer` `OBJECT` holding UTF-8 bytes, which "
+                                + "are matched in place when they are ASCII.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(name = "limit",
+                        description = "The maximum number of tokens when positive, in which case the last token " +
+                                "holds the rest of the input sequence. When `0`, the trailing empty tokens are " +
+                                "dropped, and when negative they are kept.",
+                        type = {DataType.INT},
+                        optional = true,
+                        dynamic = true,
+                        defaultValue = "0"),
+                @Parameter(name = "flags",
+                        description = "Constant match flags separated by `|`, among `CASE_INSENSITIVE`, " +
+                                "`MULTILINE`, `DOTALL`, `UNICODE_CASE` and `LITERAL`. For example, " +
+                                "`CASE_INSENSITIVE|DOTALL`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none")
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "limit"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "flags"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "limit", "flags"})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The tokens of the input sequence as a `java.util.List` of strings.",
+                type = {DataType.OBJECT}),
+        systemParameter = {
+                @SystemParameter(name = "pattern.cache.size",
+                        description = "The maximum number of compiled regex patterns retained in the pattern " +
+                                "cache shared by the regex functions. Regexes given as event attributes are " +
+                                "compiled once and served from this cache, and the least recently used " +
+                                "patterns are evicted when the cache is full. The cache is shared by the Siddhi " +
+                                "apps of the JVM, hence when different sizes are configured the largest size of " +
+                                "the running Siddhi apps is used.",
+                        defaultValue = "1000",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "matcher.reuse",
+                        description = "When the regex is a constant, keeps one matcher per processing thread " +
+                                "and resets it for each event instead of creating a new matcher per event. Each " +
+                                "matcher references the last input of its thread until the next event, hence " +
+                                "disabling the reuse keeps idle queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "literal.prefilter",
+                        description = "When the regex is a constant, extracts the longest literal that every " +
+                                "match must contain, such as `, ` in `, (?=\\w+=)`, and returns the input as " +
+                                "its only token without running the regex engine for inputs that do not contain " +
+                                "it.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation, or the event when the regex is given as an event attribute.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds a single evaluation may spend matching " +
+                                "the regex. Evaluations that exceed it, such as those of a regex that backtracks " +
+                                "catastrophically on an event, are aborted and return `null` instead of stalling " +
+                                "the event flow. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars a single evaluation may read while " +
+                                "matching the regex, counting every char read again on backtracking. " +
+                                "Evaluations that exceed it are aborted and return `null`. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.threshold",
+                        description = "The duration in milliseconds above which an evaluation is recorded as slow, " +
+                                "along with its regex and input length. The " +
+                                "slowest evaluations of all the regex functions are exposed through the JMX " +
+                                "MBean `io.siddhi.extension.execution.regex:type=SlowEvaluations`. `0` disables " +
+                                "profiling.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.top.n",
+                        description = "The number of slowest evaluations retained. When configured differently " +
+                                "for several functions, the largest value is honoured.",
+                        defaultValue = "20",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(name = "profile.log.interval",
+                        description = "The interval in milliseconds at which the slowest evaluations are logged, " +
+                                "when new ones were recorded. When configured differently for several functions, " +
+                                "the shortest interval of the running Siddhi apps is honoured. `0` disables logging.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "profile.input.excerpt",
+                        description = "Records the first 200 chars of the input along with each slow evaluation, " +
+                                "which are then logged and exposed through JMX. Enable it only when the event " +
+                                "payloads hold no sensitive data.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "regex:split(',\\s*', 'WSO2, Siddhi, CEP')",
+                        description = "This method splits the input.sequence around the commas and the spaces " +
+                                "that follow them. It returns a list of `WSO2`, `Siddhi` and `CEP`."
+                ),
+                @Example(
+                        syntax = "regex:split(',\\s*', 'WSO2, Siddhi, CEP', 2)",
+                        description = "This method splits the input.sequence into at most two tokens. It returns " +
+                                "a list of `WSO2` and `Siddhi, CEP`."
+                )
+        }
+)
+public class SplitFunctionExtension extends FunctionExecutor<State> {
+    private Attribute.Type returnType = Attribute.Type.OBJECT;
+    private static final long serialVersionUID = 1L;
+    private PatternCache patternCache;
+    private ReusableMatcher reusableMatcher;
+    private boolean linearEngine;
+    private boolean linearEngineFallback;
+    private int flags;
+    private boolean hasLimit;
+    private Pattern patternConstant;
+    private LinearPattern linearPatternConstant;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private RegexMetrics regexMetrics;
+    private SlowEvaluationProfiler slowEvaluationProfiler;
+    private LiteralPrefilter literalPrefilter;
+
+    @Override
+    protected StateFactory<State> init(ExpressionExecutor[] attributeExpressionExecutors,
+                                       ConfigReader configReader,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length < 2 || attributeExpressionExecutors.length > 4) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:split() function, " +
+                    "required 2, 3 or 4, but found " + attributeExpressionExecutors.length);
+        }
+        if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the first argument of " +
+                    "regex:split() function, required " + Attribute.Type.STRING + ", but found " +
+                    attributeExpressionExecutors[0].getReturnType().toString());
+        }
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    "regex:split() function, required " + Attribute.Type.STRING + " or " +
+                    Attribute.Type.OBJECT + ", but found " +
+                    attributeExpressionExecutors[1].getReturnType().toString());
+        }
+        if (attributeExpressionExecutors.length == 3
+                && attributeExpressionExecutors[2].getReturnType() == Attribute.Type.STRING) {
+            flags = RegexFlags.parse(attributeExpressionExecutors[2], "third", "regex:split()");
+        } else if (attributeExpressionExecutors.length >= 3) {
+            if (attributeExpressionExecutors[2].getReturnType() != Attribute.Type.INT) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the third argument of " +
+                        "regex:split() function, required " + Attribute.Type.INT + ", but found " +
+                        attributeExpressionExecutors[2].getReturnType().toString());
+            }
+            hasLimit = true;
+            if (attributeExpressionExecutors.length == 4) {
+                flags = RegexFlags.parse(attributeExpressionExecutors[3], "fourth", "regex:split()");
+            }
+        }
+        patternCache = RegexConfig.initPatternCache(configReader, siddhiQueryContext, "regex:split()");
+        linearEngine = RegexConfig.isLinearEngine(configReader, "regex:split()");
+        linearEngineFallback = RegexConfig.readBoolean(configReader, RegexConfig.LINEAR_ENGINE_FALLBACK, true,
+                "regex:split()");
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:split()");
+        slowEvaluationProfiler = RegexConfig.initSlowEvaluationProfiler(configReader, siddhiQueryContext,
+                "regex:split()");
+        queryName = siddhiQueryContext.getName();
+        if (attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor) {
+            String regexConstant = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, "regex:split()", regexConstant, flags);
+            patternConstant = patternCache.getPattern(regexConstant, flags, regexMetrics);
+            if (linearEngine
+                    || RegexConfig.checkBacktracking(configReader, regexConstant, flags, "regex:split()")) {
+                linearPatternConstant = RegexConfig.initLinearPattern(regexConstant, flags, linearEngineFallback,
+                        "regex:split()");
+            }
+            reusableMatcher = RegexConfig.initReusableMatcher(configReader, patternConstant, "regex:split()");
+            if (RegexConfig.readBoolean(configReader, RegexConfig.LITERAL_PREFILTER, true, "regex:split()")) {
+                literalPrefilter = LiteralPrefilter.create(RegexFlags.canonicalRegex(regexConstant, flags),
+                        RegexFlags.canonicalFlags(regexConstant, flags));
+            }
+        } else {
+            regexMetrics = RegexMetrics.create(siddhiQueryContext, "regex:split()", null, flags);
+        }
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        boolean measured = regexMetrics != null && regexMetrics.markIn();
+        if (!measured && slowEvaluationProfiler == null) {
+            return evaluate(data);
+        }
+        long startTime = System.nanoTime();
+        Object result = null;
+        try {
+            result = evaluate(data);
+            return result;
+        } finally {
+            if (slowEvaluationProfiler != null) {
+                slowEvaluationProfiler.record(data[0], data[1], startTime);
+            }
+            if (measured) {
+                regexMetrics.markOut(result != null && ((List<?>) result).size() > 1);
+            }
+        }
+    }
+
+    private Object evaluate(Object[] data) {
+        if (data[0] == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to regex:split() function. " +
+                    "First argument cannot be null");
+        }
+        if (data[1] == null) {
+            return null;
+        }
+        CharSequence source = InputSequences.of(data[1]);
+        if (source == null) {
+            throw new SiddhiAppRuntimeException("Invalid input given to regex:split() function. " +
+                    "Second argument should be a string, byte[] or ByteBuffer");
+        }
+        int limit = 0;
+        if (hasLimit) {
+            if (data[2] == null) {
+                throw new SiddhiAppRuntimeException("Invalid input given to regex:split() function. " +
+                        "Third argument cannot be null");
+            }
+            limit = (Integer) data[2];
+        }
+
+        List<String> tokens = new ArrayList<>();
+        Splitter.TokenConsumer consumer = (token, index) -> tokens.add(token);
+        CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+        try {
+            if (patternConstant == null) {
+                String regex = (String) data[0];
+                if (linearEngine) {
+                    LinearPattern linearPattern = RegexConfig.getLinearPattern(patternCache, regex, flags,
+                            linearEngineFallback, regexMetrics, "regex:split()");
+                    if (linearPattern != null) {
+                        Splitter.split(source, linearPattern.reusableMatcher(input), limit, consumer);
+                        return tokens;
+                    }
+                }
+                Splitter.split(source, patternCache.getPattern(regex, flags, regexMetrics).matcher(input), limit,
+                        consumer);
+            } else if (literalPrefilter != null && !literalPrefilter.mayMatch(source, 0)) {
+                Splitter.whole(source, consumer);
+            } else if (linearPatternConstant != null) {
+                Splitter.split(source, linearPatternConstant.reusableMatcher(input), limit, consumer);
+            } else {
+                Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input)
+                        : patternConstant.matcher(input);
+                Splitter.split(source, matcher, limit, consumer);
+            }
+            return tokens;
+        } catch (MatchBudgetExceededException e) {
+            if (regexMetrics != null) {
+                regexMetrics.aborted();
+            }
+            matchBudget.onExceeded((String) data[0], queryName, e);
+            return null;
+        }
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        return null; //Since the split function takes in 2 to 4 parameters, this method does not
+        // get called. Hence, not implemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return returnType;
+    }
+}
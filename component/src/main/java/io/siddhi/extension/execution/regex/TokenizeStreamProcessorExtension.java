@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexConfig;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import io.siddhi.extension.execution.regex.util.ReusableMatcher;
+import io.siddhi.extension.execution.regex.util.Splitter;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the Regex Tokenize stream processor implementation.
+ *
+ * tokenize(regex, input.sequence)
+ * tokenize(regex, input.sequence, limit)
+ * This stream processor splits the 'inputSequence' around the matches of the 'regex', as
+ * java.util.regex.Pattern.split() does, and emits one event per token with the token and its position.
+ * regex - constant regular expression. eg: ",\s*"
+ * inputSequence - input sequence to be split eg: "WSO2, Siddhi, CEP"
+ * limit - maximum number of tokens when positive, all the tokens with trailing empty ones dropped when zero, and all
+ * the tokens when negative eg: 2
+ * Accept Type(s) for tokenize(regex, input.sequence, limit);
+ * regex : STRING
+ * input.sequence : STRING
+ * limit : INT
+ * Return Type(s): token : STRING, tokenIndex : INT
+ */
+@Extension(
+        name = "tokenize",
+        namespace = "regex",
+        description = "Splits the input.sequence around the matches of the regex, in the same way as " +
+                "`java.util.regex.Pattern.split()`, and emits one event per token. Each event carries the token " +
+                "and its position among the tokens of the input.sequence. Events with a null input.sequence are " +
+                "dropped, and an `OBJECT` input.sequence that is not a `byte[]` or `ByteBuffer` fails the event. " +
+                "An input.sequence without any match is emitted as its only token.",
+        parameters = {
+                @Parameter(name = "regex",
+                        description = "A constant regular expression matching the delimiters. For example, " +
+                                "`,\\s*`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "input.sequence",
+                        description = "The input sequence to be split. For example, `WSO2, Siddhi, CEP`. "
+                                + "It can also be a `byte[]` or `ByteBuffer` `OBJECT` holding UTF-8 bytes, which "
+                                + "are matched in place when they are ASCII.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(name = "limit",
+                        description = "The maximum number of tokens when positive, in which case the last token " +
+                                "holds the rest of the input sequence. When `0`, the trailing empty tokens are " +
+                                "dropped, and when negative they are kept.",
+                        type = {DataType.INT},
+                        optional = true,
+                        dynamic = true,
+                        defaultValue = "0")
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"regex", "input.sequence"}),
+                @ParameterOverload(parameterNames = {"regex", "input.sequence", "limit"})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "token",
+                        description = "The token of the input.sequence.",
+                        type = {DataType.STRING}),
+                @ReturnAttribute(
+                        name = "tokenIndex",
+                        description = "The position of the token among the tokens of the input.sequence, " +
+                                "starting at `0`.",
+                        type = {DataType.INT})
+        },
+        systemParameter = {
+                @SystemParameter(name = "matcher.reuse",
+                        description = "Keeps one matcher per processing thread and resets it for each event " +
+                                "instead of creating a new matcher per event. Each matcher references the last " +
+                                "input of its thread until the next event, hence disabling the reuse keeps idle " +
+                                "queries from retaining large inputs.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "literal.prefilter",
+                        description = "Extracts the longest literal that every " +
+                                "match must contain, such as `, ` in `, (?=\\w+=)`, and emits the input as its " +
+                                "only token without running the regex engine for inputs that do not contain it.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "regex.engine",
+                        description = "The engine used to match the regex. `jdk` uses `java.util.regex`, while " +
+                                "`linear` uses an engine that never backtracks, so that matching takes time " +
+                                "proportional to the input length whatever the regex and the input. The " +
+                                "`linear` engine does not support back references, look-arounds, atomic groups, " +
+                                "possessive quantifiers, unicode classes and inline flags other than the leading " +
+                                "ones.",
+                        defaultValue = "jdk",
+                        possibleParameters = {"jdk", "linear"}),
+                @SystemParameter(name = "linear.engine.fallback",
+                        description = "When the `linear` engine is configured, matches the regexes it does not " +
+                                "support with `java.util.regex`. When disabled, such regexes fail the Siddhi app " +
+                                "creation.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(name = "match.timeout",
+                        description = "The maximum time in milliseconds splitting an event may take. When it " +
+                                "is exceeded, such as by a regex that backtracks catastrophically on the event, " +
+                                "no tokens of the event are emitted. `0` disables the timeout.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "match.step.limit",
+                        description = "The maximum number of input chars splitting an event may read, counting " +
+                                "every char read again on backtracking. When it is exceeded, no tokens of " +
+                                "the event are emitted. `0` disables the limit.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non negative integer"),
+                @SystemParameter(name = "backtracking.check",
+                        description = "How constant regexes that can backtrack catastrophically are handled. The " +
+                                "regex is analyzed when the Siddhi app is created, and the regexes whose matching " +
+                                "time can grow exponentially, or polynomially to a higher degree than " +
+                                "`backtracking.max.degree`, with the length of the input are either logged with a " +
+                                "`warn`ing, `reject`ed by failing the Siddhi app creation, or matched with the " +
+                                "`linear` engine. `off` disables the analysis.",
+                        defaultValue = "off",
+                        possibleParameters = {"off", "warn", "reject", "linear"}),
+                @SystemParameter(name = "backtracking.max.degree",
+                        description = "The highest degree of polynomial matching time accepted by the " +
+                                "`backtracking.check`. For example, `.*a.*b` matches in quadratic time.",
+                        defaultValue = "3",
+                        possibleParameters = "Any positive integer")
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (msg string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#regex:tokenize(',\\s*', msg)\n" +
+                                "select token, tokenIndex\n" +
+                                "insert into OutputStream;",
+                        description = "For the msg `WSO2, Siddhi, CEP`, three events are emitted: `WSO2` with " +
+                                "`0`, `Siddhi` with `1` and `CEP` with `2`."
+                )
+        }
+)
+public class TokenizeStreamProcessorExtension extends StreamProcessor<State> {
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private Pattern pattern;
+    private ReusableMatcher reusableMatcher;
+    private LinearPattern linearPattern;
+    private LiteralPrefilter literalPrefilter;
+    private MatchBudget matchBudget;
+    private String queryName;
+    private boolean hasLimit;
+
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                       ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:tokenize() function, " +
+                    "required 2 or 3, but found " + attributeExpressionExecutors.length);
+        }
+        if (!(attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor)
+                || attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    "regex:tokenize() function, required a constant " + Attribute.Type.STRING);
+        }
+        if (attributeExpressionExecutors[1].getReturnType() != Attribute.Type.STRING
+                && attributeExpressionExecutors[1].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    "regex:tokenize() function, required " + Attribute.Type.STRING + " or " +
+                    Attribute.Type.OBJECT + ", but found " +
+                    attributeExpressionExecutors[1].getReturnType().toString());
+        }
+        if (attributeExpressionExecutors.length == 3) {
+            if (attributeExpressionExecutors[2].getReturnType() != Attribute.Type.INT) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the third argument of " +
+                        "regex:tokenize() function, required " + Attribute.Type.INT + ", but found " +
+                        attributeExpressionExecutors[2].getReturnType().toString());
+            }
+            hasLimit = true;
+        }
+        String regex = (String) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue();
+        if (regex == null) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " +
+                    "regex:tokenize() function, regex cannot be null");
+        }
+        pattern = PatternCache.getInstance().getPattern(regex, 0);
+        if (RegexConfig.isLinearEngine(configReader, "regex:tokenize()")
+                || RegexConfig.checkBacktracking(configReader, regex, 0, "regex:tokenize()")) {
+            linearPattern = RegexConfig.initLinearPattern(regex, 0, RegexConfig.readBoolean(configReader,
+                    RegexConfig.LINEAR_ENGINE_FALLBACK, true, "regex:tokenize()"), "regex:tokenize()");
+        }
+        reusableMatcher = RegexConfig.initReusableMatcher(configReader, pattern, "regex:tokenize()");
+        if (RegexConfig.readBoolean(configReader, RegexConfig.LITERAL_PREFILTER, true, "regex:tokenize()")) {
+            literalPrefilter = LiteralPrefilter.create(RegexFlags.canonicalRegex(regex, 0),
+                    RegexFlags.canonicalFlags(regex, 0));
+        }
+        matchBudget = RegexConfig.initMatchBudget(configReader, "regex:tokenize()");
+        queryName = siddhiQueryContext.getName();
+
+        attributeList.add(new Attribute("token", Attribute.Type.STRING));
+        attributeList.add(new Attribute("tokenIndex", Attribute.Type.INT));
+        return null;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        ComplexEventChunk<StreamEvent> outputStreamEventChunk = new ComplexEventChunk<>();
+        List<String> eventTokens = new ArrayList<>();
+        Splitter.TokenConsumer consumer = (token, index) -> eventTokens.add(token);
+        while (streamEventChunk.hasNext()) {
+            StreamEvent streamEvent = streamEventChunk.next();
+            Object value = attributeExpressionExecutors[1].execute(streamEvent);
+            if (value == null) {
+                continue;
+            }
+            CharSequence source = InputSequences.of(value);
+            if (source == null) {
+                throw new SiddhiAppRuntimeException("Invalid input given to regex:tokenize() function. " +
+                        "Second argument should be a string, byte[] or ByteBuffer");
+            }
+            int limit = 0;
+            if (hasLimit) {
+                Integer limitValue = (Integer) attributeExpressionExecutors[2].execute(streamEvent);
+                limit = limitValue == null ? 0 : limitValue;
+            }
+            // The tokens of an event are only emitted once the split completes, so that an event whose match
+            // budget is exceeded emits none rather than a truncated list that looks complete.
+            eventTokens.clear();
+            if (literalPrefilter != null && !literalPrefilter.mayMatch(source, 0)) {
+                Splitter.whole(source, consumer);
+            } else {
+                CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+                try {
+                    if (linearPattern != null) {
+                        Splitter.split(source, linearPattern.reusableMatcher(input), limit, consumer);
+                    } else {
+                        Matcher matcher = reusableMatcher != null ? reusableMatcher.matcher(input)
+                                : pattern.matcher(input);
+                        Splitter.split(source, matcher, limit, consumer);
+                    }
+                } catch (MatchBudgetExceededException e) {
+                    matchBudget.onExceeded(pattern.pattern(), queryName, e);
+                    continue;
+                }
+            }
+            for (int index = 0; index < eventTokens.size(); index++) {
+                StreamEvent newStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+                complexEventPopulater.populateComplexEvent(newStreamEvent,
+                        new Object[]{eventTokens.get(index), index});
+                outputStreamEventChunk.add(newStreamEvent);
+            }
+        }
+        if (outputStreamEventChunk.getFirst() != null) {
+            nextProcessor.process(outputStreamEventChunk);
+        }
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.extension.holder.ExternalReferencedHolder;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.regex.util.RuleSet;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Class representing the Regex UpdateRuleSet stream processor implementation.
+ *
+ * updateRuleSet(rule.set, rule.id, regex)
+ * This stream processor adds the rule with the 'ruleId' and the 'regex' of each event to the 'ruleSet', replacing the
+ * rule with the same id, or removes the rule when the 'regex' is null. The events are passed on unchanged, so that
+ * the same query can keep a table of the rules in sync with the rule set.
+ * ruleSet - constant name of the rule set. eg: "alerts"
+ * ruleId - id of the rule eg: "disk-failure"
+ * regex - regular expression of the rule eg: "disk (failure|error)"
+ * Accept Type(s) for updateRuleSet(rule.set, rule.id, regex);
+ * rule.set : STRING
+ * rule.id : STRING
+ * regex : STRING
+ */
+@Extension(
+        name = "updateRuleSet",
+        namespace = "regex",
+        description = "Adds the rule of each event to the rule set, replacing the rule with the same id, or removes " +
+                "the rule when the regex is `null`. The rule set is matched with `regex:matchRuleSet`. Only the " +
+                "rules added since the rule set was last indexed are indexed again on an update, so that large " +
+                "rule sets can be updated while they are matched. The events are passed on unchanged, while " +
+                "events whose regex is invalid are dropped after logging the error. The rules of the rule set are " +
+                "persisted with the state of the query, and discarded when the Siddhi app shuts down.",
+        parameters = {
+                @Parameter(name = "rule.set",
+                        description = "The constant name of the rule set. For example, `alerts`.",
+                        type = {DataType.STRING}),
+                @Parameter(name = "rule.id",
+                        description = "The id of the rule. For example, `disk-failure`.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(name = "regex",
+                        description = "The regular expression of the rule, or `null` to remove the rule. " +
+                                "For example, `disk (failure|error)`.",
+                        type = {DataType.STRING},
+                        dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"rule.set", "rule.id", "regex"})
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream RuleStream (ruleId string, pattern string);\n" +
+                                "@info(name = 'query1')\n" +
+                                "from RuleStream#regex:updateRuleSet('alerts', ruleId, pattern)\n" +
+                                "select ruleId, pattern\n" +
+                                "insert into UpdatedRuleStream;",
+                        description = "Adds the rule of each RuleStream event to the `alerts` rule set, and passes " +
+                                "the event on to UpdatedRuleStream."
+                )
+        }
+)
+public class UpdateRuleSetStreamProcessorExtension
+        extends StreamProcessor<UpdateRuleSetStreamProcessorExtension.ExtensionState> {
+    private static final Logger log = LogManager.getLogger(UpdateRuleSetStreamProcessorExtension.class);
+    private final List<Attribute> attributeList = new ArrayList<>();
+    private RuleSet ruleSet;
+
+    @Override
+    protected StateFactory<ExtensionState> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                                ExpressionExecutor[] attributeExpressionExecutors,
+                                                ConfigReader configReader,
+                                                StreamEventClonerHolder streamEventClonerHolder,
+                                                boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to regex:updateRuleSet() " +
+                    "function, required 3, but found " + attributeExpressionExecutors.length);
+        }
+        ruleSet = ruleSet(attributeExpressionExecutors[0], siddhiQueryContext, "regex:updateRuleSet()");
+        for (int i = 1; i < 3; i++) {
+            if (attributeExpressionExecutors[i].getReturnType() != Attribute.Type.STRING) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the argument " + (i + 1) +
+                        " of regex:updateRuleSet() function, required " + Attribute.Type.STRING + ", but found " +
+                        attributeExpressionExecutors[i].getReturnType());
+            }
+        }
+        return () -> new ExtensionState(ruleSet);
+    }
+
+    /**
+     * Returns the rule set named by the constant first argument of a rule set extension, which is released when the
+     * Siddhi app shuts down.
+     */
+    static RuleSet ruleSet(ExpressionExecutor expressionExecutor, SiddhiQueryContext siddhiQueryContext,
+                           String function) {
+        if (!(expressionExecutor instanceof ConstantExpressionExecutor)
+                || expressionExecutor.getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " + function +
+                    " function, required a constant " + Attribute.Type.STRING);
+        }
+        String name = (String) ((ConstantExpressionExecutor) expressionExecutor).getValue();
+        if (name == null) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the first argument of " + function +
+                    " function, rule set name cannot be null");
+        }
+        RuleSet ruleSet = RuleSet.acquire(siddhiQueryContext.getSiddhiAppContext().getName(), name);
+        siddhiQueryContext.getSiddhiAppContext().addEternalReferencedHolder(new ExternalReferencedHolder() {
+            @Override
+            public void start() {
+                //Nothing to start
+            }
+
+            @Override
+            public void stop() {
+                ruleSet.release();
+            }
+        });
+        return ruleSet;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           ExtensionState state) {
+        while (streamEventChunk.hasNext()) {
+            StreamEvent streamEvent = streamEventChunk.next();
+            String id = (String) attributeExpressionExecutors[1].execute(streamEvent);
+            String regex = (String) attributeExpressionExecutors[2].execute(streamEvent);
+            if (id == null) {
+                log.error("Invalid input given to regex:updateRuleSet() function in query '" +
+                        siddhiQueryContext.getName() + "'. Rule id cannot be null, dropping the event");
+                streamEventChunk.remove();
+            } else if (regex == null) {
+                ruleSet.remove(id);
+            } else {
+                try {
+                    ruleSet.put(id, regex);
+                } catch (PatternSyntaxException e) {
+                    log.error("Invalid regex given to regex:updateRuleSet() function in query '" +
+                            siddhiQueryContext.getName() + "' for the rule '" + id + "' of the rule set '" +
+                            ruleSet.getName() + "', dropping the event: " + e.getMessage());
+                    streamEventChunk.remove();
+                }
+            }
+        }
+        if (streamEventChunk.getFirst() != null) {
+            nextProcessor.process(streamEventChunk);
+        }
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //Nothing to stop
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return attributeList;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+
+    static class ExtensionState extends State {
+
+        private final RuleSet ruleSet;
+
+        ExtensionState(RuleSet ruleSet) {
+            this.ruleSet = ruleSet;
+        }
+
+        @Override
+        public boolean canDestroy() {
+            return false;
+        }
+
+        @Override
+        public Map<String, Object> snapshot() {
+            Map<String, Object> stateMap = new HashMap<>(2);
+            stateMap.put("rules", new LinkedHashMap<>(ruleSet.getRules()));
+            return stateMap;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void restore(Map<String, Object> state) {
+            ruleSet.setRules((Map<String, String>) state.get("rules"));
+        }
+    }
+}
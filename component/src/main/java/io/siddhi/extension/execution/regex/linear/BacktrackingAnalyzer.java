@@ -0,0 +1,701 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Static analysis of the time a backtracking engine, such as {@link Pattern}, may spend matching a regex.
+ *
+ * The regex is turned into its position automaton, in which each char matching leaf of the syntax tree is a state,
+ * which is the automaton a backtracking engine explores. The engine backtracks exponentially when the automaton can
+ * leave a state and reach it again along two different paths reading the same chars, as each repetition of those
+ * chars in an input that does not match doubles the paths tried. It backtracks polynomially, to the degree k, when
+ * k loops of the automaton can be chained so that each loop can be left for the next one while reading the same chars
+ * as both loops. Both conditions are searched on products of the automaton with itself.
+ *
+ * Bounded repetitions are unrolled, which leaves no loop to find in a bounded repetition of a body that can be
+ * repeated in more than one way, such as `(a|aa){1,20}` or `(a{1,30}){1,10}`, although the number of paths the
+ * engine tries grows exponentially with the bound. Such repetitions are analyzed as unbounded ones, unless their
+ * body already loops, in which case the unrolled copies chain those loops. Assertions are ignored and a failing
+ * suffix is assumed to exist, so that the analysis can only overestimate the matching time.
+ */
+public final class BacktrackingAnalyzer {
+
+    /**
+     * Maximum number of states of the analyzed automata. Larger regexes, such as those with large bounded
+     * repetitions, are not analyzed.
+     */
+    static final int MAX_POSITIONS = 500;
+
+    /**
+     * Maximum number of product states visited while estimating the degree of a polynomial regex. Loops whose
+     * relation is not decided within it are assumed to chain, overestimating the degree.
+     */
+    static final int MAX_VISITED_STATES = 1000000;
+
+    private static final Fragment EMPTY = new Fragment(new BitSet(), new BitSet(), true);
+
+    /**
+     * Complexity class of the time of a single match attempt, in the length of the input.
+     */
+    public enum Complexity {
+        LINEAR, POLYNOMIAL, EXPONENTIAL
+    }
+
+    private final List<RegexNode> leaves = new ArrayList<>();
+    private final List<Map<Integer, Integer>> follow = new ArrayList<>();
+    private int[][] targets;
+    private int[][] multiplicities;
+    private BitSet[] charSets;
+    private int[] representatives;
+    private int stateCount;
+
+    private BacktrackingAnalyzer() {
+        follow.add(new HashMap<>());
+    }
+
+    /**
+     * Analyzes the time a backtracking engine may spend matching the regex.
+     *
+     * @param pattern regex compiled for the linear engine
+     * @return analysis of the regex, or null if the regex is too large to be analyzed
+     */
+    public static Analysis analyze(LinearPattern pattern) {
+        BacktrackingAnalyzer analyzer = new BacktrackingAnalyzer();
+        try {
+            Fragment fragment = analyzer.build(pattern.root());
+            BitSet initial = new BitSet();
+            initial.set(0);
+            analyzer.connect(initial, fragment.first);
+        } catch (TooLargeException e) {
+            return null;
+        }
+        analyzer.index();
+        Analysis analysis = analyzer.findExponential();
+        return analysis != null ? analysis : analyzer.estimateDegree();
+    }
+
+    private Fragment build(RegexNode node) {
+        if (node instanceof RegexNode.Group) {
+            return build(((RegexNode.Group) node).body);
+        } else if (node instanceof RegexNode.Literal || node instanceof RegexNode.CharSet
+                || node instanceof RegexNode.AnyChar) {
+            if (leaves.size() == MAX_POSITIONS) {
+                throw new TooLargeException();
+            }
+            leaves.add(node);
+            follow.add(new HashMap<>());
+            BitSet position = new BitSet();
+            position.set(leaves.size());
+            return new Fragment(position, position, false);
+        } else if (node instanceof RegexNode.Concatenation) {
+            Fragment fragment = EMPTY;
+            for (RegexNode item : ((RegexNode.Concatenation) node).items) {
+                fragment = concatenate(fragment, build(item));
+            }
+            return fragment;
+        } else if (node instanceof RegexNode.Alternation) {
+            BitSet first = new BitSet();
+            BitSet last = new BitSet();
+            boolean nullable = false;
+            for (RegexNode alternative : ((RegexNode.Alternation) node).alternatives) {
+                Fragment fragment = build(alternative);
+                first.or(fragment.first);
+                last.or(fragment.last);
+                nullable |= fragment.nullable;
+            }
+            return new Fragment(first, last, nullable);
+        } else if (node instanceof RegexNode.Repetition) {
+            return repeat((RegexNode.Repetition) node);
+        }
+        // Empty nodes and assertions do not read any chars.
+        return EMPTY;
+    }
+
+    /**
+     * Builds a copy of the body for each mandatory iteration, followed by a copy looping on itself for unbounded
+     * repetitions, or by nested optional copies, (body(body)?)?, for bounded ones. Bounded repetitions of a body
+     * without loops that can be repeated in more than one way are built as unbounded ones.
+     */
+    private Fragment repeat(RegexNode.Repetition repetition) {
+        if (repetition.max == 0) {
+            return EMPTY;
+        }
+        boolean unbounded = repetition.max == RegexNode.UNBOUNDED
+                || repetition.max > 1 && !loops(repetition.body) && repeatsAmbiguously(repetition.body);
+        Fragment fragment = EMPTY;
+        int mandatory = unbounded ? Math.max(repetition.min - 1, 0) : repetition.min;
+        for (int i = 0; i < mandatory; i++) {
+            fragment = concatenate(fragment, build(repetition.body));
+        }
+        if (unbounded) {
+            Fragment loop = build(repetition.body);
+            connect(loop.last, loop.first);
+            return concatenate(fragment, repetition.min == 0 ? loop.optional() : loop);
+        }
+        List<Fragment> copies = new ArrayList<>();
+        for (int i = repetition.min; i < repetition.max; i++) {
+            copies.add(build(repetition.body));
+        }
+        Fragment optional = EMPTY;
+        for (int i = copies.size() - 1; i >= 0; i--) {
+            optional = concatenate(copies.get(i), optional).optional();
+        }
+        return concatenate(fragment, optional);
+    }
+
+    private static boolean loops(RegexNode node) {
+        if (node instanceof RegexNode.Group) {
+            return loops(((RegexNode.Group) node).body);
+        } else if (node instanceof RegexNode.Concatenation) {
+            return ((RegexNode.Concatenation) node).items.stream().anyMatch(BacktrackingAnalyzer::loops);
+        } else if (node instanceof RegexNode.Alternation) {
+            return ((RegexNode.Alternation) node).alternatives.stream().anyMatch(BacktrackingAnalyzer::loops);
+        } else if (node instanceof RegexNode.Repetition) {
+            RegexNode.Repetition repetition = (RegexNode.Repetition) node;
+            return repetition.max != 0 && (repetition.max == RegexNode.UNBOUNDED || loops(repetition.body));
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the engine can match some chars in more than one way when repeating the body without bound,
+     * which is searched on a separate automaton of the body looping on itself.
+     */
+    private static boolean repeatsAmbiguously(RegexNode body) {
+        BacktrackingAnalyzer analyzer = new BacktrackingAnalyzer();
+        Fragment loop = analyzer.build(body);
+        analyzer.connect(loop.last, loop.first);
+        BitSet initial = new BitSet();
+        initial.set(0);
+        analyzer.connect(initial, loop.first);
+        analyzer.index();
+        return analyzer.findExponential() != null;
+    }
+
+    private Fragment concatenate(Fragment fragment, Fragment next) {
+        connect(fragment.last, next.first);
+        BitSet first = (BitSet) fragment.first.clone();
+        if (fragment.nullable) {
+            first.or(next.first);
+        }
+        BitSet last = (BitSet) next.last.clone();
+        if (next.nullable) {
+            last.or(fragment.last);
+        }
+        return new Fragment(first, last, fragment.nullable && next.nullable);
+    }
+
+    /**
+     * Adds a transition from each of the states to each of the targets. A transition added twice, such as the one
+     * looping on `a` in `(a*)*`, is taken by two different paths of the engine.
+     */
+    private void connect(BitSet states, BitSet targetStates) {
+        for (int state = states.nextSetBit(0); state >= 0; state = states.nextSetBit(state + 1)) {
+            Map<Integer, Integer> stateFollow = follow.get(state);
+            for (int target = targetStates.nextSetBit(0); target >= 0;
+                 target = targetStates.nextSetBit(target + 1)) {
+                stateFollow.merge(target, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Indexes the transitions and the chars read by each state, over representative code points: all the ASCII
+     * chars, the line terminators and the bounds of the ranges of the classes and literals, between which the
+     * classes match the same code points.
+     */
+    private void index() {
+        stateCount = leaves.size() + 1;
+        targets = new int[stateCount][];
+        multiplicities = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            Map<Integer, Integer> stateFollow = follow.get(state);
+            targets[state] = stateFollow.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            multiplicities[state] = new int[targets[state].length];
+            for (int i = 0; i < targets[state].length; i++) {
+                multiplicities[state][i] = stateFollow.get(targets[state][i]);
+            }
+        }
+        TreeSet<Integer> points = new TreeSet<>();
+        for (int c = 0; c < 128; c++) {
+            points.add(c);
+        }
+        points.addAll(Arrays.asList(0x85, 0x86, 0x2028, 0x2029, 0x202A));
+        for (RegexNode leaf : leaves) {
+            if (leaf instanceof RegexNode.Literal) {
+                int codePoint = ((RegexNode.Literal) leaf).codePoint;
+                for (int variant : new int[]{codePoint, Character.toUpperCase(codePoint),
+                        Character.toLowerCase(codePoint), Character.toTitleCase(codePoint)}) {
+                    points.add(variant);
+                    points.add(variant + 1);
+                }
+            } else if (leaf instanceof RegexNode.CharSet) {
+                ((RegexNode.CharSet) leaf).charClass.addBoundaries(points);
+            }
+        }
+        representatives = points.headSet(Character.MAX_CODE_POINT, true).stream().mapToInt(Integer::intValue)
+                .toArray();
+        charSets = new BitSet[stateCount];
+        charSets[0] = new BitSet();
+        for (int state = 1; state < stateCount; state++) {
+            charSets[state] = new BitSet(representatives.length);
+            for (int i = 0; i < representatives.length; i++) {
+                if (reads(leaves.get(state - 1), representatives[i])) {
+                    charSets[state].set(i);
+                }
+            }
+        }
+    }
+
+    private static boolean reads(RegexNode leaf, int codePoint) {
+        if (leaf instanceof RegexNode.Literal) {
+            RegexNode.Literal literal = (RegexNode.Literal) leaf;
+            return literal.caseInsensitiveClass != null ? literal.caseInsensitiveClass.matches(codePoint)
+                    : literal.codePoint == codePoint;
+        } else if (leaf instanceof RegexNode.CharSet) {
+            return ((RegexNode.CharSet) leaf).charClass.matches(codePoint);
+        }
+        switch (((RegexNode.AnyChar) leaf).opcode) {
+            case Program.ANY:
+                return true;
+            case Program.ANY_EXCEPT_LINE_TERMINATOR:
+                return !LinearMatcher.isLineTerminator(codePoint);
+            default:
+                return codePoint != '\n';
+        }
+    }
+
+    /**
+     * Searches the product of the automaton with itself, whose states are pairs of states reached by two paths
+     * reading the same chars, for a strongly connected component holding both a pair of equal states and either a
+     * pair of different states or a transition taken by two different paths. Such a component has two different
+     * paths from a state back to itself reading the same chars.
+     */
+    private Analysis findExponential() {
+        int[] component = new int[stateCount * stateCount];
+        Arrays.fill(component, -1);
+        int[] order = new int[stateCount * stateCount];
+        int[] lowLink = new int[stateCount * stateCount];
+        boolean[] onStack = new boolean[stateCount * stateCount];
+        int[] stack = new int[stateCount * stateCount];
+        int[] callStack = new int[stateCount * stateCount];
+        int[] edgeIndex = new int[stateCount * stateCount];
+        int[] counter = {1, 0};
+        for (int state = 1; state < stateCount; state++) {
+            int root = pair(state, state);
+            if (order[root] != 0) {
+                continue;
+            }
+            // Iterative Tarjan, as the product can be deeper than the thread stack.
+            int stackSize = 0;
+            int callSize = 0;
+            callStack[callSize++] = root;
+            order[root] = lowLink[root] = counter[0]++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            while (callSize > 0) {
+                int node = callStack[callSize - 1];
+                int next = nextSuccessor(node, edgeIndex);
+                if (next >= 0) {
+                    if (order[next] == 0) {
+                        order[next] = lowLink[next] = counter[0]++;
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        callStack[callSize++] = next;
+                    } else if (onStack[next]) {
+                        lowLink[node] = Math.min(lowLink[node], order[next]);
+                    }
+                    continue;
+                }
+                callSize--;
+                if (callSize > 0) {
+                    int parent = callStack[callSize - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if (lowLink[node] == order[node]) {
+                    int id = counter[1]++;
+                    List<Integer> members = new ArrayList<>();
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        component[member] = id;
+                        members.add(member);
+                    } while (member != node);
+                    Analysis analysis = checkComponent(members, component);
+                    if (analysis != null) {
+                        return analysis;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private int pair(int first, int second) {
+        return first * stateCount + second;
+    }
+
+    /**
+     * Returns the next successor of the pair not returned yet, advancing its edge index, or -1 once all are returned.
+     */
+    private int nextSuccessor(int node, int[] edgeIndex) {
+        int first = node / stateCount;
+        int second = node % stateCount;
+        int width = targets[second].length;
+        for (int index = edgeIndex[node]; index < targets[first].length * width; index++) {
+            int firstTarget = targets[first][index / width];
+            int secondTarget = targets[second][index % width];
+            if (charSets[firstTarget].intersects(charSets[secondTarget])) {
+                edgeIndex[node] = index + 1;
+                return pair(firstTarget, secondTarget);
+            }
+        }
+        edgeIndex[node] = targets[first].length * width;
+        return -1;
+    }
+
+    private Analysis checkComponent(List<Integer> members, int[] component) {
+        int diagonal = -1;
+        int different = -1;
+        int parallelSource = -1;
+        int parallelTarget = -1;
+        for (int member : members) {
+            int first = member / stateCount;
+            int second = member % stateCount;
+            if (first != second) {
+                different = member;
+                continue;
+            }
+            diagonal = member;
+            for (int i = 0; i < targets[first].length; i++) {
+                int target = targets[first][i];
+                if (multiplicities[first][i] > 1 && component[pair(target, target)] == component[member]) {
+                    parallelSource = first;
+                    parallelTarget = target;
+                }
+            }
+        }
+        if (diagonal < 0 || different < 0 && parallelSource < 0) {
+            return null;
+        }
+        StringBuilder pump = new StringBuilder();
+        int start;
+        if (different >= 0) {
+            start = diagonal;
+            pump.append(path(diagonal, different, component)).append(path(different, diagonal, component));
+        } else {
+            start = pair(parallelSource, parallelSource);
+            appendCodePoint(pump, charSets[parallelTarget]);
+            pump.append(path(pair(parallelTarget, parallelTarget), start, component));
+        }
+        return new Analysis(Complexity.EXPONENTIAL, 0, prefix(start / stateCount), pump.toString());
+    }
+
+    /**
+     * Returns the chars read along a shortest path between two pairs of the same component.
+     */
+    private String path(int from, int to, int[] component) {
+        if (from == to) {
+            return "";
+        }
+        Map<Integer, Integer> parents = new HashMap<>();
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(from);
+        parents.put(from, from);
+        boolean found = false;
+        while (!queue.isEmpty() && !found) {
+            int node = queue.poll();
+            int first = node / stateCount;
+            int second = node % stateCount;
+            for (int firstTarget : targets[first]) {
+                for (int secondTarget : targets[second]) {
+                    int next = pair(firstTarget, secondTarget);
+                    if (component[next] != component[from] || parents.containsKey(next)
+                            || !charSets[firstTarget].intersects(charSets[secondTarget])) {
+                        continue;
+                    }
+                    parents.put(next, node);
+                    if (next == to) {
+                        found = true;
+                    }
+                    queue.add(next);
+                }
+            }
+        }
+        List<Integer> nodes = new ArrayList<>();
+        for (int node = to; node != from; node = parents.get(node)) {
+            nodes.add(node);
+        }
+        StringBuilder chars = new StringBuilder();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            BitSet common = (BitSet) charSets[nodes.get(i) / stateCount].clone();
+            common.and(charSets[nodes.get(i) % stateCount]);
+            appendCodePoint(chars, common);
+        }
+        return chars.toString();
+    }
+
+    /**
+     * Returns the chars read along a shortest path from the initial state to the given state.
+     */
+    private String prefix(int state) {
+        int[] parents = new int[stateCount];
+        Arrays.fill(parents, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        parents[0] = 0;
+        while (!queue.isEmpty() && parents[state] < 0) {
+            int node = queue.poll();
+            for (int target : targets[node]) {
+                if (parents[target] < 0) {
+                    parents[target] = node;
+                    queue.add(target);
+                }
+            }
+        }
+        StringBuilder chars = new StringBuilder();
+        for (int node = state; node != 0; node = parents[node]) {
+            chars.insert(0, codePointString(charSets[node]));
+        }
+        return chars.toString();
+    }
+
+    private void appendCodePoint(StringBuilder chars, BitSet charSet) {
+        chars.append(codePointString(charSet));
+    }
+
+    private String codePointString(BitSet charSet) {
+        int index = charSet.nextSetBit(0);
+        // Prefers a printable char, when the state reads one, so that the example input is readable.
+        for (int i = index; i >= 0; i = charSet.nextSetBit(i + 1)) {
+            if (representatives[i] > ' ' && representatives[i] < 0x7F) {
+                index = i;
+                break;
+            }
+        }
+        return new String(Character.toChars(representatives[index]));
+    }
+
+    /**
+     * Estimates the degree of the polynomial matching time as the length of the longest chain of loops in which each
+     * loop can be left for the next one while both loops read the same chars, which is searched on the product of
+     * the automaton with itself twice.
+     */
+    private Analysis estimateDegree() {
+        BitSet[] reachable = new BitSet[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            reachable[state] = reachableFrom(state);
+        }
+        List<Integer> loops = new ArrayList<>();
+        for (int state = 1; state < stateCount; state++) {
+            if (reachable[state].get(state)) {
+                loops.add(state);
+            }
+        }
+        int[] budget = {MAX_VISITED_STATES};
+        Map<Integer, List<Integer>> chains = new HashMap<>();
+        for (int from : loops) {
+            for (int to : loops) {
+                if (from != to && reachable[from].get(to) && isChained(from, to, reachable, budget)) {
+                    chains.computeIfAbsent(from, key -> new ArrayList<>()).add(to);
+                }
+            }
+        }
+        int degree = loops.isEmpty() ? 1 : 0;
+        Map<Integer, Integer> lengths = new HashMap<>();
+        for (int loop : loops) {
+            degree = Math.max(degree, chainLength(loop, chains, lengths, new HashSet<>(), loops.size()));
+        }
+        return new Analysis(degree > 1 ? Complexity.POLYNOMIAL : Complexity.LINEAR, degree, null, null);
+    }
+
+    private BitSet reachableFrom(int state) {
+        BitSet reachable = new BitSet(stateCount);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(state);
+        while (!queue.isEmpty()) {
+            for (int target : targets[queue.poll()]) {
+                if (!reachable.get(target)) {
+                    reachable.set(target);
+                    queue.add(target);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Returns whether some chars can be read by three paths, from the loop back to itself, from the loop to the
+     * next one and from the next loop back to itself. Undecided once the budget is spent, in which case the loops
+     * are assumed to chain.
+     */
+    private boolean isChained(int loop, int next, BitSet[] reachable, int[] budget) {
+        Set<Long> visited = new HashSet<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{loop, loop, next});
+        while (!queue.isEmpty()) {
+            int[] states = queue.poll();
+            for (int first : targets[states[0]]) {
+                if (first != loop && !reachable[first].get(loop)) {
+                    continue;
+                }
+                for (int second : targets[states[1]]) {
+                    if (second != next && !reachable[second].get(next)) {
+                        continue;
+                    }
+                    BitSet common = (BitSet) charSets[first].clone();
+                    common.and(charSets[second]);
+                    if (common.isEmpty()) {
+                        continue;
+                    }
+                    for (int third : targets[states[2]]) {
+                        if (third != next && !reachable[third].get(next) || !common.intersects(charSets[third])) {
+                            continue;
+                        }
+                        if (first == loop && second == next && third == next) {
+                            return true;
+                        }
+                        if (visited.add(((long) first * stateCount + second) * stateCount + third)) {
+                            if (--budget[0] < 0) {
+                                return true;
+                            }
+                            queue.add(new int[]{first, second, third});
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int chainLength(int loop, Map<Integer, List<Integer>> chains, Map<Integer, Integer> lengths,
+                                   Set<Integer> path, int maxLength) {
+        Integer length = lengths.get(loop);
+        if (length != null) {
+            return length;
+        }
+        if (!path.add(loop)) {
+            // Loops chained in a cycle, which a regex without exponential backtracking should not have.
+            return maxLength;
+        }
+        int longest = 1;
+        for (int next : chains.getOrDefault(loop, new ArrayList<>())) {
+            longest = Math.max(longest, 1 + chainLength(next, chains, lengths, path, maxLength));
+        }
+        longest = Math.min(longest, maxLength);
+        path.remove(loop);
+        lengths.put(loop, longest);
+        return longest;
+    }
+
+    private static final class Fragment {
+        private final BitSet first;
+        private final BitSet last;
+        private final boolean nullable;
+
+        private Fragment(BitSet first, BitSet last, boolean nullable) {
+            this.first = first;
+            this.last = last;
+            this.nullable = nullable;
+        }
+
+        private Fragment optional() {
+            return nullable ? this : new Fragment(first, last, true);
+        }
+    }
+
+    private static final class TooLargeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private TooLargeException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Result of the analysis of a regex.
+     */
+    public static final class Analysis {
+        private final Complexity complexity;
+        private final int degree;
+        private final String prefix;
+        private final String pump;
+
+        private Analysis(Complexity complexity, int degree, String prefix, String pump) {
+            this.complexity = complexity;
+            this.degree = degree;
+            this.prefix = prefix;
+            this.pump = pump;
+        }
+
+        public Complexity getComplexity() {
+            return complexity;
+        }
+
+        /**
+         * Returns the degree of the polynomial matching time, 1 for linear regexes and 0 for exponential ones.
+         */
+        public int getDegree() {
+            return degree;
+        }
+
+        /**
+         * Returns the chars leading to the ambiguous chars of an exponential regex, or null.
+         */
+        public String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * Returns chars an exponential regex can match in more than one way, or null.
+         */
+        public String getPump() {
+            return pump;
+        }
+
+        /**
+         * Describes the matching time, to follow the regex in log and error messages.
+         */
+        public String describe() {
+            switch (complexity) {
+                case EXPONENTIAL:
+                    return "can backtrack exponentially, as after '" + prefix + "' it can match '" + pump +
+                            "' in more than one way, doubling the matching time with each repetition of '" + pump +
+                            "' in an input that does not match";
+                case POLYNOMIAL:
+                    return "can backtrack polynomially, in O(n^" + degree + ") time on inputs of n chars, as " +
+                            degree + " of its repetitions can match the same chars one after the other";
+                default:
+                    return "matches in linear time";
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set of code points matched by a character class, a predefined class such as `\d`, or a case insensitive literal.
+ */
+final class CharClass {
+
+    static final int CASE_SENSITIVE = 0;
+    static final int ASCII_CASE_INSENSITIVE = 1;
+    static final int UNICODE_CASE_INSENSITIVE = 2;
+
+    static final int[] DIGIT = {'0', '9'};
+    static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+    static final int[] SPACE = {'\t', '\r', ' ', ' '};
+
+    private final int[] ranges;
+    private final boolean negated;
+    private final int caseMode;
+
+    /**
+     * Creates a class from sorted, non overlapping, inclusive code point ranges.
+     */
+    private CharClass(int[] ranges, boolean negated, int caseMode) {
+        this.ranges = ranges;
+        this.negated = negated;
+        this.caseMode = caseMode;
+    }
+
+    boolean matches(int codePoint) {
+        boolean contained = contains(codePoint);
+        if (!contained && caseMode == ASCII_CASE_INSENSITIVE) {
+            if (codePoint >= 'a' && codePoint <= 'z') {
+                contained = contains(codePoint - ('a' - 'A'));
+            } else if (codePoint >= 'A' && codePoint <= 'Z') {
+                contained = contains(codePoint + ('a' - 'A'));
+            }
+        } else if (!contained && caseMode == UNICODE_CASE_INSENSITIVE) {
+            contained = contains(Character.toUpperCase(codePoint)) || contains(Character.toLowerCase(codePoint));
+        }
+        return contained != negated;
+    }
+
+    /**
+     * Returns whether the class can match a code point outside the basic multilingual plane, in which case a single
+     * match consumes two chars.
+     */
+    boolean matchesSupplementary() {
+        return negated || ranges[ranges.length - 1] > Character.MAX_VALUE;
+    }
+
+    /**
+     * Adds the first code point of each range of the class, and the first one after it, to the given points.
+     */
+    void addBoundaries(Collection<Integer> points) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] >= 0) {
+                points.add(ranges[i]);
+                points.add(ranges[i + 1] + 1);
+            }
+        }
+    }
+
+    private boolean contains(int codePoint) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (codePoint < ranges[2 * mid]) {
+                high = mid - 1;
+            } else if (codePoint > ranges[2 * mid + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accumulates the ranges of a class.
+     */
+    static final class Builder {
+        private final List<int[]> ranges = new ArrayList<>();
+
+        Builder add(int from, int to) {
+            ranges.add(new int[]{from, to});
+            return this;
+        }
+
+        Builder addAll(int[] pairs, boolean complement) {
+            if (!complement) {
+                for (int i = 0; i < pairs.length; i += 2) {
+                    add(pairs[i], pairs[i + 1]);
+                }
+                return this;
+            }
+            int next = 0;
+            for (int i = 0; i < pairs.length; i += 2) {
+                if (pairs[i] > next) {
+                    add(next, pairs[i] - 1);
+                }
+                next = pairs[i + 1] + 1;
+            }
+            if (next <= Character.MAX_CODE_POINT) {
+                add(next, Character.MAX_CODE_POINT);
+            }
+            return this;
+        }
+
+        CharClass build(boolean negated, int caseMode) {
+            ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+            List<int[]> merged = new ArrayList<>();
+            for (int[] range : ranges) {
+                int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && range[0] <= last[1] + 1) {
+                    last[1] = Math.max(last[1], range[1]);
+                } else {
+                    merged.add(new int[]{range[0], range[1]});
+                }
+            }
+            int[] pairs = new int[merged.size() * 2];
+            for (int i = 0; i < merged.size(); i++) {
+                pairs[2 * i] = merged.get(i)[0];
+                pairs[2 * i + 1] = merged.get(i)[1];
+            }
+            if (pairs.length == 0) {
+                // An empty class, such as the complement of all code points, never matches.
+                return new CharClass(new int[]{-1, -1}, negated, caseMode);
+            }
+            return new CharClass(pairs, negated, caseMode);
+        }
+    }
+}
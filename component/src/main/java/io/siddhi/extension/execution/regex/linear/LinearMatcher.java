@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.Arrays;
+import java.util.regex.MatchResult;
+
+/**
+ * Matches a {@link LinearPattern} against an input by simulating all the threads of its automaton in lock step
+ * (a Pike VM), which takes time proportional to the product of the input and the pattern sizes, whatever the input.
+ *
+ * The methods mirror those of {@link java.util.regex.Matcher} and return the same matches and groups for the
+ * supported subset of the syntax. Instances are not thread safe.
+ */
+public final class LinearMatcher implements MatchResult {
+
+    static final int FIND = 0;
+    static final int LOOKING_AT = 1;
+    static final int MATCHES = 2;
+
+    private final LinearPattern pattern;
+    private final Program program;
+    private final ThreadList current;
+    private final ThreadList next;
+    private final int[] scratch;
+    private final int[] matched;
+    private final int slotCount;
+    private int[] stack = new int[32];
+    private CharSequence input;
+    private int length;
+    private int first = -1;
+    private int last = 0;
+    private int startLimit = Integer.MAX_VALUE;
+    private boolean partial;
+    private int pendingStart = -1;
+    private boolean hasMatch;
+
+    LinearMatcher(LinearPattern pattern, Program program, CharSequence input) {
+        this.pattern = pattern;
+        this.program = program;
+        this.current = new ThreadList(program.size * program.statesPerInstruction, program.slotCount);
+        this.next = new ThreadList(program.size * program.statesPerInstruction, program.slotCount);
+        this.scratch = new int[program.slotCount];
+        this.matched = new int[program.slotCount];
+        this.slotCount = program.slotCount;
+        reset(input);
+    }
+
+    public LinearPattern pattern() {
+        return pattern;
+    }
+
+    /**
+     * Resets the matcher with a new input.
+     */
+    public LinearMatcher reset(CharSequence input) {
+        this.input = input;
+        this.length = input.length();
+        this.first = -1;
+        this.last = 0;
+        this.startLimit = Integer.MAX_VALUE;
+        this.partial = false;
+        this.hasMatch = false;
+        return this;
+    }
+
+    /**
+     * Only lets the following finds report matches starting before the given index, until the matcher is reset.
+     */
+    LinearMatcher limitStarts(int startLimit) {
+        this.startLimit = startLimit;
+        return this;
+    }
+
+    /**
+     * Finds the next match after the previous one, as {@link java.util.regex.Matcher#find()}.
+     */
+    public boolean find() {
+        int from = last;
+        if (from == first) {
+            from++;
+        }
+        if (from > length) {
+            hasMatch = false;
+            return false;
+        }
+        return run(from, FIND);
+    }
+
+    /**
+     * Finds the first match starting at or after the given index, as {@link java.util.regex.Matcher#find(int)}.
+     */
+    public boolean find(int start) {
+        if (start < 0 || start > length) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        reset(input);
+        return run(start, FIND);
+    }
+
+    /**
+     * Finds the first match starting at or after the given index and before the given limit. Following
+     * {@link #find()} calls only report matches starting before the limit too, until the matcher is reset.
+     */
+    public boolean find(int start, int startLimit) {
+        if (start < 0 || start > length) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        reset(input);
+        this.startLimit = startLimit;
+        return run(start, FIND);
+    }
+
+    /**
+     * Finds the first match starting at or after the given index as {@link #find(int)}, taking the input as the
+     * part of a longer input received so far. Matches that the following input may change, and starts of matches
+     * that it may complete, are reported by {@link #pendingStart()}.
+     */
+    public boolean findPartial(int start) {
+        if (start < 0 || start > length) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        reset(input);
+        partial = true;
+        return run(start, FIND);
+    }
+
+    /**
+     * Returns the earliest start of the matches the last {@link #findPartial(int)} left undecided for lack of input,
+     * or -1 if there are none. A match found by it is only final when there are none.
+     */
+    public int pendingStart() {
+        return pendingStart;
+    }
+
+    public boolean lookingAt() {
+        return run(0, LOOKING_AT);
+    }
+
+    public boolean matches() {
+        return run(0, MATCHES);
+    }
+
+    public int groupCount() {
+        return pattern.groupCount();
+    }
+
+    public int start() {
+        return start(0);
+    }
+
+    public int start(int group) {
+        checkGroup(group);
+        return matched[2 * group];
+    }
+
+    public int end() {
+        return end(0);
+    }
+
+    public int end(int group) {
+        checkGroup(group);
+        return matched[2 * group + 1];
+    }
+
+    public String group() {
+        return group(0);
+    }
+
+    public String group(int group) {
+        checkGroup(group);
+        int start = matched[2 * group];
+        int end = matched[2 * group + 1];
+        if (start == -1 || end == -1) {
+            return null;
+        }
+        return input.subSequence(start, end).toString();
+    }
+
+    private void checkGroup(int group) {
+        if (!hasMatch) {
+            throw new IllegalStateException("No match found");
+        }
+        if (group < 0 || group > pattern.groupCount()) {
+            throw new IndexOutOfBoundsException("No group " + group);
+        }
+    }
+
+    /**
+     * Returns whether there is a match without computing its bounds and groups, which stops at the first match
+     * reached instead of the preferred one. The result of the previous match is discarded.
+     */
+    boolean test(int from, int mode) {
+        boolean found = run(from, mode, true);
+        hasMatch = false;
+        first = -1;
+        last = 0;
+        return found;
+    }
+
+    private boolean run(int from, int mode) {
+        return run(from, mode, false);
+    }
+
+    private boolean run(int from, int mode, boolean existenceOnly) {
+        ThreadList threads = current;
+        ThreadList nextThreads = next;
+        threads.clear();
+        hasMatch = false;
+        pendingStart = -1;
+        int position = from;
+        while (true) {
+            if (threads.size == 0 && mode == FIND && !hasMatch) {
+                position = nextCandidate(position);
+            }
+            if (!hasMatch && (mode == FIND || position == from) && position < startLimit
+                    && (position == 0 || !program.anchoredAtBeginning)) {
+                Arrays.fill(scratch, -1);
+                addThread(threads, 0, position);
+            }
+            if (threads.size == 0) {
+                break;
+            }
+            int codePoint = position < length ? Character.codePointAt(input, position) : -1;
+            int nextPosition = position + (codePoint > Character.MAX_VALUE ? 2 : 1);
+            nextThreads.clear();
+            for (int i = 0; i < threads.size; i++) {
+                int state = threads.dense[i];
+                int pc = state / program.statesPerInstruction;
+                int opcode = program.opcodes[pc];
+                if (partial && codePoint < 0 && Program.consumes(opcode)) {
+                    pending(threads.captures[state * slotCount]);
+                }
+                if (opcode == Program.MATCH) {
+                    if (mode == MATCHES && position != length) {
+                        continue;
+                    }
+                    if (existenceOnly) {
+                        return true;
+                    }
+                    System.arraycopy(threads.captures, state * slotCount, matched, 0, slotCount);
+                    hasMatch = true;
+                    // Threads of lower priority can only produce less preferred matches.
+                    break;
+                }
+                if (codePoint >= 0 && Program.consumes(opcode) && consumes(opcode, pc, codePoint)) {
+                    System.arraycopy(threads.captures, state * slotCount, scratch, 0, slotCount);
+                    addThread(nextThreads, pc + 1, nextPosition);
+                }
+            }
+            ThreadList swap = threads;
+            threads = nextThreads;
+            nextThreads = swap;
+            if (position >= length) {
+                break;
+            }
+            position = nextPosition;
+        }
+        if (hasMatch) {
+            first = matched[0];
+            last = matched[1];
+        }
+        return hasMatch;
+    }
+
+    /**
+     * Skips the positions where no match can start when there are no threads left, returning the input length, or
+     * the start limit if smaller, if there are none.
+     */
+    private int nextCandidate(int position) {
+        int[] first = program.firstInstructions;
+        if (first == null || program.anchoredAtBeginning) {
+            return position;
+        }
+        int end = Math.min(length, startLimit);
+        while (position < end) {
+            int codePoint = Character.codePointAt(input, position);
+            for (int pc : first) {
+                if (consumes(program.opcodes[pc], pc, codePoint)) {
+                    return position;
+                }
+            }
+            position += Character.charCount(codePoint);
+        }
+        return position;
+    }
+
+    private boolean consumes(int opcode, int pc, int codePoint) {
+        switch (opcode) {
+            case Program.CHAR:
+                return program.arguments[pc] == codePoint;
+            case Program.CLASS:
+                return program.classes[program.arguments[pc]].matches(codePoint);
+            case Program.ANY:
+                return true;
+            case Program.ANY_EXCEPT_LINE_TERMINATOR:
+                return !isLineTerminator(codePoint);
+            default:
+                return codePoint != '\n';
+        }
+    }
+
+    /**
+     * Adds the thread at the given instruction and all the threads reachable from it without consuming input,
+     * in priority order, starting from the captures in the scratch array.
+     */
+    private void addThread(ThreadList threads, int startPc, int position) {
+        int top = 0;
+        stack[top++] = startPc;
+        while (top > 0) {
+            int entry = stack[--top];
+            if (entry < 0) {
+                // Restores a capture slot overwritten by a SAVE once all the threads after it are added.
+                scratch[-entry - 1] = stack[--top];
+                continue;
+            }
+            int pc = entry;
+            int state = state(pc, position);
+            if (threads.contains(state)) {
+                continue;
+            }
+            threads.add(state);
+            switch (program.opcodes[pc]) {
+                case Program.JUMP:
+                    top = push(top, program.arguments[pc]);
+                    break;
+                case Program.SPLIT:
+                    top = push(top, program.alternatives[pc]);
+                    top = push(top, program.arguments[pc]);
+                    break;
+                case Program.SAVE:
+                    int slot = program.arguments[pc];
+                    top = push(top, scratch[slot]);
+                    top = push(top, -slot - 1);
+                    scratch[slot] = position;
+                    top = push(top, pc + 1);
+                    break;
+                case Program.EMPTY_CHECK:
+                    top = push(top, scratch[program.arguments[pc]] == position ? program.alternatives[pc]
+                            : pc + 1);
+                    break;
+                case Program.ASSERT:
+                    if (holds(program.arguments[pc], position)) {
+                        top = push(top, pc + 1);
+                    }
+                    break;
+                default:
+                    threads.setCaptures(state, scratch);
+            }
+        }
+    }
+
+    /**
+     * Identifies the thread at the instruction by the number of enclosing repetitions whose current iteration has not
+     * consumed input yet, as only that part of their registers affects the matches reachable from it. Inner
+     * iterations start after outer ones, so such repetitions are always the innermost ones.
+     */
+    private int state(int pc, int position) {
+        int[] registers = program.enclosingRegisters[pc];
+        int empty = 0;
+        for (int i = registers.length - 1; i >= 0 && scratch[registers[i]] == position; i--) {
+            empty++;
+        }
+        return pc * program.statesPerInstruction + empty;
+    }
+
+    private int push(int top, int value) {
+        if (top == stack.length) {
+            stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top] = value;
+        return top + 1;
+    }
+
+    private boolean holds(int assertion, int position) {
+        if (partial && assertion != Program.BEGIN_INPUT && position >= length - 2) {
+            // Assertions may look up to two chars ahead, which the following input may change.
+            pending(scratch[0]);
+            return false;
+        }
+        switch (assertion) {
+            case Program.BEGIN_INPUT:
+                return position == 0;
+            case Program.BEGIN_LINE:
+                if (position == length) {
+                    return false;
+                }
+                if (position > 0) {
+                    char previous = input.charAt(position - 1);
+                    return isLineTerminator(previous) && !(previous == '\r' && input.charAt(position) == '\n');
+                }
+                return true;
+            case Program.UNIX_BEGIN_LINE:
+                return position < length && (position == 0 || input.charAt(position - 1) == '\n');
+            case Program.END_INPUT:
+                return position == length;
+            case Program.END_INPUT_OR_FINAL_TERMINATOR:
+                return isEndOfLine(position, false);
+            case Program.END_LINE:
+                return isEndOfLine(position, true);
+            case Program.UNIX_END_INPUT_OR_FINAL_TERMINATOR:
+                return position == length || position == length - 1 && input.charAt(position) == '\n';
+            case Program.UNIX_END_LINE:
+                return position == length || input.charAt(position) == '\n';
+            case Program.WORD_BOUNDARY:
+                return isWordBoundary(position);
+            default:
+                return !isWordBoundary(position);
+        }
+    }
+
+    private void pending(int start) {
+        if (pendingStart < 0 || start < pendingStart) {
+            pendingStart = start;
+        }
+    }
+
+    /**
+     * Follows the semantics of `$` in {@link java.util.regex.Pattern}, where a `\r\n` pair is a single terminator.
+     */
+    private boolean isEndOfLine(int position, boolean multiline) {
+        if (!multiline) {
+            if (position < length - 2) {
+                return false;
+            }
+            if (position == length - 2 && (input.charAt(position) != '\r' || input.charAt(position + 1) != '\n')) {
+                return false;
+            }
+        }
+        if (position < length) {
+            char c = input.charAt(position);
+            if (c == '\n') {
+                return !(position > 0 && input.charAt(position - 1) == '\r');
+            }
+            return isLineTerminator(c);
+        }
+        return true;
+    }
+
+    private boolean isWordBoundary(int position) {
+        boolean left = position > 0 && isWord(Character.codePointBefore(input, position), position - 1);
+        boolean right = position < length && isWord(Character.codePointAt(input, position), position);
+        return left != right;
+    }
+
+    private boolean isWord(int codePoint, int index) {
+        if (codePoint == '_' || Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+            return false;
+        }
+        // A combining mark is part of the word of its base character.
+        for (int i = index; i >= 0; i--) {
+            int c = Character.codePointAt(input, i);
+            if (Character.isLetterOrDigit(c)) {
+                return true;
+            }
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+    }
+
+    /**
+     * Sparse set of thread states with the captures of the thread in each one.
+     */
+    private static final class ThreadList {
+        private final int[] dense;
+        private final int[] sparse;
+        private final int[] captures;
+        private final int slotCount;
+        private int size;
+
+        ThreadList(int stateCount, int slotCount) {
+            this.dense = new int[stateCount];
+            this.sparse = new int[stateCount];
+            this.captures = new int[stateCount * slotCount];
+            this.slotCount = slotCount;
+        }
+
+        boolean contains(int state) {
+            int index = sparse[state];
+            return index < size && dense[index] == state;
+        }
+
+        void add(int state) {
+            sparse[state] = size;
+            dense[size++] = state;
+        }
+
+        void setCaptures(int state, int[] values) {
+            System.arraycopy(values, 0, captures, state * slotCount, slotCount);
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
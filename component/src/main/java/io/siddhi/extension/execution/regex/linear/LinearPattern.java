@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Regex compiled for the linear time engine, an alternative to {@link Pattern} that cannot backtrack
+ * catastrophically on untrusted input.
+ *
+ * Only the regular subset of the {@link Pattern} syntax is supported: back references, look-arounds, atomic groups,
+ * possessive quantifiers, inline flags, unicode property classes, nested classes and the COMMENTS, CANON_EQ and
+ * UNICODE_CHARACTER_CLASS flags are rejected with an {@link UnsupportedRegexException}. For the supported subset the
+ * matches and groups are the same as those of {@link Pattern}.
+ */
+public final class LinearPattern {
+
+    private final String regex;
+    private final int flags;
+    private final RegexNode root;
+    private final Program program;
+    private final int groupCount;
+    private final Map<String, Integer> groupNames;
+    private final ThreadLocal<LinearMatcher> matchers;
+
+    private LinearPattern(String regex, int flags, RegexParser.Result result) {
+        this.regex = regex;
+        this.flags = flags;
+        this.root = result.root;
+        this.groupCount = result.groupCount;
+        this.groupNames = result.groupNames;
+        Program.Builder builder = new Program.Builder();
+        builder.emit(Program.SAVE, 0, 0);
+        root.compile(builder);
+        builder.emit(Program.SAVE, 1, 0);
+        builder.emit(Program.MATCH, 0, 0);
+        this.program = builder.build(groupCount);
+        this.matchers = ThreadLocal.withInitial(() -> new LinearMatcher(this, program, ""));
+    }
+
+    public static LinearPattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Compiles the regex for the linear engine.
+     *
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     * @throws UnsupportedRegexException              if the regex uses constructs the linear engine does not support
+     */
+    public static LinearPattern compile(String regex, int flags) {
+        Pattern.compile(regex, flags);
+        RegexParser.Result result = new RegexParser.Result();
+        RegexParser.parse(regex, flags, result);
+        return new LinearPattern(regex, flags, result);
+    }
+
+    /**
+     * Returns whether the regex is valid and can be compiled for the linear engine.
+     */
+    public static boolean isSupported(String regex, int flags) {
+        try {
+            compile(regex, flags);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new matcher for the input.
+     */
+    public LinearMatcher matcher(CharSequence input) {
+        return new LinearMatcher(this, program, input);
+    }
+
+    /**
+     * Returns the matcher of the calling thread, reset with the input. The matcher is only valid until the next call
+     * from the same thread, and it keeps referencing the input until then.
+     */
+    public LinearMatcher reusableMatcher(CharSequence input) {
+        return matchers.get().reset(input);
+    }
+
+    /**
+     * Returns whether the input contains a match starting at or after the given index, using the matcher of the
+     * calling thread. Faster than {@link LinearMatcher#find(int)} as it stops at the first match reached.
+     */
+    public boolean find(CharSequence input, int start) {
+        if (start < 0 || start > input.length()) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        return matchers.get().reset(input).test(start, LinearMatcher.FIND);
+    }
+
+    /**
+     * Returns whether the input contains a match starting at or after the given index and before the given limit,
+     * using the matcher of the calling thread.
+     */
+    public boolean find(CharSequence input, int start, int startLimit) {
+        if (start < 0 || start > input.length()) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        return matchers.get().reset(input).limitStarts(startLimit).test(start, LinearMatcher.FIND);
+    }
+
+    /**
+     * Returns whether the entire input matches, using the matcher of the calling thread.
+     */
+    public boolean matches(CharSequence input) {
+        return matchers.get().reset(input).test(0, LinearMatcher.MATCHES);
+    }
+
+    /**
+     * Returns whether a prefix of the input matches, using the matcher of the calling thread.
+     */
+    public boolean lookingAt(CharSequence input) {
+        return matchers.get().reset(input).test(0, LinearMatcher.LOOKING_AT);
+    }
+
+    public String pattern() {
+        return regex;
+    }
+
+    public int flags() {
+        return flags;
+    }
+
+    public int groupCount() {
+        return groupCount;
+    }
+
+    public Map<String, Integer> groupNames() {
+        return groupNames;
+    }
+
+    /**
+     * Returns the maximum number of chars a match can span, or -1 when matches are unbounded.
+     */
+    public int maxMatchLength() {
+        return root.maxLength();
+    }
+
+    RegexNode root() {
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+}
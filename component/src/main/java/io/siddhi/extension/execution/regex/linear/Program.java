@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Instructions of a compiled regex, executed by the {@link LinearMatcher} as a Pike VM: all the threads of the
+ * non deterministic automaton advance over the input in lock step, in priority order, so that each input char is
+ * examined once per instruction at most.
+ */
+final class Program {
+
+    static final int CHAR = 0;
+    static final int CLASS = 1;
+    static final int ANY = 2;
+    static final int ANY_EXCEPT_LINE_TERMINATOR = 3;
+    static final int ANY_EXCEPT_NEWLINE = 4;
+    static final int SPLIT = 5;
+    static final int JUMP = 6;
+    static final int SAVE = 7;
+    static final int ASSERT = 8;
+    static final int MATCH = 9;
+    static final int EMPTY_CHECK = 10;
+
+    /**
+     * Placeholder for a SAVE into a register, resolved to the slot after the group slots once the group count is
+     * known.
+     */
+    static final int REGISTER_SAVE = 11;
+
+    static final int BEGIN_INPUT = 0;
+    static final int BEGIN_LINE = 1;
+    static final int UNIX_BEGIN_LINE = 2;
+    static final int END_INPUT = 3;
+    static final int END_INPUT_OR_FINAL_TERMINATOR = 4;
+    static final int UNIX_END_INPUT_OR_FINAL_TERMINATOR = 5;
+    static final int END_LINE = 6;
+    static final int UNIX_END_LINE = 7;
+    static final int WORD_BOUNDARY = 8;
+    static final int NOT_WORD_BOUNDARY = 9;
+
+    static final int MAX_SIZE = 20000;
+
+    final int[] opcodes;
+    final int[] arguments;
+    final int[] alternatives;
+    final CharClass[] classes;
+    final int size;
+    final int slotCount;
+    /**
+     * Slots of the registers of the repetitions enclosing each instruction, from the outermost to the innermost.
+     */
+    final int[][] enclosingRegisters;
+    /**
+     * Number of thread states kept per instruction: one for each count of enclosing repetitions whose current
+     * iteration has not consumed any input yet, plus one for none.
+     */
+    final int statesPerInstruction;
+    /**
+     * Whether all matches start at the beginning of the input.
+     */
+    final boolean anchoredAtBeginning;
+    /**
+     * The instructions that can consume the first char of a match, or null if a match can be empty.
+     */
+    final int[] firstInstructions;
+
+    private Program(Builder builder, int groupSlots) {
+        this.size = builder.size;
+        this.opcodes = Arrays.copyOf(builder.opcodes, size);
+        this.arguments = Arrays.copyOf(builder.arguments, size);
+        this.alternatives = Arrays.copyOf(builder.alternatives, size);
+        this.classes = builder.classes.toArray(new CharClass[0]);
+        this.slotCount = groupSlots + builder.registerCount;
+        this.enclosingRegisters = new int[size][];
+        int maxDepth = 0;
+        for (int pc = 0; pc < size; pc++) {
+            if (opcodes[pc] == REGISTER_SAVE) {
+                opcodes[pc] = SAVE;
+                arguments[pc] += groupSlots;
+            } else if (opcodes[pc] == EMPTY_CHECK) {
+                arguments[pc] += groupSlots;
+            }
+            int[] registers = builder.enclosingRegisters[pc].clone();
+            for (int i = 0; i < registers.length; i++) {
+                registers[i] += groupSlots;
+            }
+            enclosingRegisters[pc] = registers;
+            maxDepth = Math.max(maxDepth, registers.length);
+        }
+        this.statesPerInstruction = maxDepth + 1;
+        this.anchoredAtBeginning = reachable(true).isEmpty();
+        List<Integer> first = reachable(false);
+        this.firstInstructions = first.contains(-1) ? null : first.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the consuming instructions reachable from the start without consuming input, with -1 standing for
+     * MATCH. Assertions are assumed to hold, unless asked to stop at those anchoring to the beginning of the input.
+     */
+    private List<Integer> reachable(boolean stopAtBeginInput) {
+        List<Integer> found = new ArrayList<>();
+        boolean[] visited = new boolean[size];
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(0);
+        while (!pending.isEmpty()) {
+            int pc = pending.pop();
+            if (visited[pc]) {
+                continue;
+            }
+            visited[pc] = true;
+            switch (opcodes[pc]) {
+                case SPLIT:
+                case EMPTY_CHECK:
+                    pending.push(alternatives[pc]);
+                    pending.push(opcodes[pc] == SPLIT ? arguments[pc] : pc + 1);
+                    break;
+                case JUMP:
+                    pending.push(arguments[pc]);
+                    break;
+                case SAVE:
+                    pending.push(pc + 1);
+                    break;
+                case ASSERT:
+                    if (!stopAtBeginInput || arguments[pc] != BEGIN_INPUT) {
+                        pending.push(pc + 1);
+                    }
+                    break;
+                case MATCH:
+                    found.add(-1);
+                    break;
+                default:
+                    found.add(pc);
+            }
+        }
+        return found;
+    }
+
+    static boolean consumes(int opcode) {
+        return opcode <= ANY_EXCEPT_NEWLINE;
+    }
+
+    /**
+     * Emits instructions and patches jump targets while a {@link RegexNode} tree is compiled.
+     */
+    static final class Builder {
+        private static final int[] NO_REGISTERS = new int[0];
+
+        private int[] opcodes = new int[64];
+        private int[] arguments = new int[64];
+        private int[] alternatives = new int[64];
+        private int[][] enclosingRegisters = new int[64][];
+        private final List<CharClass> classes = new ArrayList<>();
+        private int[] openRegisters = NO_REGISTERS;
+        private int size;
+        private int registerCount;
+
+        int emit(int opcode, int argument, int alternative) {
+            if (size == MAX_SIZE) {
+                throw new UnsupportedRegexException("Regex expands to more than " + MAX_SIZE +
+                        " instructions, which is not supported by the linear engine");
+            }
+            if (size == opcodes.length) {
+                opcodes = Arrays.copyOf(opcodes, size * 2);
+                arguments = Arrays.copyOf(arguments, size * 2);
+                alternatives = Arrays.copyOf(alternatives, size * 2);
+                enclosingRegisters = Arrays.copyOf(enclosingRegisters, size * 2);
+            }
+            opcodes[size] = opcode;
+            arguments[size] = argument;
+            alternatives[size] = alternative;
+            enclosingRegisters[size] = openRegisters;
+            return size++;
+        }
+
+        int emitClass(CharClass charClass) {
+            classes.add(charClass);
+            return emit(CLASS, classes.size() - 1, 0);
+        }
+
+        void setArgument(int pc, int argument) {
+            arguments[pc] = argument;
+        }
+
+        void setAlternative(int pc, int alternative) {
+            alternatives[pc] = alternative;
+        }
+
+        int arguments(int pc) {
+            return arguments[pc];
+        }
+
+        int next() {
+            return size;
+        }
+
+        /**
+         * Allocates a register, held in the slot after the capture slots of the groups, which is saved and restored
+         * like them. Returns its index counted from the first register.
+         */
+        int newRegister() {
+            return registerCount++;
+        }
+
+        /**
+         * Marks the instructions emitted until the matching {@link #exitRegister()} as depending on the register.
+         */
+        void enterRegister(int register) {
+            openRegisters = Arrays.copyOf(openRegisters, openRegisters.length + 1);
+            openRegisters[openRegisters.length - 1] = register;
+        }
+
+        void exitRegister() {
+            openRegisters = Arrays.copyOf(openRegisters, openRegisters.length - 1);
+        }
+
+        Program build(int groupCount) {
+            return new Program(this, 2 * (groupCount + 1));
+        }
+    }
+}
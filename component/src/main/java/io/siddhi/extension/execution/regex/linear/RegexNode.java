@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Node of the syntax tree of a regex supported by the linear engine.
+ */
+abstract class RegexNode {
+
+    static final int UNBOUNDED = -1;
+
+    /**
+     * Emits the instructions matching this node.
+     */
+    abstract void compile(Program.Builder builder);
+
+    /**
+     * Returns the maximum number of chars a match of this node can span, or {@link #UNBOUNDED}.
+     */
+    abstract int maxLength();
+
+    /**
+     * Returns whether this node can match without consuming any input.
+     */
+    abstract boolean canMatchEmpty();
+
+    /**
+     * Calls the visitor for this node and, depth first, for all the nodes below it.
+     */
+    void accept(Visitor visitor) {
+        visitor.visit(this);
+    }
+
+    interface Visitor {
+        void visit(RegexNode node);
+    }
+
+    static final class Empty extends RegexNode {
+        @Override
+        void compile(Program.Builder builder) {
+        }
+
+        @Override
+        int maxLength() {
+            return 0;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return true;
+        }
+    }
+
+    static final class Literal extends RegexNode {
+        final int codePoint;
+        final CharClass caseInsensitiveClass;
+
+        Literal(int codePoint, CharClass caseInsensitiveClass) {
+            this.codePoint = codePoint;
+            this.caseInsensitiveClass = caseInsensitiveClass;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            if (caseInsensitiveClass != null) {
+                builder.emitClass(caseInsensitiveClass);
+            } else {
+                builder.emit(Program.CHAR, codePoint, 0);
+            }
+        }
+
+        @Override
+        int maxLength() {
+            return Character.charCount(codePoint);
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return false;
+        }
+    }
+
+    static final class CharSet extends RegexNode {
+        final CharClass charClass;
+
+        CharSet(CharClass charClass) {
+            this.charClass = charClass;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            builder.emitClass(charClass);
+        }
+
+        @Override
+        int maxLength() {
+            return charClass.matchesSupplementary() ? 2 : 1;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return false;
+        }
+    }
+
+    static final class AnyChar extends RegexNode {
+        final int opcode;
+
+        AnyChar(int opcode) {
+            this.opcode = opcode;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            builder.emit(opcode, 0, 0);
+        }
+
+        @Override
+        int maxLength() {
+            return 2;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return false;
+        }
+    }
+
+    static final class Assertion extends RegexNode {
+        final int kind;
+
+        Assertion(int kind) {
+            this.kind = kind;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            builder.emit(Program.ASSERT, kind, 0);
+        }
+
+        @Override
+        int maxLength() {
+            return 0;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return true;
+        }
+    }
+
+    static final class Group extends RegexNode {
+        final RegexNode body;
+        final int index;
+
+        Group(RegexNode body, int index) {
+            this.body = body;
+            this.index = index;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            builder.emit(Program.SAVE, 2 * index, 0);
+            body.compile(builder);
+            builder.emit(Program.SAVE, 2 * index + 1, 0);
+        }
+
+        @Override
+        int maxLength() {
+            return body.maxLength();
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return body.canMatchEmpty();
+        }
+
+        @Override
+        void accept(Visitor visitor) {
+            visitor.visit(this);
+            body.accept(visitor);
+        }
+    }
+
+    static final class Concatenation extends RegexNode {
+        final List<RegexNode> items;
+
+        Concatenation(List<RegexNode> items) {
+            this.items = items;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            for (RegexNode item : items) {
+                item.compile(builder);
+            }
+        }
+
+        @Override
+        int maxLength() {
+            long length = 0;
+            for (RegexNode item : items) {
+                int itemLength = item.maxLength();
+                if (itemLength == UNBOUNDED) {
+                    return UNBOUNDED;
+                }
+                length += itemLength;
+            }
+            return length > Integer.MAX_VALUE ? UNBOUNDED : (int) length;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            for (RegexNode item : items) {
+                if (!item.canMatchEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        void accept(Visitor visitor) {
+            visitor.visit(this);
+            for (RegexNode item : items) {
+                item.accept(visitor);
+            }
+        }
+    }
+
+    static final class Alternation extends RegexNode {
+        final List<RegexNode> alternatives;
+
+        Alternation(List<RegexNode> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            // SPLIT l1, next; l1: alt1; JUMP end; next: SPLIT l2, next2; ... ; altN; end:
+            int[] jumps = new int[alternatives.size() - 1];
+            for (int i = 0; i < alternatives.size() - 1; i++) {
+                int split = builder.emit(Program.SPLIT, 0, 0);
+                builder.setArgument(split, builder.next());
+                alternatives.get(i).compile(builder);
+                jumps[i] = builder.emit(Program.JUMP, 0, 0);
+                builder.setAlternative(split, builder.next());
+            }
+            alternatives.get(alternatives.size() - 1).compile(builder);
+            for (int jump : jumps) {
+                builder.setArgument(jump, builder.next());
+            }
+        }
+
+        @Override
+        int maxLength() {
+            int length = 0;
+            for (RegexNode alternative : alternatives) {
+                int alternativeLength = alternative.maxLength();
+                if (alternativeLength == UNBOUNDED) {
+                    return UNBOUNDED;
+                }
+                length = Math.max(length, alternativeLength);
+            }
+            return length;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            for (RegexNode alternative : alternatives) {
+                if (alternative.canMatchEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void accept(Visitor visitor) {
+            visitor.visit(this);
+            for (RegexNode alternative : alternatives) {
+                alternative.accept(visitor);
+            }
+        }
+    }
+
+    static final class Repetition extends RegexNode {
+        final RegexNode body;
+        final int min;
+        final int max;
+        final boolean greedy;
+        private final boolean groupUnwrapped;
+
+        Repetition(RegexNode body, int min, int max, boolean greedy) {
+            this(body, min, max, greedy, false);
+        }
+
+        private Repetition(RegexNode body, int min, int max, boolean greedy, boolean groupUnwrapped) {
+            this.body = body;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+            this.groupUnwrapped = groupUnwrapped;
+        }
+
+        @Override
+        void compile(Program.Builder builder) {
+            if (!groupUnwrapped && min == 0 && max != 1 && body instanceof Group && body.maxLength() == 0
+                    && isDeterministic(body)) {
+                // Pattern does not record a zero length capturing group repeated this way, only the groups in it.
+                new Repetition(((Group) body).body, min, max, greedy, true).compile(builder);
+                return;
+            }
+            if (body.canMatchEmpty()) {
+                compileWithEmptyCheck(builder);
+                return;
+            }
+            for (int i = 0; i < min; i++) {
+                body.compile(builder);
+            }
+            if (max == UNBOUNDED) {
+                // loop: SPLIT body, end; body; JUMP loop; end:
+                int loop = builder.emit(Program.SPLIT, 0, 0);
+                int bodyStart = builder.next();
+                body.compile(builder);
+                builder.emit(Program.JUMP, loop, 0);
+                branch(builder, loop, bodyStart, builder.next());
+                return;
+            }
+            // Nested optional copies, (body(body)?)?, all exiting to the same end.
+            int[] splits = new int[max - min];
+            for (int i = 0; i < max - min; i++) {
+                splits[i] = builder.emit(Program.SPLIT, 0, 0);
+                int bodyStart = builder.next();
+                body.compile(builder);
+                builder.setArgument(splits[i], bodyStart);
+            }
+            for (int split : splits) {
+                branch(builder, split, builder.arguments(split), builder.next());
+            }
+        }
+
+        /**
+         * Like {@link Pattern}, stops repeating a body that can match empty as soon as an iteration does not consume
+         * any input, so that an empty iteration ends the repetition even before the minimum count is reached.
+         * Each iteration saves its start in a register which is compared with the position at its end.
+         */
+        private void compileWithEmptyCheck(Program.Builder builder) {
+            int register = builder.newRegister();
+            int copies = max == UNBOUNDED ? min + 1 : max;
+            int[] checks = new int[copies];
+            int[] splits = new int[copies];
+            int loop = -1;
+            for (int i = 0; i < copies; i++) {
+                splits[i] = -1;
+                if (i >= min) {
+                    splits[i] = builder.emit(Program.SPLIT, 0, 0);
+                    loop = splits[i];
+                    builder.setArgument(splits[i], builder.next());
+                }
+                builder.emit(Program.REGISTER_SAVE, register, 0);
+                builder.enterRegister(register);
+                body.compile(builder);
+                checks[i] = builder.emit(Program.EMPTY_CHECK, register, 0);
+                builder.exitRegister();
+            }
+            if (max == UNBOUNDED) {
+                builder.emit(Program.JUMP, loop, 0);
+            }
+            int end = builder.next();
+            for (int i = 0; i < copies; i++) {
+                builder.setAlternative(checks[i], end);
+                if (splits[i] >= 0) {
+                    branch(builder, splits[i], builder.arguments(splits[i]), end);
+                }
+            }
+        }
+
+        private static boolean isDeterministic(RegexNode node) {
+            boolean[] deterministic = {true};
+            node.accept(child -> {
+                if (child instanceof Alternation
+                        || child instanceof Repetition && ((Repetition) child).min != ((Repetition) child).max) {
+                    deterministic[0] = false;
+                }
+            });
+            return deterministic[0];
+        }
+
+        private void branch(Program.Builder builder, int split, int bodyStart, int end) {
+            builder.setArgument(split, greedy ? bodyStart : end);
+            builder.setAlternative(split, greedy ? end : bodyStart);
+        }
+
+        @Override
+        int maxLength() {
+            if (max == UNBOUNDED) {
+                return body.maxLength() == 0 ? 0 : UNBOUNDED;
+            }
+            int bodyLength = body.maxLength();
+            if (bodyLength == UNBOUNDED) {
+                return max == 0 ? 0 : UNBOUNDED;
+            }
+            long length = (long) bodyLength * max;
+            return length > Integer.MAX_VALUE ? UNBOUNDED : (int) length;
+        }
+
+        @Override
+        boolean canMatchEmpty() {
+            return min == 0 || body.canMatchEmpty();
+        }
+
+        @Override
+        void accept(Visitor visitor) {
+            visitor.visit(this);
+            body.accept(visitor);
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.linear;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the subset of the {@link Pattern} syntax that can be matched in linear time into a {@link RegexNode} tree.
+ *
+ * The regex is expected to be already validated by {@link Pattern#compile(String, int)}, so this parser only
+ * reports constructs that the linear engine does not support, such as back references, look-arounds, atomic groups,
+ * possessive quantifiers, inline flags and unicode property classes.
+ */
+final class RegexParser {
+
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.MULTILINE
+            | Pattern.DOTALL | Pattern.UNIX_LINES | Pattern.LITERAL;
+
+    private final String regex;
+    private final int flags;
+    private final int caseMode;
+    private final Map<String, Integer> groupNames = new LinkedHashMap<>();
+    private int position;
+    private int groupCount;
+
+    private RegexParser(String regex, int flags) {
+        this.regex = regex;
+        this.flags = flags;
+        if ((flags & Pattern.CASE_INSENSITIVE) == 0) {
+            caseMode = CharClass.CASE_SENSITIVE;
+        } else if ((flags & Pattern.UNICODE_CASE) == 0) {
+            caseMode = CharClass.ASCII_CASE_INSENSITIVE;
+        } else {
+            caseMode = CharClass.UNICODE_CASE_INSENSITIVE;
+        }
+    }
+
+    static RegexParser parse(String regex, int flags, Result result) {
+        if ((flags & ~SUPPORTED_FLAGS) != 0) {
+            throw new UnsupportedRegexException("Flags " + Integer.toHexString(flags & ~SUPPORTED_FLAGS) +
+                    " are not supported by the linear engine");
+        }
+        RegexParser parser = new RegexParser(regex, flags);
+        if ((flags & Pattern.LITERAL) != 0) {
+            List<RegexNode> literals = new ArrayList<>();
+            for (int i = 0; i < regex.length(); i += Character.charCount(regex.codePointAt(i))) {
+                literals.add(parser.literal(regex.codePointAt(i)));
+            }
+            result.root = new RegexNode.Concatenation(literals);
+        } else {
+            result.root = parser.parseAlternation();
+            if (parser.position < regex.length()) {
+                throw new UnsupportedRegexException("Unexpected '" + regex.charAt(parser.position) +
+                        "' at index " + parser.position);
+            }
+        }
+        result.groupCount = parser.groupCount;
+        result.groupNames = Collections.unmodifiableMap(parser.groupNames);
+        return parser;
+    }
+
+    private RegexNode parseAlternation() {
+        RegexNode first = parseConcatenation();
+        if (!peek('|')) {
+            return first;
+        }
+        List<RegexNode> alternatives = new ArrayList<>();
+        alternatives.add(first);
+        while (peek('|')) {
+            position++;
+            alternatives.add(parseConcatenation());
+        }
+        return new RegexNode.Alternation(alternatives);
+    }
+
+    private RegexNode parseConcatenation() {
+        List<RegexNode> items = new ArrayList<>();
+        while (position < regex.length() && !peek('|') && !peek(')')) {
+            if (regex.startsWith("\\Q", position)) {
+                // A quantifier following a quotation applies only to its last character.
+                List<RegexNode> quoted = parseQuotation();
+                if (quoted.isEmpty()) {
+                    continue;
+                }
+                items.addAll(quoted.subList(0, quoted.size() - 1));
+                items.add(parseQuantifiers(quoted.get(quoted.size() - 1)));
+            } else {
+                items.add(parseQuantifiers(parseAtom()));
+            }
+        }
+        if (items.isEmpty()) {
+            return new RegexNode.Empty();
+        }
+        return items.size() == 1 ? items.get(0) : new RegexNode.Concatenation(items);
+    }
+
+    private List<RegexNode> parseQuotation() {
+        int start = position + 2;
+        int end = regex.indexOf("\\E", start);
+        String quoted = end < 0 ? regex.substring(start) : regex.substring(start, end);
+        position = end < 0 ? regex.length() : end + 2;
+        List<RegexNode> literals = new ArrayList<>();
+        for (int i = 0; i < quoted.length(); i += Character.charCount(quoted.codePointAt(i))) {
+            literals.add(literal(quoted.codePointAt(i)));
+        }
+        return literals;
+    }
+
+    private RegexNode parseQuantifiers(RegexNode atom) {
+        RegexNode node = atom;
+        while (position < regex.length()) {
+            char c = regex.charAt(position);
+            int min;
+            int max;
+            if (c == '*') {
+                min = 0;
+                max = RegexNode.UNBOUNDED;
+                position++;
+            } else if (c == '+') {
+                min = 1;
+                max = RegexNode.UNBOUNDED;
+                position++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                position++;
+            } else if (c == '{') {
+                int end = regex.indexOf('}', position);
+                if (end < 0) {
+                    throw new UnsupportedRegexException("Unclosed repetition at index " + position);
+                }
+                String bounds = regex.substring(position + 1, end);
+                int comma = bounds.indexOf(',');
+                try {
+                    if (comma < 0) {
+                        min = Integer.parseInt(bounds.trim());
+                        max = min;
+                    } else {
+                        min = Integer.parseInt(bounds.substring(0, comma).trim());
+                        String upper = bounds.substring(comma + 1).trim();
+                        max = upper.isEmpty() ? RegexNode.UNBOUNDED : Integer.parseInt(upper);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new UnsupportedRegexException("Invalid repetition '" + bounds + "' at index " + position);
+                }
+                if (min > Program.MAX_SIZE || max > Program.MAX_SIZE) {
+                    throw new UnsupportedRegexException("Repetition count of '{" + bounds + "}' is too large " +
+                            "for the linear engine");
+                }
+                position = end + 1;
+            } else {
+                return node;
+            }
+            boolean greedy = true;
+            if (peek('?')) {
+                greedy = false;
+                position++;
+            } else if (peek('+')) {
+                throw new UnsupportedRegexException("Possessive quantifiers are not supported by the linear engine");
+            }
+            node = new RegexNode.Repetition(node, min, max, greedy);
+        }
+        return node;
+    }
+
+    private RegexNode parseAtom() {
+        char c = regex.charAt(position);
+        switch (c) {
+            case '(':
+                return parseGroup();
+            case '[':
+                position++;
+                return new RegexNode.CharSet(parseCharacterClass());
+            case '.':
+                position++;
+                if ((flags & Pattern.DOTALL) != 0) {
+                    return new RegexNode.AnyChar(Program.ANY);
+                }
+                return new RegexNode.AnyChar((flags & Pattern.UNIX_LINES) != 0 ? Program.ANY_EXCEPT_NEWLINE
+                        : Program.ANY_EXCEPT_LINE_TERMINATOR);
+            case '^':
+                position++;
+                if ((flags & Pattern.MULTILINE) == 0) {
+                    return new RegexNode.Assertion(Program.BEGIN_INPUT);
+                }
+                return new RegexNode.Assertion((flags & Pattern.UNIX_LINES) != 0 ? Program.UNIX_BEGIN_LINE
+                        : Program.BEGIN_LINE);
+            case '$':
+                position++;
+                if ((flags & Pattern.MULTILINE) == 0) {
+                    return endOfInputOrFinalTerminator();
+                }
+                return new RegexNode.Assertion((flags & Pattern.UNIX_LINES) != 0 ? Program.UNIX_END_LINE
+                        : Program.END_LINE);
+            case '\\':
+                return parseEscape();
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw new UnsupportedRegexException("Dangling quantifier at index " + position);
+            default:
+                int codePoint = regex.codePointAt(position);
+                position += Character.charCount(codePoint);
+                return literal(codePoint);
+        }
+    }
+
+    private RegexNode parseGroup() {
+        position++;
+        int index = -1;
+        if (peek('?')) {
+            position++;
+            char c = position < regex.length() ? regex.charAt(position) : 0;
+            if (c == ':') {
+                position++;
+            } else if (c == '<' && position + 1 < regex.length() && Character.isLetter(regex.charAt(position + 1))) {
+                int end = regex.indexOf('>', position);
+                index = ++groupCount;
+                groupNames.put(regex.substring(position + 1, end), index);
+                position = end + 1;
+            } else if (c == '=' || c == '!' || c == '<') {
+                throw new UnsupportedRegexException("Look-arounds are not supported by the linear engine");
+            } else if (c == '>') {
+                throw new UnsupportedRegexException("Atomic groups are not supported by the linear engine");
+            } else {
+                throw new UnsupportedRegexException("Inline flags are not supported by the linear engine, " +
+                        "pass them as flags instead");
+            }
+        } else {
+            index = ++groupCount;
+        }
+        RegexNode body = parseAlternation();
+        if (!peek(')')) {
+            throw new UnsupportedRegexException("Unclosed group");
+        }
+        position++;
+        return index < 0 ? body : new RegexNode.Group(body, index);
+    }
+
+    private RegexNode parseEscape() {
+        if (position + 1 >= regex.length()) {
+            throw new UnsupportedRegexException("Unexpected end of regex after '\\'");
+        }
+        char c = regex.charAt(position + 1);
+        switch (c) {
+            case 'd':
+            case 'D':
+            case 'w':
+            case 'W':
+            case 's':
+            case 'S':
+                position += 2;
+                return new RegexNode.CharSet(new CharClass.Builder()
+                        .addAll(predefinedClass(c), Character.isUpperCase(c))
+                        .build(false, CharClass.CASE_SENSITIVE));
+            case 'b':
+                position += 2;
+                return new RegexNode.Assertion(Program.WORD_BOUNDARY);
+            case 'B':
+                position += 2;
+                return new RegexNode.Assertion(Program.NOT_WORD_BOUNDARY);
+            case 'A':
+                position += 2;
+                return new RegexNode.Assertion(Program.BEGIN_INPUT);
+            case 'z':
+                position += 2;
+                return new RegexNode.Assertion(Program.END_INPUT);
+            case 'Z':
+                position += 2;
+                return endOfInputOrFinalTerminator();
+            default:
+                return literal(parseEscapedCodePoint());
+        }
+    }
+
+    /**
+     * Parses an escape that stands for a single code point, such as `\t`, `\x41` or `\.`.
+     */
+    private int parseEscapedCodePoint() {
+        char c = regex.charAt(position + 1);
+        position += 2;
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'x':
+                if (peek('{')) {
+                    int end = regex.indexOf('}', position);
+                    int codePoint = Integer.parseInt(regex.substring(position + 1, end), 16);
+                    position = end + 1;
+                    return codePoint;
+                }
+                position += 2;
+                return Integer.parseInt(regex.substring(position - 2, position), 16);
+            case 'u':
+                position += 4;
+                return Integer.parseInt(regex.substring(position - 4, position), 16);
+            case '0':
+                int value = 0;
+                int digits = 0;
+                while (digits < 3 && position < regex.length() && regex.charAt(position) >= '0'
+                        && regex.charAt(position) <= '7') {
+                    int next = value * 8 + (regex.charAt(position) - '0');
+                    if (next > 0377) {
+                        break;
+                    }
+                    value = next;
+                    position++;
+                    digits++;
+                }
+                return value;
+            case 'c':
+                return regex.charAt(position++) ^ 64;
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    throw new UnsupportedRegexException("Escape '\\" + c + "' is not supported by the linear " +
+                            "engine");
+                }
+                return c;
+        }
+    }
+
+    private CharClass parseCharacterClass() {
+        CharClass.Builder builder = new CharClass.Builder();
+        boolean negated = false;
+        if (peek('^')) {
+            negated = true;
+            position++;
+        }
+        boolean first = true;
+        while (true) {
+            if (position >= regex.length()) {
+                throw new UnsupportedRegexException("Unclosed character class");
+            }
+            char c = regex.charAt(position);
+            if (c == ']' && !first) {
+                position++;
+                break;
+            }
+            first = false;
+            if (c == '[' || regex.startsWith("&&", position)) {
+                throw new UnsupportedRegexException("Nested classes and intersections are not supported by the " +
+                        "linear engine");
+            }
+            int from;
+            if (c == '\\') {
+                char escaped = position + 1 < regex.length() ? regex.charAt(position + 1) : 0;
+                if ("dDwWsS".indexOf(escaped) >= 0 && escaped != 0) {
+                    builder.addAll(predefinedClass(escaped), Character.isUpperCase(escaped));
+                    position += 2;
+                    continue;
+                }
+                if (escaped == 'Q') {
+                    throw new UnsupportedRegexException("Quotations in character classes are not supported by " +
+                            "the linear engine");
+                }
+                from = parseEscapedCodePoint();
+            } else {
+                from = regex.codePointAt(position);
+                position += Character.charCount(from);
+            }
+            int to = from;
+            if (peek('-') && position + 1 < regex.length() && regex.charAt(position + 1) != ']') {
+                position++;
+                if (peek('\\')) {
+                    to = parseEscapedCodePoint();
+                } else if (peek('[')) {
+                    throw new UnsupportedRegexException("Nested classes are not supported by the linear engine");
+                } else {
+                    to = regex.codePointAt(position);
+                    position += Character.charCount(to);
+                }
+            }
+            builder.add(from, to);
+        }
+        return builder.build(negated, caseMode);
+    }
+
+    private RegexNode literal(int codePoint) {
+        if (caseMode == CharClass.CASE_SENSITIVE || Character.toUpperCase(codePoint) == codePoint
+                && Character.toLowerCase(codePoint) == codePoint) {
+            return new RegexNode.Literal(codePoint, null);
+        }
+        if (caseMode == CharClass.ASCII_CASE_INSENSITIVE && codePoint > 0x7F) {
+            return new RegexNode.Literal(codePoint, null);
+        }
+        CharClass charClass = new CharClass.Builder().add(codePoint, codePoint).build(false, caseMode);
+        return new RegexNode.Literal(codePoint, charClass);
+    }
+
+    private RegexNode endOfInputOrFinalTerminator() {
+        return new RegexNode.Assertion((flags & Pattern.UNIX_LINES) != 0
+                ? Program.UNIX_END_INPUT_OR_FINAL_TERMINATOR : Program.END_INPUT_OR_FINAL_TERMINATOR);
+    }
+
+    private static int[] predefinedClass(char c) {
+        switch (Character.toLowerCase(c)) {
+            case 'd':
+                return CharClass.DIGIT;
+            case 'w':
+                return CharClass.WORD;
+            default:
+                return CharClass.SPACE;
+        }
+    }
+
+    private boolean peek(char c) {
+        return position < regex.length() && regex.charAt(position) == c;
+    }
+
+    /**
+     * Outcome of parsing a regex.
+     */
+    static final class Result {
+        RegexNode root;
+        int groupCount;
+        Map<String, Integer> groupNames;
+    }
+}
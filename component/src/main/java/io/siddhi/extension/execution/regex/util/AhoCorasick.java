@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton that finds all the occurrences of a set of keywords in a single pass over the input.
+ *
+ * The automaton is immutable once built and can be shared by multiple threads.
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    /**
+     * Builds the automaton for the given keywords. The id of a keyword is its index in the array, and null or empty
+     * keywords are ignored.
+     *
+     * @param keywords keywords to search for
+     */
+    public AhoCorasick(String[] keywords) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> keywordIds = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        keywordIds.add(new ArrayList<>());
+        for (int keywordId = 0; keywordId < keywords.length; keywordId++) {
+            String keyword = keywords[keywordId];
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = trie.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(keyword.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    keywordIds.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            keywordIds.get(node).add(keywordId);
+        }
+
+        int nodeCount = trie.size();
+        labels = new char[nodeCount][];
+        targets = new int[nodeCount][];
+        failures = new int[nodeCount];
+        outputs = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            Map<Character, Integer> transitions = trie.get(node);
+            labels[node] = new char[transitions.size()];
+            targets[node] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                labels[node][i] = transition.getKey();
+                targets[node][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        // Breadth first traversal so that the failure node of each node is complete before its children.
+        outputs[ROOT] = toArray(keywordIds.get(ROOT), NO_OUTPUT);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            outputs[node] = toArray(keywordIds.get(node), outputs[failures[node]]);
+            for (int i = 0; i < labels[node].length; i++) {
+                int child = targets[node][i];
+                int failure = failures[node];
+                int next;
+                while ((next = transition(failure, labels[node][i])) < 0 && failure != ROOT) {
+                    failure = failures[failure];
+                }
+                failures[child] = next < 0 ? ROOT : next;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Scans the input once and marks the ids of all the keywords that occur in it.
+     *
+     * @param input input to be scanned
+     * @param from  index of the input to start scanning from
+     * @param found flags indexed by keyword id, set to true for the keywords found
+     * @return number of keyword occurrences found
+     */
+    public int scan(CharSequence input, int from, boolean[] found) {
+        int occurrences = 0;
+        int node = ROOT;
+        for (int i = from; i < input.length(); i++) {
+            char c = input.charAt(i);
+            int next;
+            while ((next = transition(node, c)) < 0 && node != ROOT) {
+                node = failures[node];
+            }
+            node = next < 0 ? ROOT : next;
+            int[] keywordIds = outputs[node];
+            for (int keywordId : keywordIds) {
+                found[keywordId] = true;
+            }
+            occurrences += keywordIds.length;
+        }
+        return occurrences;
+    }
+
+    private int transition(int node, char c) {
+        int i = Arrays.binarySearch(labels[node], c);
+        return i < 0 ? -1 : targets[node][i];
+    }
+
+    private static int[] toArray(List<Integer> ids, int[] inherited) {
+        if (ids.isEmpty()) {
+            return inherited;
+        }
+        int[] array = new int[ids.size() + inherited.length];
+        for (int i = 0; i < ids.size(); i++) {
+            array[i] = ids.get(i);
+        }
+        System.arraycopy(inherited, 0, array, ids.size(), inherited.length);
+        return array;
+    }
+}
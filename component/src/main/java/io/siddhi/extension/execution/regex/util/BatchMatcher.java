@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates a constant regex over a column of inputs, such as the input sequences of all the events of a chunk,
+ * writing one result per input.
+ *
+ * Evaluating the column in one loop pays for the matcher set up once per batch instead of once per event, and keeps
+ * the regex engine hot over consecutive inputs. Null inputs evaluate to false, or null for groups. An instance is
+ * thread safe as each batch uses its own matcher.
+ */
+public final class BatchMatcher {
+
+    private static final int FIND = 0;
+    private static final int LOOKING_AT = 1;
+    private static final int MATCHES = 2;
+
+    private final Pattern pattern;
+    private final LinearPattern linearPattern;
+    private final LiteralPrefilter literalPrefilter;
+    private final MatchBudget matchBudget;
+    private final String queryName;
+
+    /**
+     * Creates a batch matcher for a constant regex.
+     *
+     * @param pattern          compiled regex
+     * @param linearPattern    regex compiled for the linear engine, or null to match it with {@link Pattern}
+     * @param literalPrefilter prefilter on a literal required by every match of the regex, or null if none
+     * @param matchBudget      budget of each evaluation, or null if evaluations are not bounded
+     * @param queryName        name of the query the batch matcher belongs to, used in log messages
+     */
+    public BatchMatcher(Pattern pattern, LinearPattern linearPattern, LiteralPrefilter literalPrefilter,
+                        MatchBudget matchBudget, String queryName) {
+        this.pattern = pattern;
+        this.linearPattern = linearPattern;
+        this.literalPrefilter = literalPrefilter;
+        this.matchBudget = matchBudget;
+        this.queryName = queryName;
+    }
+
+    /**
+     * Checks whether each input contains a match of the regex, as {@link Matcher#find()}.
+     *
+     * @param inputs  input sequences, of which the first {@code size} are evaluated
+     * @param size    number of inputs to evaluate
+     * @param results array receiving whether each input matches
+     * @return number of inputs that matched
+     */
+    public int find(CharSequence[] inputs, int size, boolean[] results) {
+        return test(inputs, size, results, FIND);
+    }
+
+    /**
+     * Checks whether each input entirely matches the regex, as {@link Matcher#matches()}.
+     *
+     * @param inputs  input sequences, of which the first {@code size} are evaluated
+     * @param size    number of inputs to evaluate
+     * @param results array receiving whether each input matches
+     * @return number of inputs that matched
+     */
+    public int matches(CharSequence[] inputs, int size, boolean[] results) {
+        return test(inputs, size, results, MATCHES);
+    }
+
+    /**
+     * Checks whether a prefix of each input matches the regex, as {@link Matcher#lookingAt()}.
+     *
+     * @param inputs  input sequences, of which the first {@code size} are evaluated
+     * @param size    number of inputs to evaluate
+     * @param results array receiving whether each input matches
+     * @return number of inputs that matched
+     */
+    public int lookingAt(CharSequence[] inputs, int size, boolean[] results) {
+        return test(inputs, size, results, LOOKING_AT);
+    }
+
+    /**
+     * Finds the first match of the regex in each input and returns the subsequence captured by the given group.
+     *
+     * @param inputs  input sequences, of which the first {@code size} are evaluated
+     * @param size    number of inputs to evaluate
+     * @param group   index of the capturing group, 0 for the whole match
+     * @param results array receiving the captured subsequence of each input, or null if it did not match
+     * @return number of inputs that matched
+     * @throws IndexOutOfBoundsException if the regex has no group with the given index
+     */
+    public int group(CharSequence[] inputs, int size, int group, String[] results) {
+        Matcher matcher = linearPattern == null ? pattern.matcher("") : null;
+        int matched = 0;
+        for (int i = 0; i < size; i++) {
+            String result = null;
+            CharSequence source = inputs[i];
+            if (source != null && (literalPrefilter == null || literalPrefilter.mayMatch(source, 0))) {
+                CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+                try {
+                    if (matcher == null) {
+                        LinearMatcher linearMatcher = linearPattern.reusableMatcher(input);
+                        if (linearMatcher.find()) {
+                            result = linearMatcher.group(group);
+                            matched++;
+                        }
+                    } else if (matcher.reset(input).find()) {
+                        result = matcher.group(group);
+                        matched++;
+                    }
+                } catch (MatchBudgetExceededException e) {
+                    matchBudget.onExceeded(pattern.pattern(), queryName, e);
+                }
+            }
+            results[i] = result;
+        }
+        return matched;
+    }
+
+    private int test(CharSequence[] inputs, int size, boolean[] results, int mode) {
+        Matcher matcher = linearPattern == null ? pattern.matcher("") : null;
+        int matched = 0;
+        for (int i = 0; i < size; i++) {
+            boolean result = false;
+            CharSequence source = inputs[i];
+            if (source != null && (literalPrefilter == null || literalPrefilter.mayMatch(source, 0))) {
+                CharSequence input = matchBudget != null ? matchBudget.wrap(source) : source;
+                try {
+                    result = matcher == null ? test(linearPattern, input, mode) : test(matcher.reset(input), mode);
+                } catch (MatchBudgetExceededException e) {
+                    matchBudget.onExceeded(pattern.pattern(), queryName, e);
+                }
+            }
+            if (result) {
+                matched++;
+            }
+            results[i] = result;
+        }
+        return matched;
+    }
+
+    private static boolean test(Matcher matcher, int mode) {
+        switch (mode) {
+            case MATCHES:
+                return matcher.matches();
+            case LOOKING_AT:
+                return matcher.lookingAt();
+            default:
+                return matcher.find();
+        }
+    }
+
+    private static boolean test(LinearPattern linearPattern, CharSequence input, int mode) {
+        switch (mode) {
+            case MATCHES:
+                return linearPattern.matches(input);
+            case LOOKING_AT:
+                return linearPattern.lookingAt(input);
+            default:
+                return linearPattern.find(input, 0);
+        }
+    }
+
+    public Pattern pattern() {
+        return pattern;
+    }
+}
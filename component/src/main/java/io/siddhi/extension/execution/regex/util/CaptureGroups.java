@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the names of the capturing groups of a regex, which {@link Pattern} does not expose before Java 20.
+ */
+public final class CaptureGroups {
+
+    private CaptureGroups() {
+    }
+
+    /**
+     * Returns the names of the capturing groups of the given pattern, indexed by group number. Element zero stands
+     * for the whole match and is always null, as are the elements of groups without a name.
+     *
+     * @param pattern compiled pattern
+     * @return group names, of length {@code groupCount + 1}
+     */
+    public static String[] names(Pattern pattern) {
+        int groupCount = pattern.matcher("").groupCount();
+        String[] names = new String[groupCount + 1];
+        String regex = pattern.pattern();
+        boolean literal = (pattern.flags() & Pattern.LITERAL) != 0;
+        int group = 0;
+        int length = regex.length();
+        int position = 0;
+        while (!literal && position < length) {
+            char c = regex.charAt(position);
+            if (c == '\\') {
+                position = skipEscape(regex, position);
+            } else if (c == '[') {
+                position = skipClass(regex, position);
+            } else if (c == '(') {
+                position++;
+                if (position < length && regex.charAt(position) == '?') {
+                    // Only (?<name>...) captures, as opposed to look-behinds (?<=...) and (?<!...).
+                    if (position + 2 < length && regex.charAt(position + 1) == '<'
+                            && Character.isLetter(regex.charAt(position + 2))) {
+                        int end = regex.indexOf('>', position + 2);
+                        group++;
+                        if (end > 0 && group <= groupCount) {
+                            names[group] = regex.substring(position + 2, end);
+                        }
+                    }
+                } else {
+                    group++;
+                }
+            } else {
+                position++;
+            }
+        }
+        if (group != groupCount) {
+            // The regex uses constructs such as comments that are not tracked here, hence only rely on numbers.
+            return new String[groupCount + 1];
+        }
+        return names;
+    }
+
+    private static int skipEscape(String regex, int position) {
+        if (position + 1 < regex.length() && regex.charAt(position + 1) == 'Q') {
+            int end = regex.indexOf("\\E", position + 2);
+            return end < 0 ? regex.length() : end + 2;
+        }
+        return position + 2;
+    }
+
+    private static int skipClass(String regex, int position) {
+        int length = regex.length();
+        position++;
+        if (position < length && regex.charAt(position) == '^') {
+            position++;
+        }
+        if (position < length && regex.charAt(position) == ']') {
+            // A leading ']' is a literal.
+            position++;
+        }
+        while (position < length) {
+            char c = regex.charAt(position);
+            if (c == '\\') {
+                position = skipEscape(regex, position);
+            } else if (c == '[') {
+                position = skipClass(regex, position);
+            } else if (c == ']') {
+                return position + 1;
+            } else {
+                position++;
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Returns the strings captured by regex groups from a bounded cache of recent values, so that the low cardinality
+ * values typical of extracted fields, such as HTTP methods, status codes or host names, are not copied into a new
+ * {@link String} for every event.
+ *
+ * The cache is a fixed size table indexed by the hash of the value, and a value is looked up by comparing the chars
+ * of the matched region of the input with the cached string, without creating a string first. A value that is not
+ * cached replaces the one in its slot, so the memory used stays bounded whatever the cardinality of the values.
+ * Slots are read and written without locks: a {@link String} is immutable, hence a thread either sees a complete
+ * cached string or misses and creates its own.
+ */
+public final class GroupInterner {
+
+    private final String[] table;
+    private final int mask;
+    private final int maxLength;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param size      minimum number of values cached, rounded up to a power of two
+     * @param maxLength maximum length of the values cached, longer values are unlikely to repeat
+     */
+    public GroupInterner(int size, int maxLength) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.table = new String[Math.max(2, Math.min(capacity, 1 << 30))];
+        this.mask = table.length - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the string of the given region of the input, from the cache when it holds the same value.
+     *
+     * @param input input sequence
+     * @param start index of the first char of the region, or -1 if the group did not participate in the match
+     * @param end   index after the last char of the region
+     * @return string of the region, or null if the start is negative
+     */
+    public String intern(CharSequence input, int start, int end) {
+        if (start < 0) {
+            return null;
+        }
+        int length = end - start;
+        if (length > maxLength) {
+            return input.subSequence(start, end).toString();
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + input.charAt(i);
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String cached = table[slot];
+        if (cached != null && cached.length() == length && regionMatches(cached, input, start)) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        String value = input.subSequence(start, end).toString();
+        table[slot] = value;
+        return value;
+    }
+
+    private static boolean regionMatches(String cached, CharSequence input, int start) {
+        if (input instanceof String) {
+            return ((String) input).regionMatches(start, cached, 0, cached.length());
+        }
+        for (int i = 0; i < cached.length(); i++) {
+            if (cached.charAt(i) != input.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getCapacity() {
+        return table.length;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
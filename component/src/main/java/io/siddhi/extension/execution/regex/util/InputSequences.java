@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the input sequences given to the regex functions into {@link CharSequence}s.
+ *
+ * Besides strings, input sequences can be UTF-8 payloads given as {@code byte[]} or {@link ByteBuffer}
+ * {@code OBJECT} attributes. Payloads that are pure ASCII, which is the common case for logs and protocol messages,
+ * are matched in place through an {@link AsciiCharSequence}. Other payloads are decoded into a
+ * {@link java.nio.CharBuffer}, without creating a {@link String}.
+ */
+public final class InputSequences {
+
+    private InputSequences() {
+    }
+
+    /**
+     * Returns the given input sequence as a {@link CharSequence}.
+     *
+     * @param value a {@link String}, a {@code byte[]} or a {@link ByteBuffer} holding UTF-8 bytes
+     * @return char sequence of the input, or null if the value is none of the supported types
+     */
+    public static CharSequence of(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            if (isAscii(bytes, 0, bytes.length)) {
+                return new AsciiCharSequence(bytes, 0, bytes.length);
+            }
+            return StandardCharsets.UTF_8.decode(ByteBuffer.wrap(bytes));
+        } else if (value instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) value;
+            if (buffer.hasArray()) {
+                int offset = buffer.arrayOffset() + buffer.position();
+                if (isAscii(buffer.array(), offset, buffer.remaining())) {
+                    return new AsciiCharSequence(buffer.array(), offset, buffer.remaining());
+                }
+            } else if (isAscii(buffer)) {
+                return new AsciiCharSequence(buffer, buffer.position(), buffer.remaining());
+            }
+            // Decodes a duplicate, so that the position of the buffer of the event is left untouched.
+            return StandardCharsets.UTF_8.decode(buffer.duplicate());
+        }
+        return null;
+    }
+
+    private static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(ByteBuffer buffer) {
+        for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
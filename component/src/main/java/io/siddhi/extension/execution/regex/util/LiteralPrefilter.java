@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejects inputs that cannot match a regex because they do not contain a literal that every match requires.
+ *
+ * A {@link String#indexOf(String, int)} scan is much cheaper than running the backtracking regex engine over the
+ * input, so inputs that do not contain the literal are rejected without creating a matcher. The number of
+ * evaluated and rejected inputs is counted to show how often the regex engine is skipped.
+ */
+public final class LiteralPrefilter {
+
+    private final String literal;
+    private final LongAdder evaluationCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    private LiteralPrefilter(String literal) {
+        this.literal = literal;
+    }
+
+    /**
+     * Creates a prefilter for the given regex.
+     *
+     * @param regex regular expression
+     * @param flags match flags the regex is compiled with
+     * @return prefilter on the longest literal required by the regex, or null if no literal is required
+     */
+    public static LiteralPrefilter create(String regex, int flags) {
+        String literal = RequiredLiterals.longest(regex, flags);
+        return literal == null || literal.isEmpty() ? null : new LiteralPrefilter(literal);
+    }
+
+    /**
+     * Checks whether the regex may find a match in the input, starting the search at the given index.
+     *
+     * @param input     input sequence
+     * @param fromIndex index of the input the search starts at
+     * @return false if the input certainly does not match, true if it has to be matched by the regex engine
+     */
+    public boolean mayMatch(CharSequence input, int fromIndex) {
+        if (fromIndex < 0 || fromIndex > input.length()) {
+            // Left to the regex engine, which reports invalid indexes.
+            return true;
+        }
+        evaluationCount.increment();
+        if (indexOf(input, fromIndex) < 0) {
+            rejectionCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private int indexOf(CharSequence input, int fromIndex) {
+        if (input instanceof String) {
+            return ((String) input).indexOf(literal, fromIndex);
+        }
+        char first = literal.charAt(0);
+        for (int i = fromIndex, last = input.length() - literal.length(); i <= last; i++) {
+            if (input.charAt(i) == first && regionMatches(input, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(CharSequence input, int index) {
+        for (int i = 1; i < literal.length(); i++) {
+            if (input.charAt(index + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getLiteral() {
+        return literal;
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejectionCount.sum();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time and step budget of a single regex evaluation.
+ *
+ * The input is wrapped in a {@link CharSequence} that counts the chars read by the regex engine and periodically
+ * checks the elapsed time, throwing a {@link MatchBudgetExceededException} once the budget is spent. This bounds
+ * the time a regex that backtracks catastrophically can hold the event flow, whichever engine matches it.
+ */
+public final class MatchBudget {
+
+    /**
+     * Number of chars read between two checks of the budget.
+     */
+    static final int CHECK_INTERVAL = 1024;
+
+    private static final Logger log = LogManager.getLogger(MatchBudget.class);
+
+    private final long timeoutNanos;
+    private final long stepLimit;
+    private final String functionName;
+    private final LongAdder exceededCount = new LongAdder();
+    private final AtomicBoolean warned = new AtomicBoolean();
+    private final ThreadLocal<BudgetedCharSequence> sequences = ThreadLocal.withInitial(BudgetedCharSequence::new);
+
+    public MatchBudget(long timeoutMillis, long stepLimit, String functionName) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.stepLimit = stepLimit;
+        this.functionName = functionName;
+    }
+
+    /**
+     * Wraps the input so that matching it stops once the budget is spent. The returned sequence belongs to the
+     * calling thread and is only valid until its next call.
+     *
+     * @param input input of the evaluation
+     * @return budgeted view of the input
+     */
+    public CharSequence wrap(CharSequence input) {
+        return sequences.get().reset(input, this);
+    }
+
+    /**
+     * Records an evaluation aborted for exceeding the budget. The first one is logged as a warning and the
+     * following ones at debug level, so that a stream of bad events does not flood the logs.
+     *
+     * @param regex     regex of the evaluation
+     * @param queryName name of the query the function belongs to
+     * @param exception the exception signalling that the budget was exceeded
+     */
+    public void onExceeded(String regex, String queryName, MatchBudgetExceededException exception) {
+        exceededCount.increment();
+        if (warned.compareAndSet(false, true)) {
+            log.warn(functionName + " in query '" + queryName + "' aborted matching regex '" + regex + "': " +
+                    exception.getMessage() + ". Further aborted evaluations are logged at debug level.");
+        } else if (log.isDebugEnabled()) {
+            log.debug(functionName + " in query '" + queryName + "' aborted matching regex '" + regex + "': " +
+                    exception.getMessage() + ", " + exceededCount.sum() + " evaluations aborted so far");
+        }
+    }
+
+    public long getExceededCount() {
+        return exceededCount.sum();
+    }
+
+    public long getTimeoutMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+    }
+
+    public long getStepLimit() {
+        return stepLimit;
+    }
+
+    /**
+     * Reusable view of an input which counts the chars read and checks the budget every {@link #CHECK_INTERVAL}
+     * reads.
+     */
+    private static final class BudgetedCharSequence implements CharSequence {
+        private CharSequence delegate;
+        private MatchBudget budget;
+        private long deadline;
+        private long steps;
+        private int untilCheck;
+
+        private BudgetedCharSequence reset(CharSequence delegate, MatchBudget budget) {
+            this.delegate = delegate;
+            this.budget = budget;
+            this.deadline = budget.timeoutNanos > 0 ? System.nanoTime() + budget.timeoutNanos : 0;
+            this.steps = 0;
+            this.untilCheck = CHECK_INTERVAL;
+            return this;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--untilCheck == 0) {
+                check();
+            }
+            return delegate.charAt(index);
+        }
+
+        private void check() {
+            untilCheck = CHECK_INTERVAL;
+            steps += CHECK_INTERVAL;
+            if (budget.stepLimit > 0 && steps >= budget.stepLimit) {
+                throw new MatchBudgetExceededException("step limit of " + budget.stepLimit + " exceeded");
+            }
+            if (deadline != 0 && System.nanoTime() - deadline > 0) {
+                throw new MatchBudgetExceededException("timeout of " + budget.getTimeoutMillis() +
+                        " milliseconds exceeded");
+            }
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return delegate.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
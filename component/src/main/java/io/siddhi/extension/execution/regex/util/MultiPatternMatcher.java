@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches an input against a list of patterns with a single scan of the input as a prefilter.
+ *
+ * The longest literal required by each pattern is added to an {@link AhoCorasick} automaton. One pass of the
+ * automaton over the input finds the patterns whose literal occurs in it, and only those patterns, together with
+ * the patterns without a required literal, are verified with the regex engine. Inputs that contain none of the
+ * literals are rejected without running any pattern.
+ *
+ * Each thread keeps one array of matchers, created lazily for the patterns it verifies, and one array of candidate
+ * flags, under a single {@link ThreadLocal}, so that a matcher holds one thread local entry per thread whatever the
+ * number of its patterns.
+ */
+public final class MultiPatternMatcher {
+
+    private final List<String> regexes;
+    private final Pattern[] patterns;
+    private final AhoCorasick automaton;
+    private final boolean[] alwaysCandidates;
+    private final ThreadLocal<ThreadState> threadStates;
+
+    /**
+     * Creates a matcher for the given regexes, compiling them with the given flags.
+     *
+     * @param regexes regexes, in the order of their indexes
+     * @param flags   match flags as accepted by {@link Pattern#compile(String, int)}
+     * @throws java.util.regex.PatternSyntaxException if a regex is invalid
+     */
+    public MultiPatternMatcher(List<String> regexes, int flags) {
+        this(regexes, compile(regexes, flags));
+    }
+
+    /**
+     * Creates a matcher for the given compiled patterns, which are not added to the {@link PatternCache}.
+     *
+     * @param patterns patterns, in the order of their indexes
+     */
+    public MultiPatternMatcher(List<Pattern> patterns) {
+        this(regexes(patterns), patterns);
+    }
+
+    private MultiPatternMatcher(List<String> regexes, List<Pattern> patterns) {
+        int patternCount = patterns.size();
+        this.regexes = Collections.unmodifiableList(new ArrayList<>(regexes));
+        this.patterns = patterns.toArray(new Pattern[0]);
+        this.alwaysCandidates = new boolean[patternCount];
+        String[] literals = new String[patternCount];
+        boolean hasLiterals = false;
+        for (int i = 0; i < patternCount; i++) {
+            Pattern pattern = patterns.get(i);
+            literals[i] = RequiredLiterals.longest(pattern.pattern(), pattern.flags());
+            if (literals[i] == null) {
+                alwaysCandidates[i] = true;
+            } else {
+                hasLiterals = true;
+            }
+        }
+        this.automaton = hasLiterals ? new AhoCorasick(literals) : null;
+        this.threadStates = ThreadLocal.withInitial(() -> new ThreadState(patternCount));
+    }
+
+    private static List<Pattern> compile(List<String> regexes, int flags) {
+        List<Pattern> patterns = new ArrayList<>(regexes.size());
+        for (String regex : regexes) {
+            patterns.add(PatternCache.getInstance().getPattern(regex, flags));
+        }
+        return patterns;
+    }
+
+    private static List<String> regexes(List<Pattern> patterns) {
+        List<String> regexes = new ArrayList<>(patterns.size());
+        for (Pattern pattern : patterns) {
+            regexes.add(pattern.pattern());
+        }
+        return regexes;
+    }
+
+    /**
+     * Returns the index of the first pattern that finds a match in the input.
+     *
+     * @param input input sequence
+     * @return index of the first matching pattern, or -1 if none of the patterns match
+     */
+    public int findFirst(CharSequence input) {
+        return findFirst(input, null);
+    }
+
+    /**
+     * Returns the index of the first pattern that finds a match in the input, skipping the excluded patterns.
+     *
+     * @param input    input sequence
+     * @param excluded flags indexed by pattern index, true for the patterns to skip, or null to skip none
+     * @return index of the first matching pattern, or -1 if none of the patterns match
+     */
+    public int findFirst(CharSequence input, boolean[] excluded) {
+        ThreadState state = scan(input);
+        boolean[] candidates = state.candidates;
+        for (int i = 0; i < candidates.length; i++) {
+            if (candidates[i] && (excluded == null || !excluded[i]) && state.matcher(patterns, i, input).find()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the indexes of all the patterns that find a match in the input.
+     *
+     * @param input input sequence
+     * @return indexes of the matching patterns in ascending order
+     */
+    public List<Integer> findAll(CharSequence input) {
+        ThreadState state = scan(input);
+        boolean[] candidates = state.candidates;
+        List<Integer> matches = null;
+        for (int i = 0; i < candidates.length; i++) {
+            if (candidates[i] && state.matcher(patterns, i, input).find()) {
+                if (matches == null) {
+                    matches = new ArrayList<>();
+                }
+                matches.add(i);
+            }
+        }
+        return matches == null ? Collections.<Integer>emptyList() : matches;
+    }
+
+    public List<String> getRegexes() {
+        return regexes;
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    private ThreadState scan(CharSequence input) {
+        ThreadState state = threadStates.get();
+        System.arraycopy(alwaysCandidates, 0, state.candidates, 0, alwaysCandidates.length);
+        if (automaton != null) {
+            automaton.scan(input, 0, state.candidates);
+        }
+        return state;
+    }
+
+    /**
+     * Matchers and candidate flags of one thread, indexed by pattern index.
+     */
+    private static final class ThreadState {
+        private final Matcher[] matchers;
+        private final boolean[] candidates;
+
+        private ThreadState(int patternCount) {
+            this.matchers = new Matcher[patternCount];
+            this.candidates = new boolean[patternCount];
+        }
+
+        private Matcher matcher(Pattern[] patterns, int index, CharSequence input) {
+            Matcher matcher = matchers[index];
+            if (matcher == null) {
+                matcher = patterns[index].matcher(input);
+                matchers[index] = matcher;
+                return matcher;
+            }
+            return matcher.reset(input);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the matches of a constant regex in a large input by splitting the input into chunks matched in parallel on
+ * a bounded {@link ForkJoinPool} shared by all the regex extensions of the JVM.
+ *
+ * Only regexes whose matches span a bounded number of chars are split, as each chunk is matched together with the
+ * following chars a match starting in it may span. The chunks are matched with transparent, non anchoring bounds so
+ * that anchors, boundaries and look-arounds see the whole input, which gives the same matches as matching the
+ * input in one go. When a match of a chunk runs into the next one, the next chunk is matched again from the end of
+ * that match until it finds a match of its own, so that the merged matches follow the successive
+ * {@link Matcher#find()} semantics.
+ */
+public final class ParallelFinder {
+
+    private final Pattern pattern;
+    private final LinearPattern linearPattern;
+    private final int maxMatchLength;
+    private final int threshold;
+    private final int chunkSize;
+    private final MatchBudget matchBudget;
+
+    private ParallelFinder(Pattern pattern, LinearPattern linearPattern, int maxMatchLength, int threshold,
+                           int chunkSize, MatchBudget matchBudget) {
+        this.pattern = pattern;
+        this.linearPattern = linearPattern;
+        this.maxMatchLength = maxMatchLength;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+        this.matchBudget = matchBudget;
+    }
+
+    /**
+     * Creates a parallel finder for a constant regex, if its matches span a bounded number of chars.
+     *
+     * @param pattern       compiled regex
+     * @param linearPattern regex compiled for the linear engine, or null to match it with {@link Pattern}
+     * @param threshold     minimum input length, in chars, matched in parallel
+     * @param chunkSize     number of chars at which a chunk may start a match
+     * @param matchBudget   budget of matching each chunk, or null if matching is not bounded
+     * @return parallel finder, or null if the matches of the regex are unbounded
+     */
+    public static ParallelFinder create(Pattern pattern, LinearPattern linearPattern, int threshold, int chunkSize,
+                                        MatchBudget matchBudget) {
+        LinearPattern boundedPattern = linearPattern != null ? linearPattern
+                : PatternCache.getInstance().getLinearPattern(pattern.pattern(), pattern.flags());
+        if (boundedPattern == null || boundedPattern.maxMatchLength() < 0) {
+            return null;
+        }
+        return new ParallelFinder(pattern, linearPattern, boundedPattern.maxMatchLength(), threshold, chunkSize,
+                matchBudget);
+    }
+
+    /**
+     * Checks whether the input is long enough to be matched in parallel.
+     *
+     * @param input input sequence
+     * @return true if the input reaches the threshold
+     */
+    public boolean isParallel(CharSequence input) {
+        return input.length() >= threshold;
+    }
+
+    /**
+     * Checks whether the input contains a match starting at or after the given index, as
+     * {@link Matcher#find(int)}. The chunks stop being matched once one of them finds a match.
+     *
+     * @param input input sequence
+     * @param from  index of the input the search starts at
+     * @return true if the input contains a match
+     * @throws MatchBudgetExceededException if matching a chunk exceeded the budget before a match was found
+     */
+    public boolean find(CharSequence input, int from) {
+        if (from < 0 || from > input.length()) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        List<Chunk> chunks = split(input, from, false);
+        AtomicBoolean found = new AtomicBoolean();
+        for (Chunk chunk : chunks) {
+            chunk.found = found;
+        }
+        Chunks.POOL.invoke(new Chunks(chunks));
+        if (found.get()) {
+            return true;
+        }
+        for (Chunk chunk : chunks) {
+            if (chunk.exceeded != null) {
+                throw chunk.exceeded;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds all the matches of the input, as successive {@link Matcher#find()} calls, and returns the start and end
+     * offsets of each match and of its groups, as {@code [start(0), end(0), start(1), end(1), ...]}.
+     *
+     * @param input   input sequence
+     * @param matches list receiving the offsets of each match, in order
+     * @throws MatchBudgetExceededException if matching a chunk exceeded the budget, in which case the list holds the
+     *                                      matches found before that chunk
+     */
+    public void findAll(CharSequence input, List<int[]> matches) {
+        List<Chunk> chunks = split(input, 0, true);
+        Chunks.POOL.invoke(new Chunks(chunks));
+        int position = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.exceeded != null) {
+                throw chunk.exceeded;
+            }
+            int next = 0;
+            if (position > chunk.start) {
+                // The previous match ran into this chunk, so match it again from the end of that match until
+                // reaching a match found by the chunk, after which the matches of both are the same.
+                Chunk resync = new Chunk(input, position, chunk.end, true);
+                resync.run();
+                if (resync.exceeded != null) {
+                    throw resync.exceeded;
+                }
+                boolean synced = false;
+                for (int[] match : resync.matches) {
+                    while (next < chunk.matches.size() && chunk.matches.get(next)[0] < match[0]) {
+                        next++;
+                    }
+                    if (next < chunk.matches.size() && chunk.matches.get(next)[0] == match[0]) {
+                        synced = true;
+                        break;
+                    }
+                    matches.add(match);
+                    position = match[1];
+                }
+                if (!synced) {
+                    // The matches found again are all the matches of the chunk.
+                    next = chunk.matches.size();
+                }
+            }
+            for (int i = next; i < chunk.matches.size(); i++) {
+                int[] match = chunk.matches.get(i);
+                matches.add(match);
+                position = match[1];
+            }
+        }
+    }
+
+    private List<Chunk> split(CharSequence input, int from, boolean findAll) {
+        int length = input.length();
+        List<Chunk> chunks = new ArrayList<>();
+        int start = from;
+        while (true) {
+            int end = start + chunkSize;
+            if (end >= length) {
+                // Matches may start at the end of the input, such as empty matches.
+                chunks.add(new Chunk(input, start, length + 1, findAll));
+                return chunks;
+            }
+            if (Character.isHighSurrogate(input.charAt(end - 1)) && Character.isLowSurrogate(input.charAt(end))) {
+                // Matches never start inside a surrogate pair, so the pair is kept in one chunk.
+                end++;
+            }
+            chunks.add(new Chunk(input, start, end, findAll));
+            start = end;
+        }
+    }
+
+    public int getMaxMatchLength() {
+        return maxMatchLength;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Part of the input at which matches may start, matched on its own.
+     */
+    private final class Chunk {
+        private final CharSequence input;
+        private final int start;
+        private final int end;
+        private final boolean findAll;
+        private final List<int[]> matches = new ArrayList<>();
+        private AtomicBoolean found;
+        private MatchBudgetExceededException exceeded;
+
+        private Chunk(CharSequence input, int start, int end, boolean findAll) {
+            this.input = input;
+            this.start = start;
+            this.end = end;
+            this.findAll = findAll;
+        }
+
+        private void run() {
+            if (found != null && found.get()) {
+                return;
+            }
+            CharSequence sequence = matchBudget != null ? matchBudget.wrap(input) : input;
+            try {
+                if (linearPattern != null) {
+                    matchLinear(sequence);
+                } else {
+                    match(sequence);
+                }
+            } catch (MatchBudgetExceededException e) {
+                exceeded = e;
+            }
+        }
+
+        private void match(CharSequence sequence) {
+            Matcher matcher = pattern.matcher(sequence)
+                    .region(start, Math.min(sequence.length(), end + maxMatchLength))
+                    .useTransparentBounds(true)
+                    .useAnchoringBounds(false);
+            if (!findAll) {
+                if (matcher.find()) {
+                    found.set(true);
+                }
+                return;
+            }
+            while (matcher.find() && matcher.start() < end) {
+                int[] match = new int[2 * (matcher.groupCount() + 1)];
+                for (int group = 0; group <= matcher.groupCount(); group++) {
+                    match[2 * group] = matcher.start(group);
+                    match[2 * group + 1] = matcher.end(group);
+                }
+                matches.add(match);
+            }
+        }
+
+        private void matchLinear(CharSequence sequence) {
+            if (!findAll) {
+                if (linearPattern.find(sequence, start, end)) {
+                    found.set(true);
+                }
+                return;
+            }
+            LinearMatcher matcher = linearPattern.matcher(sequence);
+            for (boolean hasMatch = matcher.find(start, end); hasMatch; hasMatch = matcher.find()) {
+                int[] match = new int[2 * (matcher.groupCount() + 1)];
+                for (int group = 0; group <= matcher.groupCount(); group++) {
+                    match[2 * group] = matcher.start(group);
+                    match[2 * group + 1] = matcher.end(group);
+                }
+                matches.add(match);
+            }
+        }
+    }
+
+    /**
+     * Matches all the chunks of an input in parallel.
+     */
+    private static final class Chunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        private final transient List<Chunk> chunks;
+
+        private Chunks(List<Chunk> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                tasks.add(ForkJoinTask.adapt(chunk::run));
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.linear.UnsupportedRegexException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Size bounded, least recently used cache of compiled {@link Pattern}s and {@link LinearPattern}s, keyed by the
+ * regex, its compile flags and the engine it is compiled for.
+ *
+ * A single instance is shared by all regex extensions of the JVM so that regexes passed in as event attributes are
+ * compiled once and reused across events, queries and Siddhi apps. The cache is thread safe and keeps hit, miss and
+ * eviction counts for monitoring. Its capacity is the largest one added by the running extensions, falling back to
+ * the capacity it was created with when none is added.
+ */
+public final class PatternCache {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private static final PatternCache INSTANCE = new PatternCache(DEFAULT_CAPACITY);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final Map<Key, Object> patterns;
+    private final TreeMap<Integer, Integer> capacities = new TreeMap<>();
+    private final int defaultCapacity;
+    private volatile int capacity;
+
+    public PatternCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pattern cache capacity should be a positive integer, but found "
+                    + capacity);
+        }
+        this.defaultCapacity = capacity;
+        this.capacity = capacity;
+        this.patterns = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                if (size() > PatternCache.this.capacity) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the pattern cache shared by all the regex extensions.
+     *
+     * @return shared pattern cache
+     */
+    public static PatternCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the compiled pattern of the given regex, compiling and caching it if it is not already cached.
+     * Regexes are cached in their canonical form, so that a regex with leading inline flags shares its pattern with
+     * the same regex given those flags as match flags.
+     *
+     * @param regex regular expression
+     * @param flags match flags as accepted by {@link Pattern#compile(String, int)}
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public Pattern getPattern(String regex, int flags) {
+        return getPattern(regex, flags, null);
+    }
+
+    /**
+     * Returns the compiled pattern of the given regex, as {@link #getPattern(String, int)}, recording the cache hit
+     * or the compilation in the metrics of the calling function.
+     *
+     * @param regex        regular expression
+     * @param flags        match flags as accepted by {@link Pattern#compile(String, int)}
+     * @param regexMetrics metrics of the calling function, or null if statistics are disabled
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public Pattern getPattern(String regex, int flags, RegexMetrics regexMetrics) {
+        Key key = Key.canonical(regex, flags, false);
+        Object pattern = lookup(key, regexMetrics);
+        if (pattern != null) {
+            return (Pattern) pattern;
+        }
+        // Compile outside the lock so that a slow compilation does not block lookups of other regexes.
+        return (Pattern) store(key, Pattern.compile(key.regex, key.flags));
+    }
+
+    /**
+     * Returns the regex compiled for the linear engine, compiling and caching it if it is not already cached.
+     * Regexes the linear engine does not support are cached as such, so that they are only parsed once.
+     *
+     * @param regex regular expression
+     * @param flags match flags as accepted by {@link Pattern#compile(String, int)}
+     * @return compiled pattern, or null if the regex is not supported by the linear engine
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public LinearPattern getLinearPattern(String regex, int flags) {
+        return getLinearPattern(regex, flags, null);
+    }
+
+    /**
+     * Returns the regex compiled for the linear engine, as {@link #getLinearPattern(String, int)}, recording the
+     * cache hit or the compilation in the metrics of the calling function.
+     *
+     * @param regex        regular expression
+     * @param flags        match flags as accepted by {@link Pattern#compile(String, int)}
+     * @param regexMetrics metrics of the calling function, or null if statistics are disabled
+     * @return compiled pattern, or null if the regex is not supported by the linear engine
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public LinearPattern getLinearPattern(String regex, int flags, RegexMetrics regexMetrics) {
+        Object pattern = linearPattern(regex, flags, regexMetrics);
+        return pattern instanceof LinearPattern ? (LinearPattern) pattern : null;
+    }
+
+    /**
+     * Returns the regex compiled for the linear engine, as {@link #getLinearPattern(String, int)}, but reports
+     * regexes the linear engine does not support with the reason.
+     *
+     * @param regex regular expression
+     * @param flags match flags as accepted by {@link Pattern#compile(String, int)}
+     * @return compiled pattern
+     * @throws UnsupportedRegexException if the regex is not supported by the linear engine
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public LinearPattern compileLinearPattern(String regex, int flags) {
+        Object pattern = linearPattern(regex, flags, null);
+        if (pattern instanceof UnsupportedRegexException) {
+            throw (UnsupportedRegexException) pattern;
+        }
+        return (LinearPattern) pattern;
+    }
+
+    private Object linearPattern(String regex, int flags, RegexMetrics regexMetrics) {
+        Key key = Key.canonical(regex, flags, true);
+        Object pattern = lookup(key, regexMetrics);
+        if (pattern == null) {
+            try {
+                pattern = store(key, LinearPattern.compile(key.regex, key.flags));
+            } catch (UnsupportedRegexException e) {
+                pattern = store(key, e);
+            }
+        }
+        return pattern;
+    }
+
+    private Object lookup(Key key, RegexMetrics regexMetrics) {
+        Object pattern;
+        synchronized (patterns) {
+            pattern = patterns.get(key);
+        }
+        if (pattern != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        if (regexMetrics != null) {
+            if (pattern != null) {
+                regexMetrics.cacheHit();
+            } else {
+                regexMetrics.compiled();
+            }
+        }
+        return pattern;
+    }
+
+    private Object store(Key key, Object pattern) {
+        synchronized (patterns) {
+            Object existing = patterns.putIfAbsent(key, pattern);
+            return existing != null ? existing : pattern;
+        }
+    }
+
+    /**
+     * Adds a capacity required by an extension, which is honoured until it is removed with
+     * {@link #removeCapacity(int)}. Each extension may configure its own capacity, and the largest capacity of the
+     * running extensions is honoured.
+     *
+     * @param requiredCapacity minimum number of patterns to be retained
+     */
+    public void addCapacity(int requiredCapacity) {
+        synchronized (patterns) {
+            capacities.merge(requiredCapacity, 1, Integer::sum);
+            updateCapacity();
+        }
+    }
+
+    /**
+     * Removes a capacity added with {@link #addCapacity(int)}, evicting the least recently used patterns if the
+     * largest remaining capacity is smaller.
+     *
+     * @param requiredCapacity minimum number of patterns that was to be retained
+     */
+    public void removeCapacity(int requiredCapacity) {
+        synchronized (patterns) {
+            capacities.computeIfPresent(requiredCapacity,
+                    (added, references) -> references > 1 ? references - 1 : null);
+            updateCapacity();
+        }
+    }
+
+    private void updateCapacity() {
+        capacity = capacities.isEmpty() ? defaultCapacity : capacities.lastKey();
+        Iterator<Object> iterator = patterns.values().iterator();
+        while (patterns.size() > capacity) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public void clear() {
+        synchronized (patterns) {
+            patterns.clear();
+        }
+    }
+
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+        private final boolean linear;
+        private final int hash;
+
+        private Key(String regex, int flags, boolean linear) {
+            this.regex = regex;
+            this.flags = flags;
+            this.linear = linear;
+            this.hash = 31 * (31 * regex.hashCode() + flags) + (linear ? 1 : 0);
+        }
+
+        private static Key canonical(String regex, int flags, boolean linear) {
+            return new Key(RegexFlags.canonicalRegex(regex, flags), RegexFlags.canonicalFlags(regex, flags), linear);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return flags == key.flags && linear == key.linear && regex.equals(key.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
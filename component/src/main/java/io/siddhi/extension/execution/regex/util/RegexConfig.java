@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.extension.holder.ExternalReferencedHolder;
+import io.siddhi.extension.execution.regex.linear.BacktrackingAnalyzer;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.linear.UnsupportedRegexException;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.regex.Pattern;
+
+/**
+ * System parameter names of the regex extensions and helpers to read them from the {@link ConfigReader}.
+ */
+public final class RegexConfig {
+
+    public static final String PATTERN_CACHE_SIZE = "pattern.cache.size";
+    public static final String MATCHER_REUSE = "matcher.reuse";
+    public static final String LITERAL_PREFILTER = "literal.prefilter";
+    public static final String REGEX_ENGINE = "regex.engine";
+    public static final String LINEAR_ENGINE_FALLBACK = "linear.engine.fallback";
+    public static final String MATCH_TIMEOUT = "match.timeout";
+    public static final String MATCH_STEP_LIMIT = "match.step.limit";
+    public static final String PARALLEL_THRESHOLD = "parallel.threshold";
+    public static final String PARALLEL_CHUNK_SIZE = "parallel.chunk.size";
+    public static final String PENDING_LIMIT = "pending.limit";
+    public static final String PROFILE_THRESHOLD = "profile.threshold";
+    public static final String PROFILE_TOP_N = "profile.top.n";
+    public static final String PROFILE_LOG_INTERVAL = "profile.log.interval";
+    public static final String PROFILE_INPUT_EXCERPT = "profile.input.excerpt";
+    public static final String BACKTRACKING_CHECK = "backtracking.check";
+    public static final String BACKTRACKING_MAX_DEGREE = "backtracking.max.degree";
+    public static final String GROUP_INTERN_SIZE = "group.intern.size";
+    public static final String GROUP_INTERN_MAX_LENGTH = "group.intern.max.length";
+    public static final String RESULT_CACHE_SIZE = "result.cache.size";
+    public static final String RESULT_CACHE_MAX_BYTES = "result.cache.max.bytes";
+    public static final String RESULT_CACHE_MAX_INPUT_LENGTH = "result.cache.max.input.length";
+
+    public static final String JDK_ENGINE = "jdk";
+    public static final String LINEAR_ENGINE = "linear";
+    public static final String CHECK_OFF = "off";
+    public static final String CHECK_WARN = "warn";
+    public static final String CHECK_REJECT = "reject";
+
+    private static final Logger log = LogManager.getLogger(RegexConfig.class);
+
+    private RegexConfig() {
+    }
+
+    /**
+     * Returns whether the extension is configured to match with the linear time engine instead of
+     * {@link Pattern}.
+     *
+     * @param configReader config reader of the extension
+     * @param functionName name of the function, used in error messages
+     * @return true if the linear engine is configured
+     */
+    public static boolean isLinearEngine(ConfigReader configReader, String functionName) {
+        String value = configReader.readConfig(REGEX_ENGINE, JDK_ENGINE).trim();
+        if (JDK_ENGINE.equalsIgnoreCase(value)) {
+            return false;
+        } else if (LINEAR_ENGINE.equalsIgnoreCase(value)) {
+            return true;
+        }
+        throw new SiddhiAppValidationException("Invalid value '" + value + "' configured for the system parameter '"
+                + REGEX_ENGINE + "' of " + functionName + " function, required " + JDK_ENGINE + " or "
+                + LINEAR_ENGINE);
+    }
+
+    /**
+     * Returns the shared linear engine pattern of a constant regex. Regexes the engine does not support are matched
+     * with {@link Pattern} when fallback is enabled, and fail the Siddhi app creation otherwise.
+     *
+     * @param regex        constant regex
+     * @param flags        match flags
+     * @param fallback     whether unsupported regexes fall back to {@link Pattern}
+     * @param functionName name of the function, used in log and error messages
+     * @return compiled pattern, or null if the regex falls back to {@link Pattern}
+     */
+    public static LinearPattern initLinearPattern(String regex, int flags, boolean fallback, String functionName) {
+        try {
+            return PatternCache.getInstance().compileLinearPattern(regex, flags);
+        } catch (UnsupportedRegexException e) {
+            if (!fallback) {
+                throw new SiddhiAppValidationException("Regex '" + regex + "' given to " + functionName +
+                        " function is not supported by the " + LINEAR_ENGINE + " engine: " + e.getMessage());
+            }
+            log.warn("Regex '" + regex + "' given to " + functionName + " function is not supported by the " +
+                    LINEAR_ENGINE + " engine, hence matching it with java.util.regex: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Analyzes the time a backtracking engine may spend matching a constant regex, and handles the regexes that can
+     * backtrack exponentially, or polynomially to a higher degree than configured, as configured for the extension:
+     * by logging a warning, by failing the Siddhi app creation, or by matching them with the linear engine. Regexes
+     * the linear engine does not support cannot be analyzed, and are accepted.
+     *
+     * @param configReader config reader of the extension
+     * @param regex        constant regex
+     * @param flags        match flags
+     * @param functionName name of the function, used in log and error messages
+     * @return true if the regex has to be matched with the linear engine
+     */
+    public static boolean checkBacktracking(ConfigReader configReader, String regex, int flags,
+                                            String functionName) {
+        String check = configReader.readConfig(BACKTRACKING_CHECK, CHECK_OFF).trim();
+        if (!CHECK_OFF.equalsIgnoreCase(check) && !CHECK_WARN.equalsIgnoreCase(check)
+                && !CHECK_REJECT.equalsIgnoreCase(check) && !LINEAR_ENGINE.equalsIgnoreCase(check)) {
+            throw new SiddhiAppValidationException("Invalid value '" + check + "' configured for the system " +
+                    "parameter '" + BACKTRACKING_CHECK + "' of " + functionName + " function, required " + CHECK_OFF +
+                    ", " + CHECK_WARN + ", " + CHECK_REJECT + " or " + LINEAR_ENGINE);
+        }
+        int maxDegree = readPositiveInt(configReader, BACKTRACKING_MAX_DEGREE, 3, functionName);
+        if (CHECK_OFF.equalsIgnoreCase(check)) {
+            return false;
+        }
+        BacktrackingAnalyzer.Analysis analysis;
+        try {
+            analysis = BacktrackingAnalyzer.analyze(PatternCache.getInstance().compileLinearPattern(regex, flags));
+        } catch (UnsupportedRegexException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Backtracking of regex '" + regex + "' given to " + functionName + " function is not " +
+                        "analyzed: " + e.getMessage());
+            }
+            return false;
+        }
+        if (analysis == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Backtracking of regex '" + regex + "' given to " + functionName + " function is not " +
+                        "analyzed, as the regex is too large");
+            }
+            return false;
+        }
+        if (analysis.getComplexity() == BacktrackingAnalyzer.Complexity.LINEAR
+                || analysis.getComplexity() == BacktrackingAnalyzer.Complexity.POLYNOMIAL
+                && analysis.getDegree() <= maxDegree) {
+            return false;
+        }
+        String message = "Regex '" + regex + "' given to " + functionName + " function " + analysis.describe();
+        if (CHECK_REJECT.equalsIgnoreCase(check)) {
+            throw new SiddhiAppValidationException(message + ". Rewrite the regex, or configure the system " +
+                    "parameter '" + REGEX_ENGINE + "' as " + LINEAR_ENGINE + " to match it in linear time");
+        } else if (LINEAR_ENGINE.equalsIgnoreCase(check)) {
+            log.info(message + ", hence matching it with the " + LINEAR_ENGINE + " engine");
+            return true;
+        }
+        log.warn(message);
+        return false;
+    }
+
+    /**
+     * Returns the cached linear engine pattern of a regex given as an event attribute. As for constant regexes,
+     * unsupported regexes fall back to {@link Pattern} only when fallback is enabled.
+     *
+     * @param patternCache shared pattern cache
+     * @param regex        regex of the event
+     * @param flags        match flags
+     * @param fallback     whether unsupported regexes fall back to {@link Pattern}
+     * @param regexMetrics metrics of the function, or null if statistics are disabled
+     * @param functionName name of the function, used in error messages
+     * @return compiled pattern, or null if the regex falls back to {@link Pattern}
+     */
+    public static LinearPattern getLinearPattern(PatternCache patternCache, String regex, int flags,
+                                                 boolean fallback, RegexMetrics regexMetrics,
+                                                 String functionName) {
+        LinearPattern linearPattern = patternCache.getLinearPattern(regex, flags, regexMetrics);
+        if (linearPattern == null && !fallback) {
+            throw new SiddhiAppRuntimeException("Regex '" + regex + "' given to " + functionName +
+                    " function is not supported by the " + LINEAR_ENGINE + " engine");
+        }
+        return linearPattern;
+    }
+
+    /**
+     * Reads the pattern cache capacity configured for the extension and makes sure the shared cache holds it until
+     * the Siddhi app shuts down.
+     *
+     * @param configReader       config reader of the extension
+     * @param siddhiQueryContext query context of the function
+     * @param functionName       name of the function, used in error messages
+     * @return the shared pattern cache
+     */
+    public static PatternCache initPatternCache(ConfigReader configReader, SiddhiQueryContext siddhiQueryContext,
+                                                String functionName) {
+        int capacity = readPositiveInt(configReader, PATTERN_CACHE_SIZE, PatternCache.DEFAULT_CAPACITY,
+                functionName);
+        PatternCache patternCache = PatternCache.getInstance();
+        patternCache.addCapacity(capacity);
+        siddhiQueryContext.getSiddhiAppContext().addEternalReferencedHolder(new ExternalReferencedHolder() {
+            @Override
+            public void start() {
+                //Nothing to start
+            }
+
+            @Override
+            public void stop() {
+                patternCache.removeCapacity(capacity);
+            }
+        });
+        return patternCache;
+    }
+
+    /**
+     * Returns a per thread reusable matcher for the given constant pattern, or null when matcher reuse is disabled
+     * for the extension.
+     *
+     * @param configReader config reader of the extension
+     * @param pattern      compiled constant pattern
+     * @param functionName name of the function, used in error messages
+     * @return reusable matcher, or null if matchers should be created per evaluation
+     */
+    public static ReusableMatcher initReusableMatcher(ConfigReader configReader, Pattern pattern,
+                                                      String functionName) {
+        if (readBoolean(configReader, MATCHER_REUSE, true, functionName)) {
+            return new ReusableMatcher(pattern);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the budget of each evaluation configured for the extension, or null when neither a timeout nor a step
+     * limit is configured.
+     *
+     * @param configReader config reader of the extension
+     * @param functionName name of the function, used in log and error messages
+     * @return match budget, or null if evaluations are not bounded
+     */
+    public static MatchBudget initMatchBudget(ConfigReader configReader, String functionName) {
+        long timeoutMillis = readNonNegativeLong(configReader, MATCH_TIMEOUT, 0, functionName);
+        long stepLimit = readNonNegativeLong(configReader, MATCH_STEP_LIMIT, 0, functionName);
+        if (timeoutMillis == 0 && stepLimit == 0) {
+            return null;
+        }
+        return new MatchBudget(timeoutMillis, stepLimit, functionName);
+    }
+
+    /**
+     * Returns the parallel finder of a constant regex when a parallel threshold is configured for the extension, or
+     * null when it is not, or when the matches of the regex are unbounded and cannot be split.
+     *
+     * @param configReader  config reader of the extension
+     * @param pattern       compiled constant pattern
+     * @param linearPattern constant pattern compiled for the linear engine, or null if matched with {@link Pattern}
+     * @param matchBudget   budget of each evaluation, or null if evaluations are not bounded
+     * @param functionName  name of the function, used in log and error messages
+     * @return parallel finder, or null if inputs should be matched on the calling thread
+     */
+    public static ParallelFinder initParallelFinder(ConfigReader configReader, Pattern pattern,
+                                                    LinearPattern linearPattern, MatchBudget matchBudget,
+                                                    String functionName) {
+        long threshold = readNonNegativeLong(configReader, PARALLEL_THRESHOLD, 0, functionName);
+        int chunkSize = readPositiveInt(configReader, PARALLEL_CHUNK_SIZE, 65536, functionName);
+        if (threshold == 0) {
+            return null;
+        }
+        ParallelFinder parallelFinder = ParallelFinder.create(pattern, linearPattern,
+                (int) Math.min(Integer.MAX_VALUE, threshold), chunkSize, matchBudget);
+        if (parallelFinder == null) {
+            log.warn("Regex '" + pattern.pattern() + "' given to " + functionName + " function has matches of " +
+                    "unbounded length, hence matching large inputs on a single thread");
+        }
+        return parallelFinder;
+    }
+
+    /**
+     * Returns the profiler recording the evaluations slower than the threshold configured for the extension, or
+     * null when no threshold is configured. The configured log interval applies until the Siddhi app shuts down.
+     *
+     * @param configReader       config reader of the extension
+     * @param siddhiQueryContext query context of the function
+     * @param functionName       name of the function, used in log and error messages
+     * @return slow evaluation profiler, or null if evaluations are not profiled
+     */
+    public static SlowEvaluationProfiler initSlowEvaluationProfiler(ConfigReader configReader,
+                                                                    SiddhiQueryContext siddhiQueryContext,
+                                                                    String functionName) {
+        long thresholdMillis = readNonNegativeLong(configReader, PROFILE_THRESHOLD, 0, functionName);
+        int topN = readPositiveInt(configReader, PROFILE_TOP_N, SlowEvaluations.DEFAULT_CAPACITY, functionName);
+        long logIntervalMillis = readNonNegativeLong(configReader, PROFILE_LOG_INTERVAL, 0, functionName);
+        boolean inputExcerpt = readBoolean(configReader, PROFILE_INPUT_EXCERPT, false, functionName);
+        if (thresholdMillis == 0) {
+            return null;
+        }
+        SlowEvaluations slowEvaluations = SlowEvaluations.getInstance();
+        slowEvaluations.ensureCapacity(topN);
+        if (logIntervalMillis > 0) {
+            slowEvaluations.addLogInterval(logIntervalMillis);
+            siddhiQueryContext.getSiddhiAppContext().addEternalReferencedHolder(new ExternalReferencedHolder() {
+                @Override
+                public void start() {
+                    //Nothing to start
+                }
+
+                @Override
+                public void stop() {
+                    slowEvaluations.removeLogInterval(logIntervalMillis);
+                }
+            });
+        }
+        return new SlowEvaluationProfiler(slowEvaluations, thresholdMillis, inputExcerpt, functionName,
+                siddhiQueryContext);
+    }
+
+    /**
+     * Returns the cache of the group values returned by the extension, or null when no cache size is configured.
+     *
+     * @param configReader config reader of the extension
+     * @param functionName name of the function, used in error messages
+     * @return group interner, or null if a new string is created for every group value
+     */
+    public static GroupInterner initGroupInterner(ConfigReader configReader, String functionName) {
+        long size = readNonNegativeLong(configReader, GROUP_INTERN_SIZE, 0, functionName);
+        int maxLength = readPositiveInt(configReader, GROUP_INTERN_MAX_LENGTH, 64, functionName);
+        if (size == 0) {
+            return null;
+        }
+        return new GroupInterner((int) Math.min(1 << 30, size), maxLength);
+    }
+
+    /**
+     * Returns the cache of the results of a function with a constant regex, or null when no cache size is
+     * configured for the extension. The cache is exposed as an MBean from the start of the Siddhi app until it
+     * shuts down.
+     *
+     * @param configReader       config reader of the extension
+     * @param siddhiQueryContext query context of the function
+     * @param functionName       name of the function, used in error messages
+     * @return result cache, or null if every evaluation is matched
+     */
+    public static ResultCache initResultCache(ConfigReader configReader, SiddhiQueryContext siddhiQueryContext,
+                                              String functionName) {
+        long size = readNonNegativeLong(configReader, RESULT_CACHE_SIZE, 0, functionName);
+        long maxBytes = readNonNegativeLong(configReader, RESULT_CACHE_MAX_BYTES, 16 * 1024 * 1024, functionName);
+        int maxInputLength = readPositiveInt(configReader, RESULT_CACHE_MAX_INPUT_LENGTH, 1024, functionName);
+        if (size == 0 || maxBytes == 0) {
+            return null;
+        }
+        ResultCache resultCache = new ResultCache((int) Math.min(Integer.MAX_VALUE, size), maxBytes, maxInputLength);
+        siddhiQueryContext.getSiddhiAppContext().addEternalReferencedHolder(new ExternalReferencedHolder() {
+            @Override
+            public void start() {
+                resultCache.register(siddhiQueryContext.getSiddhiAppContext().getName(),
+                        siddhiQueryContext.getName(), functionName);
+            }
+
+            @Override
+            public void stop() {
+                resultCache.unregister();
+            }
+        });
+        return resultCache;
+    }
+
+    public static boolean readBoolean(ConfigReader configReader, String name, boolean defaultValue,
+                                      String functionName) {
+        String value = configReader.readConfig(name, String.valueOf(defaultValue)).trim();
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new SiddhiAppValidationException("Invalid value '" + value + "' configured for the system parameter '"
+                + name + "' of " + functionName + " function, required true or false");
+    }
+
+    public static int readPositiveInt(ConfigReader configReader, String name, int defaultValue,
+                                      String functionName) {
+        String value = configReader.readConfig(name, String.valueOf(defaultValue));
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, as for non positive values.
+        }
+        throw new SiddhiAppValidationException("Invalid value '" + value + "' configured for the system parameter '"
+                + name + "' of " + functionName + " function, required a positive integer");
+    }
+
+    public static long readNonNegativeLong(ConfigReader configReader, String name, long defaultValue,
+                                           String functionName) {
+        String value = configReader.readConfig(name, String.valueOf(defaultValue));
+        try {
+            long longValue = Long.parseLong(value.trim());
+            if (longValue >= 0) {
+                return longValue;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, as for negative values.
+        }
+        throw new SiddhiAppValidationException("Invalid value '" + value + "' configured for the system parameter '"
+                + name + "' of " + functionName + " function, required a non negative integer");
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the flags parameter of the regex functions, and brings regexes to a canonical form in which the inline
+ * flags leading the regex, such as {@code (?i)}, are given as match flags instead.
+ *
+ * The canonical form lets {@code (?i)wso2} and {@code wso2} with {@link Pattern#CASE_INSENSITIVE} share one compiled
+ * pattern, and lets the linear engine, which does not support inline flags, match such regexes.
+ */
+public final class RegexFlags {
+
+    public static final String CASE_INSENSITIVE = "CASE_INSENSITIVE";
+    public static final String MULTILINE = "MULTILINE";
+    public static final String DOTALL = "DOTALL";
+    public static final String UNICODE_CASE = "UNICODE_CASE";
+    public static final String LITERAL = "LITERAL";
+
+    private RegexFlags() {
+    }
+
+    /**
+     * Parses the flags given to a function as a constant string of flag names separated by {@code |}, such as
+     * {@code 'CASE_INSENSITIVE|DOTALL'}.
+     *
+     * @param executor     executor of the flags parameter
+     * @param position     position of the parameter, used in error messages
+     * @param functionName name of the function, used in error messages
+     * @return match flags as accepted by {@link Pattern#compile(String, int)}
+     */
+    public static int parse(ExpressionExecutor executor, String position, String functionName) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for the " + position + " argument of " +
+                    functionName + " function, required a constant " + Attribute.Type.STRING + " of flags");
+        }
+        String value = (String) ((ConstantExpressionExecutor) executor).getValue();
+        int flags = 0;
+        if (value == null) {
+            return flags;
+        }
+        for (String name : value.split("[|,\\s]+")) {
+            switch (name.toUpperCase(Locale.ENGLISH)) {
+                case "":
+                    break;
+                case CASE_INSENSITIVE:
+                    flags |= Pattern.CASE_INSENSITIVE;
+                    break;
+                case MULTILINE:
+                    flags |= Pattern.MULTILINE;
+                    break;
+                case DOTALL:
+                    flags |= Pattern.DOTALL;
+                    break;
+                case UNICODE_CASE:
+                    flags |= Pattern.UNICODE_CASE;
+                    break;
+                case LITERAL:
+                    flags |= Pattern.LITERAL;
+                    break;
+                default:
+                    throw new SiddhiAppValidationException("Invalid flag '" + name + "' given to " + functionName +
+                            " function, required " + CASE_INSENSITIVE + ", " + MULTILINE + ", " + DOTALL + ", " +
+                            UNICODE_CASE + " or " + LITERAL);
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Returns the regex without its leading inline flags.
+     *
+     * @param regex regular expression
+     * @param flags match flags the regex is compiled with
+     * @return canonical regex
+     */
+    public static String canonicalRegex(String regex, int flags) {
+        int end = leadingFlagsEnd(regex, flags);
+        return end == 0 ? regex : regex.substring(end);
+    }
+
+    /**
+     * Returns the match flags with the leading inline flags of the regex applied.
+     *
+     * @param regex regular expression
+     * @param flags match flags the regex is compiled with
+     * @return canonical match flags
+     */
+    public static int canonicalFlags(String regex, int flags) {
+        int end = leadingFlagsEnd(regex, flags);
+        int position = 0;
+        while (position < end) {
+            // Skips "(?".
+            position += 2;
+            boolean negated = false;
+            for (char c = regex.charAt(position); c != ')'; c = regex.charAt(++position)) {
+                if (c == '-') {
+                    negated = true;
+                } else if (negated) {
+                    flags &= ~flag(c);
+                } else {
+                    flags |= flag(c);
+                }
+            }
+            position++;
+        }
+        return flags;
+    }
+
+    /**
+     * Returns the end of the flag groups, such as {@code (?i)} or {@code (?s-m)}, the regex starts with.
+     */
+    private static int leadingFlagsEnd(String regex, int flags) {
+        if ((flags & Pattern.LITERAL) != 0) {
+            return 0;
+        }
+        int end = 0;
+        while (regex.startsWith("(?", end)) {
+            int position = end + 2;
+            boolean negated = false;
+            boolean hasFlag = false;
+            while (position < regex.length()) {
+                char c = regex.charAt(position);
+                if (c == '-' && !negated) {
+                    negated = true;
+                } else if (c == ')' || flag(c) == 0) {
+                    break;
+                } else {
+                    hasFlag = true;
+                }
+                position++;
+            }
+            if (!hasFlag || position == regex.length() || regex.charAt(position) != ')') {
+                // A group with flags, such as (?i:wso2), or another construct.
+                break;
+            }
+            end = position + 1;
+        }
+        return end;
+    }
+
+    private static int flag(char c) {
+        switch (c) {
+            case 'd':
+                return Pattern.UNIX_LINES;
+            case 'i':
+                return Pattern.CASE_INSENSITIVE;
+            case 'm':
+                return Pattern.MULTILINE;
+            case 's':
+                return Pattern.DOTALL;
+            case 'u':
+                return Pattern.UNICODE_CASE;
+            case 'x':
+                return Pattern.COMMENTS;
+            case 'U':
+                return Pattern.UNICODE_CHARACTER_CLASS | Pattern.UNICODE_CASE;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.util.SiddhiConstants;
+import io.siddhi.core.util.parser.helper.QueryParserHelper;
+import io.siddhi.core.util.statistics.LatencyTracker;
+import io.siddhi.core.util.statistics.ThroughputTracker;
+import io.siddhi.core.util.statistics.metrics.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Siddhi statistics of the evaluations of a regex function.
+ *
+ * The trackers are created through the statistics manager of the Siddhi app, next to its query throughput and
+ * latency trackers, and are only updated while the metrics level of the app is at least {@link Level#BASIC}. A
+ * function of an app without statistics holds no metrics at all, and pays a single null check per evaluation.
+ * Evaluations, matches, aborted evaluations, compilations, pattern cache hits and result cache hits are counted as
+ * throughput, so that the hit ratio is the match rate over the evaluation rate, and the latency tracker reports the
+ * evaluation latency percentiles. Functions of a constant regex report under a label of the regex, logged when the
+ * metrics are created, so that the slow regex of a query can be told apart.
+ */
+public final class RegexMetrics {
+
+    private static final Logger log = LogManager.getLogger(RegexMetrics.class);
+
+    private final SiddhiAppContext siddhiAppContext;
+    private final String name;
+    private final LatencyTracker latencyTracker;
+    private final ThroughputTracker evaluationTracker;
+    private final ThroughputTracker matchTracker;
+    private final ThroughputTracker abortTracker;
+    private final ThroughputTracker compileTracker;
+    private final ThroughputTracker cacheHitTracker;
+    private final ThroughputTracker resultCacheHitTracker;
+
+    private RegexMetrics(SiddhiAppContext siddhiAppContext, String queryName, String name) {
+        this.siddhiAppContext = siddhiAppContext;
+        this.name = name;
+        latencyTracker = QueryParserHelper.createLatencyTracker(siddhiAppContext, queryName,
+                SiddhiConstants.METRIC_INFIX_QUERIES, name);
+        evaluationTracker = throughputTracker(queryName, "evaluations");
+        matchTracker = throughputTracker(queryName, "matches");
+        abortTracker = throughputTracker(queryName, "aborted");
+        compileTracker = throughputTracker(queryName, "compilations");
+        cacheHitTracker = throughputTracker(queryName, "cacheHits");
+        resultCacheHitTracker = throughputTracker(queryName, "resultCacheHits");
+    }
+
+    private ThroughputTracker throughputTracker(String queryName, String counter) {
+        return QueryParserHelper.createThroughputTracker(siddhiAppContext, queryName,
+                SiddhiConstants.METRIC_INFIX_QUERIES, name + SiddhiConstants.METRIC_DELIMITER + counter);
+    }
+
+    /**
+     * Creates the metrics of a function, if statistics are enabled for its Siddhi app.
+     *
+     * @param siddhiQueryContext query context of the function
+     * @param functionName       name of the function, such as regex:find()
+     * @param regex              constant regex of the function, or null if the regex is given by the events
+     * @param flags              match flags of the constant regex
+     * @return metrics of the function, or null if statistics are disabled
+     */
+    public static RegexMetrics create(SiddhiQueryContext siddhiQueryContext, String functionName, String regex,
+                                      int flags) {
+        SiddhiAppContext siddhiAppContext = siddhiQueryContext.getSiddhiAppContext();
+        if (siddhiAppContext.getStatisticsManager() == null) {
+            return null;
+        }
+        String name = functionName.replace("()", "").replace(':', '.');
+        if (regex != null) {
+            name += SiddhiConstants.METRIC_DELIMITER + label(regex, flags);
+            log.info("Metrics of " + functionName + " in query '" + siddhiQueryContext.getName() + "' are " +
+                    "reported as '" + name + "' for the regex '" + regex + "'");
+        }
+        return new RegexMetrics(siddhiAppContext, siddhiQueryContext.getName(), name);
+    }
+
+    /**
+     * Returns the label of a regex, which is the same for all the functions sharing its canonical pattern.
+     */
+    static String label(String regex, int flags) {
+        int hash = 31 * RegexFlags.canonicalRegex(regex, flags).hashCode() + RegexFlags.canonicalFlags(regex, flags);
+        return "pattern" + Integer.toHexString(hash);
+    }
+
+    private boolean isEnabled() {
+        return Level.BASIC.compareTo(siddhiAppContext.getRootMetricsLevel()) <= 0;
+    }
+
+    /**
+     * Marks the start of an evaluation.
+     *
+     * @return true if the evaluation is measured, and has to be ended with {@link #markOut(boolean)}
+     */
+    public boolean markIn() {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (latencyTracker != null) {
+            latencyTracker.markIn();
+        }
+        return true;
+    }
+
+    /**
+     * Marks the end of an evaluation started with {@link #markIn()}.
+     *
+     * @param matched whether the evaluation found a match
+     */
+    public void markOut(boolean matched) {
+        if (latencyTracker != null) {
+            latencyTracker.markOut();
+        }
+        eventIn(evaluationTracker);
+        if (matched) {
+            eventIn(matchTracker);
+        }
+    }
+
+    public void aborted() {
+        if (isEnabled()) {
+            eventIn(abortTracker);
+        }
+    }
+
+    public void compiled() {
+        if (isEnabled()) {
+            eventIn(compileTracker);
+        }
+    }
+
+    public void cacheHit() {
+        if (isEnabled()) {
+            eventIn(cacheHitTracker);
+        }
+    }
+
+    public void resultCacheHit() {
+        if (isEnabled()) {
+            eventIn(resultCacheHitTracker);
+        }
+    }
+
+    private static void eventIn(ThroughputTracker throughputTracker) {
+        if (throughputTracker != null) {
+            throughputTracker.eventIn();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
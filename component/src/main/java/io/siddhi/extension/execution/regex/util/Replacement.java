@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A replacement string parsed once into its literal parts and group references, following the syntax of
+ * {@link Matcher#appendReplacement(StringBuffer, String)}: {@code $n} and {@code ${name}} refer to groups and a
+ * backslash escapes the next char.
+ *
+ * {@link Matcher#replaceAll(String)} parses the replacement again for every match and copies the groups into new
+ * strings, and before Java 9 {@link Matcher#appendReplacement(StringBuffer, String)} only accepts a synchronized
+ * {@link StringBuffer}. Here the unmatched regions and the groups are appended straight from the input into a
+ * {@link StringBuilder} kept per thread, and an input without any match is returned as is.
+ */
+public final class Replacement {
+
+    private static final int MAX_RETAINED_CAPACITY = 65536;
+    private static final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String replacement;
+    private final String[] literals;
+    private final int[] groups;
+
+    private Replacement(String replacement, String[] literals, int[] groups) {
+        this.replacement = replacement;
+        this.literals = literals;
+        this.groups = groups;
+    }
+
+    /**
+     * Parses a replacement for the groups of the given pattern.
+     *
+     * @param replacement replacement string
+     * @param pattern     pattern whose matches are replaced
+     * @return parsed replacement
+     * @throws IllegalArgumentException if the replacement is malformed or refers to a group the pattern lacks
+     */
+    public static Replacement parse(String replacement, Pattern pattern) {
+        String[] names = CaptureGroups.names(pattern);
+        Map<String, Integer> groupNames = new HashMap<>();
+        for (int group = 1; group < names.length; group++) {
+            if (names[group] != null) {
+                groupNames.put(names[group], group);
+            }
+        }
+        return parse(replacement, names.length - 1, groupNames);
+    }
+
+    /**
+     * Parses a replacement for the groups of the given pattern of the linear engine.
+     *
+     * @param replacement replacement string
+     * @param pattern     pattern whose matches are replaced
+     * @return parsed replacement
+     * @throws IllegalArgumentException if the replacement is malformed or refers to a group the pattern lacks
+     */
+    public static Replacement parse(String replacement, LinearPattern pattern) {
+        return parse(replacement, pattern.groupCount(), pattern.groupNames());
+    }
+
+    static Replacement parse(String replacement, int groupCount, Map<String, Integer> groupNames) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> groups = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = replacement.length();
+        int position = 0;
+        while (position < length) {
+            char c = replacement.charAt(position++);
+            if (c == '\\') {
+                if (position == length) {
+                    throw new IllegalArgumentException("character to be escaped is missing");
+                }
+                literal.append(replacement.charAt(position++));
+            } else if (c != '$') {
+                literal.append(c);
+            } else {
+                if (position == length) {
+                    throw new IllegalArgumentException("Illegal group reference: group index is missing");
+                }
+                int group;
+                if (replacement.charAt(position) == '{') {
+                    int end = replacement.indexOf('}', position);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("named capturing group is missing trailing '}'");
+                    }
+                    String name = replacement.substring(position + 1, end);
+                    if (name.isEmpty()) {
+                        throw new IllegalArgumentException("named capturing group has 0 length name");
+                    }
+                    if (!Character.isLetter(name.charAt(0))) {
+                        throw new IllegalArgumentException("capturing group name {" + name +
+                                "} starts with digit character");
+                    }
+                    Integer index = groupNames.get(name);
+                    if (index == null) {
+                        throw new IllegalArgumentException("No group with name {" + name + "}");
+                    }
+                    group = index;
+                    position = end + 1;
+                } else {
+                    group = replacement.charAt(position) - '0';
+                    if (group < 0 || group > 9) {
+                        throw new IllegalArgumentException("Illegal group reference");
+                    }
+                    position++;
+                    // Like the JDK, takes as many digits as keep the reference a valid group number.
+                    while (position < length) {
+                        int digit = replacement.charAt(position) - '0';
+                        if (digit < 0 || digit > 9 || group * 10 + digit > groupCount) {
+                            break;
+                        }
+                        group = group * 10 + digit;
+                        position++;
+                    }
+                    if (group > groupCount) {
+                        throw new IllegalArgumentException("No group " + group);
+                    }
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                groups.add(group);
+            }
+        }
+        literals.add(literal.toString());
+        int[] groupArray = new int[groups.size()];
+        for (int i = 0; i < groupArray.length; i++) {
+            groupArray[i] = groups.get(i);
+        }
+        return new Replacement(replacement, literals.toArray(new String[0]), groupArray);
+    }
+
+    /**
+     * Replaces the matches found by the matcher, which must be reset to the given input or to a view of it.
+     *
+     * @param input   input sequence
+     * @param matcher matcher over the input
+     * @param all     whether all the matches are replaced, or only the first one
+     * @return input with the matches replaced, or the input itself as a string when nothing matches
+     */
+    public String replace(CharSequence input, Matcher matcher, boolean all) {
+        String result = replaceMatches(input, matcher, all);
+        return result != null ? result : input.toString();
+    }
+
+    /**
+     * Replaces the matches as {@link #replace(CharSequence, Matcher, boolean)} does, but tells the inputs without
+     * any match apart by returning null for them.
+     *
+     * @param input   input sequence
+     * @param matcher matcher over the input
+     * @param all     whether all the matches are replaced, or only the first one
+     * @return input with the matches replaced, or null when nothing matches
+     */
+    public String replaceMatches(CharSequence input, Matcher matcher, boolean all) {
+        if (!matcher.find()) {
+            return null;
+        }
+        StringBuilder builder = builder();
+        int position = 0;
+        do {
+            builder.append(input, position, matcher.start());
+            appendTo(builder, input, matcher);
+            position = matcher.end();
+        } while (all && matcher.find());
+        return finish(builder, input, position);
+    }
+
+    /**
+     * Replaces the matches found by the matcher of the linear engine, which must be reset to the given input or
+     * to a view of it.
+     *
+     * @param input   input sequence
+     * @param matcher matcher over the input
+     * @param all     whether all the matches are replaced, or only the first one
+     * @return input with the matches replaced, or the input itself as a string when nothing matches
+     */
+    public String replace(CharSequence input, LinearMatcher matcher, boolean all) {
+        String result = replaceMatches(input, matcher, all);
+        return result != null ? result : input.toString();
+    }
+
+    /**
+     * Replaces the matches as {@link #replace(CharSequence, LinearMatcher, boolean)} does, but tells the inputs
+     * without any match apart by returning null for them.
+     *
+     * @param input   input sequence
+     * @param matcher matcher over the input
+     * @param all     whether all the matches are replaced, or only the first one
+     * @return input with the matches replaced, or null when nothing matches
+     */
+    public String replaceMatches(CharSequence input, LinearMatcher matcher, boolean all) {
+        if (!matcher.find()) {
+            return null;
+        }
+        StringBuilder builder = builder();
+        int position = 0;
+        do {
+            builder.append(input, position, matcher.start());
+            appendTo(builder, input, matcher);
+            position = matcher.end();
+        } while (all && matcher.find());
+        return finish(builder, input, position);
+    }
+
+    private void appendTo(StringBuilder builder, CharSequence input, MatchResult match) {
+        builder.append(literals[0]);
+        for (int i = 0; i < groups.length; i++) {
+            int start = match.start(groups[i]);
+            if (start >= 0) {
+                builder.append(input, start, match.end(groups[i]));
+            }
+            builder.append(literals[i + 1]);
+        }
+    }
+
+    private static StringBuilder builder() {
+        StringBuilder builder = builders.get();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            // Do not pin the memory of an unusually large input to the thread.
+            builder = new StringBuilder();
+            builders.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    private static String finish(StringBuilder builder, CharSequence input, int position) {
+        builder.append(input, position, input.length());
+        String result = builder.toString();
+        builder.setLength(0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return replacement;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the literal substrings that every match of a regex must contain.
+ *
+ * The analysis is conservative: it only looks at the top level sequence of the regex, ignores the content of groups
+ * and character classes, and gives up (returning no literals) on top level alternations, inline flags and escapes
+ * it does not understand. For example `\d\d(.*)WSO2` requires `WSO2`, and `WSO2 (is|was) a?middleware`
+ * requires `WSO2 ` and `middleware`.
+ */
+public final class RequiredLiterals {
+
+    private static final int UNBOUNDED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.CANON_EQ;
+
+    private final String regex;
+    private final List<String> literals = new ArrayList<>();
+    private final StringBuilder current = new StringBuilder();
+    private int index;
+
+    private RequiredLiterals(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Returns the literals that every match of the regex contains, in the order they appear in the regex.
+     *
+     * @param regex regular expression
+     * @param flags match flags the regex is compiled with
+     * @return required literals, empty if none could be determined
+     */
+    public static List<String> extract(String regex, int flags) {
+        if ((flags & Pattern.LITERAL) != 0) {
+            return regex.isEmpty() ? Collections.<String>emptyList() : Collections.singletonList(regex);
+        }
+        if ((flags & UNBOUNDED_FLAGS) != 0) {
+            return Collections.emptyList();
+        }
+        try {
+            return new RequiredLiterals(regex).parse();
+        } catch (UnsupportedConstructException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the longest literal that every match of the regex contains.
+     *
+     * @param regex regular expression
+     * @param flags match flags the regex is compiled with
+     * @return longest required literal, or null if none could be determined
+     */
+    public static String longest(String regex, int flags) {
+        String longest = null;
+        for (String literal : extract(regex, flags)) {
+            if (longest == null || literal.length() > longest.length()) {
+                longest = literal;
+            }
+        }
+        return longest;
+    }
+
+    private List<String> parse() {
+        int length = regex.length();
+        while (index < length) {
+            char c = regex.charAt(index);
+            switch (c) {
+                case '|':
+                case ')':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedConstructException();
+                case '(':
+                    if (index + 1 < length && regex.charAt(index + 1) == '?') {
+                        checkGroupType(index + 2);
+                    }
+                    endLiteral();
+                    index = skipGroup(index);
+                    skipQuantifier();
+                    break;
+                case '[':
+                    endLiteral();
+                    index = skipCharacterClass(index);
+                    skipQuantifier();
+                    break;
+                case '.':
+                    endLiteral();
+                    index++;
+                    skipQuantifier();
+                    break;
+                case '^':
+                case '$':
+                    endLiteral();
+                    index++;
+                    break;
+                case '\\':
+                    parseEscape();
+                    break;
+                default:
+                    index++;
+                    if (Character.isHighSurrogate(c) && index < length
+                            && Character.isLowSurrogate(regex.charAt(index))) {
+                        index++;
+                        literalAtom(regex.substring(index - 2, index));
+                    } else {
+                        literalAtom(String.valueOf(c));
+                    }
+            }
+        }
+        endLiteral();
+        return literals;
+    }
+
+    private void parseEscape() {
+        if (index + 1 >= regex.length()) {
+            throw new UnsupportedConstructException();
+        }
+        char c = regex.charAt(index + 1);
+        index += 2;
+        switch (c) {
+            case 'Q':
+                int end = regex.indexOf("\\E", index);
+                String quoted = end < 0 ? regex.substring(index) : regex.substring(index, end);
+                index = end < 0 ? regex.length() : end + 2;
+                if (!quoted.isEmpty()) {
+                    // A quantifier following the quotation only applies to its last character.
+                    current.append(quoted, 0, quoted.length() - 1);
+                    literalAtom(quoted.substring(quoted.length() - 1));
+                }
+                return;
+            case 't':
+                literalAtom("\t");
+                return;
+            case 'n':
+                literalAtom("\n");
+                return;
+            case 'r':
+                literalAtom("\r");
+                return;
+            case 'f':
+                literalAtom("\f");
+                return;
+            case 'a':
+                literalAtom("\u0007");
+                return;
+            case 'e':
+                literalAtom("\u001B");
+                return;
+            case 'd':
+            case 'D':
+            case 'w':
+            case 'W':
+            case 's':
+            case 'S':
+            case 'h':
+            case 'H':
+            case 'v':
+            case 'V':
+            case 'R':
+                endLiteral();
+                skipQuantifier();
+                return;
+            case 'b':
+            case 'B':
+            case 'A':
+            case 'z':
+            case 'Z':
+            case 'G':
+                endLiteral();
+                return;
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    // Back references, unicode classes and code point escapes are not analysed.
+                    throw new UnsupportedConstructException();
+                }
+                literalAtom(String.valueOf(c));
+        }
+    }
+
+    private void literalAtom(String atom) {
+        int minOccurrences = skipQuantifier();
+        if (minOccurrences == 0) {
+            endLiteral();
+        } else {
+            current.append(atom);
+            if (minOccurrences > 1) {
+                endLiteral();
+            }
+        }
+    }
+
+    /**
+     * Skips the quantifier at the current position, if any.
+     *
+     * @return 1 if there is no quantifier, 0 if the quantified atom is optional, and 2 if it may repeat
+     */
+    private int skipQuantifier() {
+        if (index >= regex.length()) {
+            return 1;
+        }
+        int minOccurrences;
+        char c = regex.charAt(index);
+        if (c == '?' || c == '*') {
+            minOccurrences = 0;
+            index++;
+        } else if (c == '+') {
+            minOccurrences = 2;
+            index++;
+        } else if (c == '{') {
+            int end = regex.indexOf('}', index);
+            if (end < 0) {
+                throw new UnsupportedConstructException();
+            }
+            String bounds = regex.substring(index + 1, end);
+            int comma = bounds.indexOf(',');
+            String min = comma < 0 ? bounds : bounds.substring(0, comma);
+            try {
+                minOccurrences = Integer.parseInt(min.trim()) == 0 ? 0 : 2;
+            } catch (NumberFormatException e) {
+                throw new UnsupportedConstructException();
+            }
+            index = end + 1;
+        } else {
+            return 1;
+        }
+        if (index < regex.length() && (regex.charAt(index) == '?' || regex.charAt(index) == '+')) {
+            index++;
+        }
+        return minOccurrences;
+    }
+
+    private void checkGroupType(int position) {
+        if (position >= regex.length()) {
+            throw new UnsupportedConstructException();
+        }
+        char c = regex.charAt(position);
+        if (c == ':' || c == '=' || c == '!' || c == '>' || c == '<') {
+            return;
+        }
+        // Inline flags such as (?i) change how the rest of the regex matches.
+        throw new UnsupportedConstructException();
+    }
+
+    private int skipGroup(int start) {
+        int depth = 0;
+        int position = start;
+        while (position < regex.length()) {
+            char c = regex.charAt(position);
+            if (c == '\\') {
+                position = skipEscape(position);
+                continue;
+            } else if (c == '[') {
+                position = skipCharacterClass(position);
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return position + 1;
+                }
+            }
+            position++;
+        }
+        throw new UnsupportedConstructException();
+    }
+
+    private int skipCharacterClass(int start) {
+        int position = start + 1;
+        if (position < regex.length() && regex.charAt(position) == '^') {
+            position++;
+        }
+        if (position < regex.length() && regex.charAt(position) == ']') {
+            position++;
+        }
+        while (position < regex.length()) {
+            char c = regex.charAt(position);
+            if (c == '\\') {
+                position = skipEscape(position);
+            } else if (c == '[') {
+                position = skipCharacterClass(position);
+            } else if (c == ']') {
+                return position + 1;
+            } else {
+                position++;
+            }
+        }
+        throw new UnsupportedConstructException();
+    }
+
+    private int skipEscape(int position) {
+        if (position + 1 < regex.length() && regex.charAt(position + 1) == 'Q') {
+            int end = regex.indexOf("\\E", position + 2);
+            return end < 0 ? regex.length() : end + 2;
+        }
+        return position + 2;
+    }
+
+    private void endLiteral() {
+        if (current.length() > 0) {
+            literals.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    private static class UnsupportedConstructException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedConstructException() {
+            super(null, null, false, false);
+        }
+    }
+}
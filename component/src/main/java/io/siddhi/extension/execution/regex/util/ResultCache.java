@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Size bounded, least recently used cache of the results of a function with a constant regex, keyed by the input.
+ *
+ * Inputs such as user agents, URLs or SQL templates repeat heavily in event streams, and the result of a constant
+ * regex on a repeated input is the same every time, so it is looked up instead of being matched again. The cache is
+ * bounded both by a number of entries and by an estimate of the memory they retain, and inputs longer than a
+ * threshold are not cached, as they are unlikely to repeat and costly to retain. Null results are cached as well.
+ * The cache is thread safe and keeps hit, miss and eviction counts for monitoring, which are exposed through a
+ * {@value #OBJECT_NAME_PREFIX} MBean while the Siddhi app of the function runs.
+ */
+public final class ResultCache implements ResultCacheMXBean {
+
+    public static final String OBJECT_NAME_PREFIX = "io.siddhi.extension.execution.regex:type=ResultCache";
+
+    private static final Logger log = LogManager.getLogger(ResultCache.class);
+
+    /**
+     * Returned by {@link #get(String)} for inputs whose result is not cached.
+     */
+    public static final Object MISS = new Object();
+
+    private static final Object NULL_RESULT = new Object();
+    // Estimates of a map entry with its share of the table, and of a string without its chars.
+    private static final int ENTRY_BYTES = 64;
+    private static final int STRING_BYTES = 40;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final int maxInputLength;
+    private final Map<String, Object> results = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private long bytes;
+    private ObjectName objectName;
+
+    /**
+     * @param maxEntries     maximum number of results retained
+     * @param maxBytes       maximum estimated memory retained by the inputs and results, in bytes
+     * @param maxInputLength maximum length of the inputs whose results are cached
+     */
+    public ResultCache(int maxEntries, long maxBytes, int maxInputLength) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.maxInputLength = maxInputLength;
+    }
+
+    /**
+     * Checks whether the result of the given input can be cached.
+     *
+     * @param input input sequence of an evaluation
+     * @return true if the input is a string no longer than the maximum input length
+     */
+    public boolean accepts(CharSequence input) {
+        return input instanceof String && input.length() <= maxInputLength;
+    }
+
+    /**
+     * Returns the cached result of the given input.
+     *
+     * @param input input accepted by {@link #accepts(CharSequence)}
+     * @return cached result, which may be null, or {@link #MISS} if it is not cached
+     */
+    public Object get(String input) {
+        Object result;
+        synchronized (results) {
+            result = results.get(input);
+        }
+        if (result == null) {
+            missCount.increment();
+            return MISS;
+        }
+        hitCount.increment();
+        return result == NULL_RESULT ? null : result;
+    }
+
+    /**
+     * Caches the result of the given input, evicting the least recently used results while the cache exceeds its
+     * bounds.
+     *
+     * @param input  input accepted by {@link #accepts(CharSequence)}
+     * @param result result of the input, which may be null
+     */
+    public void put(String input, Object result) {
+        long entryBytes = ENTRY_BYTES + sizeOf(input) + sizeOf(result);
+        synchronized (results) {
+            Object previous = results.put(input, result == null ? NULL_RESULT : result);
+            bytes += entryBytes;
+            if (previous != null) {
+                bytes -= ENTRY_BYTES + sizeOf(input) + sizeOf(previous);
+            }
+            Iterator<Map.Entry<String, Object>> iterator = results.entrySet().iterator();
+            while ((results.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+                Map.Entry<String, Object> eldest = iterator.next();
+                bytes -= ENTRY_BYTES + sizeOf(eldest.getKey()) + sizeOf(eldest.getValue());
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private static long sizeOf(Object value) {
+        // Booleans and the null marker are shared instances, only strings are retained by the cache.
+        return value instanceof String ? STRING_BYTES + 2L * ((String) value).length() : 0;
+    }
+
+    @Override
+    public int getSize() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        synchronized (results) {
+            return bytes;
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long lookups = hits + missCount.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Registers the cache with the platform MBean server, under a name identifying the function, numbered when the
+     * same function is used more than once in the query.
+     *
+     * @param siddhiAppName name of the Siddhi app of the function
+     * @param queryName     name of the query of the function
+     * @param functionName  name of the function
+     */
+    public synchronized void register(String siddhiAppName, String queryName, String functionName) {
+        if (objectName != null) {
+            return;
+        }
+        String name = OBJECT_NAME_PREFIX + ",siddhiApp=" + ObjectName.quote(siddhiAppName) + ",query=" +
+                ObjectName.quote(queryName) + ",function=" + ObjectName.quote(functionName);
+        try {
+            for (int index = 1; objectName == null; index++) {
+                ObjectName candidate = new ObjectName(index == 1 ? name : name + ",index=" + index);
+                try {
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+                    objectName = candidate;
+                } catch (InstanceAlreadyExistsException e) {
+                    // Another cache of the same function in the query, numbered next.
+                }
+            }
+        } catch (JMException e) {
+            log.warn("Result cache of " + functionName + " in query '" + queryName + "' could not be registered " +
+                    "as an MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Unregisters the cache from the platform MBean server, if it is registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.warn("Result cache MBean '" + objectName + "' could not be unregistered: " + e.getMessage());
+        }
+        objectName = null;
+    }
+
+    /**
+     * Returns the name the cache is registered under, or null if it is not registered.
+     */
+    public synchronized ObjectName getObjectName() {
+        return objectName;
+    }
+}
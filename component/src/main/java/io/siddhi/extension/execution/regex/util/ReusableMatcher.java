@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hands out one {@link Matcher} per thread for a given {@link Pattern}, reset to the input of each evaluation.
+ *
+ * A {@link Matcher} is not thread safe, hence it cannot be shared by the threads that process the events of the
+ * different partitions. Keeping one per thread lets each evaluation reuse the matcher and its group arrays instead
+ * of allocating new ones. The returned matcher is only valid until the next call from the same thread.
+ *
+ * A matcher keeps a reference to the last input it was reset to, so that each thread retains the last input it
+ * matched, such as a large payload or the byte array under a {@code byte[]} view, until its next evaluation. An idle
+ * query hence pins one input per thread; {@code matcher.reuse} can be disabled where the inputs are large.
+ */
+public final class ReusableMatcher {
+
+    private final Pattern pattern;
+    private final ThreadLocal<Matcher> matchers;
+
+    public ReusableMatcher(Pattern pattern) {
+        this.pattern = pattern;
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    /**
+     * Returns the matcher of the current thread, reset to match the given input.
+     *
+     * @param input character sequence to be matched
+     * @return matcher of the current thread
+     */
+    public Matcher matcher(CharSequence input) {
+        return matchers.get().reset(input);
+    }
+
+    public Pattern pattern() {
+        return pattern;
+    }
+}
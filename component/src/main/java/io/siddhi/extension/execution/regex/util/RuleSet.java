@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Named set of regex rules, indexed so that an input is matched against all of them with one scan.
+ *
+ * The rules are held in a base segment and a delta segment, each a {@link MultiPatternMatcher} which only verifies
+ * the rules whose required literal occurs in the input. Adding a rule only rebuilds the small delta segment, and
+ * removing or replacing one only marks it as removed, so that updates cost in proportion to the delta rather than to
+ * the whole set. Once the delta grows past a fraction of the base, or most of the base is removed, both are merged
+ * into a new base. Both segments are published together as one immutable snapshot, which lookups read without
+ * waiting for updates.
+ *
+ * Rules whose regex requires no literal cannot be selected by the scan, and are verified against every input, so
+ * that a set made of many such rules is still matched in time proportional to the number of rules.
+ *
+ * Rule sets are shared by the extensions of a Siddhi app by name, and rules are tried in the order they were added,
+ * a replaced rule counting as added again. Each extension acquires the rule set when it is created and releases it
+ * when the Siddhi app shuts down, the rule set being discarded once all of them released it.
+ */
+public final class RuleSet {
+
+    static final int MIN_DELTA_SIZE = 64;
+
+    private static final ConcurrentMap<String, RuleSet> RULE_SETS = new ConcurrentHashMap<>();
+
+    private final String key;
+    private final String name;
+    private final Map<String, Pattern> rules = new LinkedHashMap<>();
+    private final LongAdder rebuildCount = new LongAdder();
+    private volatile Segments segments = Segments.EMPTY;
+    // Only updated within the registry's compute functions, which are serialized for the key of the rule set.
+    private int references;
+
+    private RuleSet(String key, String name) {
+        this.key = key;
+        this.name = name;
+    }
+
+    /**
+     * Returns the rule set of the given name in the given Siddhi app, creating an empty one if it does not exist.
+     * Each call has to be followed by a call to {@link #release()} once the rule set is no longer used.
+     *
+     * @param siddhiAppName name of the Siddhi app
+     * @param name          name of the rule set
+     * @return rule set
+     */
+    public static RuleSet acquire(String siddhiAppName, String name) {
+        return RULE_SETS.compute(siddhiAppName + ':' + name, (key, ruleSet) -> {
+            RuleSet acquired = ruleSet != null ? ruleSet : new RuleSet(key, name);
+            acquired.references++;
+            return acquired;
+        });
+    }
+
+    /**
+     * Releases the rule set acquired with {@link #acquire(String, String)}, discarding it and its rules once all
+     * the acquisitions are released, so that a Siddhi app deployed again starts with an empty rule set.
+     */
+    public void release() {
+        RULE_SETS.computeIfPresent(key, (ruleSetKey, ruleSet) ->
+                ruleSet != this || --references > 0 ? ruleSet : null);
+    }
+
+    /**
+     * Adds the rule, replacing the rule with the same id if there is one.
+     *
+     * @param id    id of the rule
+     * @param regex regex of the rule
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid, in which case the set is unchanged
+     */
+    public synchronized void put(String id, String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        Segments current = segments;
+        if (rules.remove(id) != null) {
+            current = current.remove(id);
+        }
+        rules.put(id, pattern);
+        Segment newDelta = current.delta.append(id, pattern);
+        if (newDelta.size() > Math.max(MIN_DELTA_SIZE, current.base.liveCount() / 8)) {
+            rebuild();
+        } else {
+            segments = new Segments(current.base, newDelta);
+        }
+    }
+
+    /**
+     * Removes the rule with the given id, if there is one.
+     *
+     * @param id id of the rule
+     */
+    public synchronized void remove(String id) {
+        if (rules.remove(id) != null) {
+            Segments current = segments.remove(id);
+            if (current.base.liveCount() < current.base.size() / 2) {
+                rebuild();
+            } else {
+                segments = current;
+            }
+        }
+    }
+
+    /**
+     * Replaces all the rules of the set.
+     *
+     * @param regexes regexes of the rules by their ids, in the order the rules are tried
+     * @throws java.util.regex.PatternSyntaxException if a regex is invalid, in which case the set is unchanged
+     */
+    public synchronized void setRules(Map<String, String> regexes) {
+        Map<String, Pattern> patterns = new LinkedHashMap<>();
+        for (Map.Entry<String, String> rule : regexes.entrySet()) {
+            patterns.put(rule.getKey(), Pattern.compile(rule.getValue()));
+        }
+        rules.clear();
+        rules.putAll(patterns);
+        rebuild();
+    }
+
+    /**
+     * Returns the regexes of the rules by their ids, in the order the rules are tried.
+     *
+     * @return copy of the rules
+     */
+    public synchronized Map<String, String> getRules() {
+        Map<String, String> regexes = new LinkedHashMap<>();
+        for (Map.Entry<String, Pattern> rule : rules.entrySet()) {
+            regexes.put(rule.getKey(), rule.getValue().pattern());
+        }
+        return regexes;
+    }
+
+    /**
+     * Returns the id of the first rule whose regex finds a match in the input.
+     *
+     * @param input input sequence
+     * @return id of the first matching rule, or null if none of the rules match
+     */
+    public String findFirst(CharSequence input) {
+        Segments segments = this.segments;
+        String id = segments.base.findFirst(input);
+        return id != null ? id : segments.delta.findFirst(input);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int size() {
+        return rules.size();
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount.sum();
+    }
+
+    private void rebuild() {
+        segments = new Segments(new Segment(new ArrayList<>(rules.keySet()), new ArrayList<>(rules.values()), null),
+                Segment.EMPTY);
+        rebuildCount.increment();
+    }
+
+    /**
+     * Immutable snapshot of the base and delta segments, published with a single write.
+     */
+    private static final class Segments {
+        private static final Segments EMPTY = new Segments(Segment.EMPTY, Segment.EMPTY);
+
+        private final Segment base;
+        private final Segment delta;
+
+        private Segments(Segment base, Segment delta) {
+            this.base = base;
+            this.delta = delta;
+        }
+
+        /**
+         * Returns a copy of the snapshot with the rule marked as removed in the segment holding it.
+         */
+        private Segments remove(String id) {
+            Segment newBase = base.remove(id);
+            if (newBase != null) {
+                return new Segments(newBase, delta);
+            }
+            Segment newDelta = delta.remove(id);
+            return newDelta != null ? new Segments(base, newDelta) : this;
+        }
+    }
+
+    /**
+     * Immutable list of rules matched by a {@link MultiPatternMatcher}, some of which may be marked as removed.
+     */
+    private static final class Segment {
+        private static final Segment EMPTY = new Segment(new ArrayList<>(), new ArrayList<>(), null);
+
+        private final List<String> ids;
+        private final List<Pattern> patterns;
+        private final Map<String, Integer> indexes;
+        private final boolean[] removed;
+        private final int removedCount;
+        private final MultiPatternMatcher matcher;
+
+        private Segment(List<String> ids, List<Pattern> patterns, boolean[] removed) {
+            this(ids, patterns, removed, new MultiPatternMatcher(patterns));
+        }
+
+        private Segment(List<String> ids, List<Pattern> patterns, boolean[] removed, MultiPatternMatcher matcher) {
+            this.ids = ids;
+            this.patterns = patterns;
+            this.indexes = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                indexes.put(ids.get(i), i);
+            }
+            this.removed = removed;
+            int count = 0;
+            if (removed != null) {
+                for (boolean isRemoved : removed) {
+                    count += isRemoved ? 1 : 0;
+                }
+            }
+            this.removedCount = count;
+            this.matcher = matcher;
+        }
+
+        /**
+         * Returns a copy of the segment with the rule appended, dropping the removed rules.
+         */
+        private Segment append(String id, Pattern pattern) {
+            List<String> newIds = new ArrayList<>(ids.size() + 1);
+            List<Pattern> newPatterns = new ArrayList<>(ids.size() + 1);
+            for (int i = 0; i < ids.size(); i++) {
+                if (removed == null || !removed[i]) {
+                    newIds.add(ids.get(i));
+                    newPatterns.add(patterns.get(i));
+                }
+            }
+            newIds.add(id);
+            newPatterns.add(pattern);
+            return new Segment(newIds, newPatterns, null);
+        }
+
+        /**
+         * Returns a copy of the segment with the rule marked as removed, or null if the segment does not hold it.
+         */
+        private Segment remove(String id) {
+            Integer index = indexes.get(id);
+            if (index == null || removed != null && removed[index]) {
+                return null;
+            }
+            boolean[] newRemoved = removed == null ? new boolean[ids.size()] : Arrays.copyOf(removed, ids.size());
+            newRemoved[index] = true;
+            return new Segment(ids, patterns, newRemoved, matcher);
+        }
+
+        private String findFirst(CharSequence input) {
+            int index = matcher.findFirst(input, removed);
+            return index < 0 ? null : ids.get(index);
+        }
+
+        private int size() {
+            return ids.size();
+        }
+
+        private int liveCount() {
+            return ids.size() - removedCount;
+        }
+    }
+}
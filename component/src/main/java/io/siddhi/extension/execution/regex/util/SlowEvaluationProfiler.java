@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.core.config.SiddhiQueryContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the evaluations of a regex function that take longer than a threshold in the shared
+ * {@link SlowEvaluations}, along with the regex and the length of the input, so that the regexes and inputs that
+ * drive the engine into long backtracking can be found. An excerpt of the input is only recorded when enabled, as
+ * event payloads may hold sensitive data that should not reach logs and JMX.
+ *
+ * The function only reads the clock before and after each evaluation, and the input is only described once an
+ * evaluation exceeds the threshold.
+ */
+public final class SlowEvaluationProfiler {
+
+    /**
+     * Maximum number of input chars kept with a recorded evaluation.
+     */
+    static final int EXCERPT_LENGTH = 200;
+
+    private final SlowEvaluations slowEvaluations;
+    private final long thresholdNanos;
+    private final boolean inputExcerpt;
+    private final String functionName;
+    private final String siddhiAppName;
+    private final String queryName;
+
+    public SlowEvaluationProfiler(SlowEvaluations slowEvaluations, long thresholdMillis, boolean inputExcerpt,
+                                  String functionName, SiddhiQueryContext siddhiQueryContext) {
+        this.slowEvaluations = slowEvaluations;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.inputExcerpt = inputExcerpt;
+        this.functionName = functionName;
+        this.siddhiAppName = siddhiQueryContext.getSiddhiAppContext().getName();
+        this.queryName = siddhiQueryContext.getName();
+    }
+
+    /**
+     * Records the evaluation started at the given time, if it exceeded the threshold.
+     *
+     * @param regex          regex of the evaluation
+     * @param input          input of the evaluation, as given to the function
+     * @param startTimeNanos {@link System#nanoTime()} at the start of the evaluation
+     */
+    public void record(Object regex, Object input, long startTimeNanos) {
+        long durationNanos = System.nanoTime() - startTimeNanos;
+        if (durationNanos < thresholdNanos) {
+            return;
+        }
+        CharSequence sequence = input == null ? null : InputSequences.of(input);
+        int inputLength = sequence == null ? 0 : sequence.length();
+        String excerpt = !inputExcerpt ? null : sequence == null ? String.valueOf(input)
+                : sequence.subSequence(0, Math.min(inputLength, EXCERPT_LENGTH)).toString();
+        slowEvaluations.record(new SlowEvaluations.Evaluation(functionName, siddhiAppName, queryName,
+                String.valueOf(regex), inputLength, excerpt, durationNanos, System.currentTimeMillis()));
+    }
+}
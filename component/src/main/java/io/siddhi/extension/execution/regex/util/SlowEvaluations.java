@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Bounded record of the slowest regex evaluations of the JVM, reported by {@link SlowEvaluationProfiler}s.
+ *
+ * The evaluations are kept in a min heap of the configured capacity, so that an evaluation faster than all the
+ * retained ones is dropped after a single comparison. The record is registered as the
+ * {@value #OBJECT_NAME} MBean, and can also be logged periodically while the Siddhi apps configuring a log
+ * interval run, in which case it is only logged when new evaluations were recorded since it was last logged.
+ */
+public final class SlowEvaluations implements SlowEvaluationsMXBean {
+
+    public static final String OBJECT_NAME = "io.siddhi.extension.execution.regex:type=SlowEvaluations";
+    public static final int DEFAULT_CAPACITY = 20;
+
+    private static final Logger log = LogManager.getLogger(SlowEvaluations.class);
+    private static final Comparator<Evaluation> FASTEST_FIRST = Comparator.comparingLong(e -> e.durationNanos);
+    private static final SlowEvaluations INSTANCE = new SlowEvaluations();
+
+    private final PriorityQueue<Evaluation> evaluations = new PriorityQueue<>(FASTEST_FIRST);
+    private final LongAdder recordedCount = new LongAdder();
+    // Number of the running extensions that configured each log interval, by interval.
+    private final TreeMap<Long, Integer> logIntervals = new TreeMap<>();
+    private volatile int capacity = DEFAULT_CAPACITY;
+    private volatile long minDurationNanos;
+    private boolean registered;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> logTask;
+    private long logIntervalMillis;
+    private long loggedCount;
+
+    private SlowEvaluations() {
+    }
+
+    /**
+     * Returns the record shared by all the regex extensions, registering it with the platform MBean server on the
+     * first call.
+     *
+     * @return shared record of slow evaluations
+     */
+    public static SlowEvaluations getInstance() {
+        INSTANCE.register();
+        return INSTANCE;
+    }
+
+    private synchronized void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            log.warn("Slow regex evaluations could not be registered as the MBean '" + OBJECT_NAME + "': " +
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Records an evaluation slower than the threshold of its function, retaining it only if it is among the
+     * slowest ones.
+     *
+     * @param evaluation slow evaluation
+     */
+    void record(Evaluation evaluation) {
+        recordedCount.increment();
+        if (evaluation.durationNanos <= minDurationNanos) {
+            // Faster than every retained evaluation of a full record.
+            return;
+        }
+        synchronized (evaluations) {
+            evaluations.add(evaluation);
+            while (evaluations.size() > capacity) {
+                evaluations.poll();
+            }
+            minDurationNanos = evaluations.size() < capacity ? 0 : evaluations.peek().durationNanos;
+        }
+    }
+
+    /**
+     * Grows the number of retained evaluations to the given value, if it is currently smaller.
+     * Each extension may configure its own capacity, and the largest configured value is honoured.
+     *
+     * @param requiredCapacity minimum number of evaluations to be retained
+     */
+    public void ensureCapacity(int requiredCapacity) {
+        synchronized (evaluations) {
+            if (requiredCapacity > capacity) {
+                capacity = requiredCapacity;
+                minDurationNanos = 0;
+            }
+        }
+    }
+
+    /**
+     * Logs the record every given interval while the extension requesting it runs, until the interval is removed
+     * with {@link #removeLogInterval(long)}. Each extension may configure its own interval, and the shortest
+     * interval of the running extensions is honoured.
+     *
+     * @param intervalMillis logging interval in milliseconds
+     */
+    public synchronized void addLogInterval(long intervalMillis) {
+        logIntervals.merge(intervalMillis, 1, Integer::sum);
+        scheduleLogTask();
+    }
+
+    /**
+     * Removes an interval added with {@link #addLogInterval(long)}, logging the record at the shortest remaining
+     * interval, or no longer logging it once none remains.
+     *
+     * @param intervalMillis logging interval in milliseconds
+     */
+    public synchronized void removeLogInterval(long intervalMillis) {
+        logIntervals.computeIfPresent(intervalMillis,
+                (interval, references) -> references > 1 ? references - 1 : null);
+        scheduleLogTask();
+    }
+
+    /**
+     * Returns the interval the record is logged at, or 0 if it is not logged.
+     */
+    public synchronized long getLogIntervalMillis() {
+        return logIntervalMillis;
+    }
+
+    private void scheduleLogTask() {
+        long intervalMillis = logIntervals.isEmpty() ? 0 : logIntervals.firstKey();
+        if (intervalMillis == logIntervalMillis) {
+            return;
+        }
+        if (logTask != null) {
+            logTask.cancel(false);
+            logTask = null;
+        }
+        logIntervalMillis = intervalMillis;
+        if (intervalMillis == 0) {
+            scheduler.shutdown();
+            scheduler = null;
+            return;
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "siddhi-regex-slow-evaluations");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        logTask = scheduler.scheduleAtFixedRate(this::logEvaluations, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void logEvaluations() {
+        long count = recordedCount.sum();
+        if (count == loggedCount) {
+            return;
+        }
+        loggedCount = count;
+        StringBuilder message = new StringBuilder().append(count).append(" slow regex evaluations recorded, ")
+                .append("the slowest being:");
+        for (String evaluation : getSlowestEvaluations()) {
+            message.append(System.lineSeparator()).append("    ").append(evaluation);
+        }
+        log.info(message.toString());
+    }
+
+    /**
+     * Returns the slowest evaluations recorded, slowest first.
+     *
+     * @return slowest evaluations
+     */
+    public List<Evaluation> getEvaluations() {
+        List<Evaluation> slowest;
+        synchronized (evaluations) {
+            slowest = new ArrayList<>(evaluations);
+        }
+        slowest.sort(Collections.reverseOrder(FASTEST_FIRST));
+        return slowest;
+    }
+
+    @Override
+    public String[] getSlowestEvaluations() {
+        List<Evaluation> slowest = getEvaluations();
+        String[] descriptions = new String[slowest.size()];
+        for (int i = 0; i < descriptions.length; i++) {
+            descriptions[i] = slowest.get(i).toString();
+        }
+        return descriptions;
+    }
+
+    @Override
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        synchronized (evaluations) {
+            evaluations.clear();
+            minDurationNanos = 0;
+        }
+        recordedCount.reset();
+    }
+
+    /**
+     * A recorded slow evaluation.
+     */
+    public static final class Evaluation {
+        private final String functionName;
+        private final String siddhiAppName;
+        private final String queryName;
+        private final String regex;
+        private final int inputLength;
+        private final String inputExcerpt;
+        private final long durationNanos;
+        private final long timestamp;
+
+        Evaluation(String functionName, String siddhiAppName, String queryName, String regex, int inputLength,
+                   String inputExcerpt, long durationNanos, long timestamp) {
+            this.functionName = functionName;
+            this.siddhiAppName = siddhiAppName;
+            this.queryName = queryName;
+            this.regex = regex;
+            this.inputLength = inputLength;
+            this.inputExcerpt = inputExcerpt;
+            this.durationNanos = durationNanos;
+            this.timestamp = timestamp;
+        }
+
+        public String getFunctionName() {
+            return functionName;
+        }
+
+        public String getSiddhiAppName() {
+            return siddhiAppName;
+        }
+
+        public String getQueryName() {
+            return queryName;
+        }
+
+        public String getRegex() {
+            return regex;
+        }
+
+        public int getInputLength() {
+            return inputLength;
+        }
+
+        /**
+         * Returns the first chars of the input, or null if input excerpts are not recorded.
+         */
+        public String getInputExcerpt() {
+            return inputExcerpt;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return TimeUnit.NANOSECONDS.toMicros(durationNanos) + " us in " + functionName + " of query '" +
+                    queryName + "' of Siddhi app '" + siddhiAppName + "' matching regex '" + regex + "' with an " +
+                    "input of " + inputLength + " chars" + (inputExcerpt == null ? "" : ": '" + inputExcerpt + "'");
+        }
+    }
+}
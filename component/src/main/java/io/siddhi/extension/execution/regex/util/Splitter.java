@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits input sequences around the matches of a regex into the same tokens as
+ * {@link Pattern#split(CharSequence, int)}, handing each token to a consumer as soon as it is known instead of
+ * collecting the tokens into an intermediate array.
+ *
+ * As with {@link Pattern#split(CharSequence, int)}, a positive limit caps the number of tokens, the last token
+ * holding the rest of the input, a zero limit drops the trailing empty tokens, and a negative limit keeps them. A
+ * zero-width match at the beginning of the input never produces a leading empty token, and an input without any
+ * match is handed over as a single token, as is when it is a {@link String}.
+ */
+public final class Splitter {
+
+    private Splitter() {
+    }
+
+    /**
+     * Receives the tokens of an input sequence in order.
+     */
+    public interface TokenConsumer {
+
+        /**
+         * @param token token of the input
+         * @param index position of the token among the tokens of the input, starting at zero
+         */
+        void accept(String token, int index);
+    }
+
+    /**
+     * Splits the input around the matches found by the matcher, which must be reset to the given input or to a
+     * view of it.
+     *
+     * @param input    input sequence
+     * @param matcher  matcher over the input
+     * @param limit    maximum number of tokens when positive
+     * @param consumer consumer of the tokens
+     * @return number of tokens
+     */
+    public static int split(CharSequence input, Matcher matcher, int limit, TokenConsumer consumer) {
+        Tokens tokens = new Tokens(input, limit, consumer);
+        while (tokens.acceptsMatch() && matcher.find()) {
+            tokens.match(matcher.start(), matcher.end());
+        }
+        return tokens.finish();
+    }
+
+    /**
+     * Splits the input around the matches found by the matcher of the linear engine, which must be reset to the
+     * given input or to a view of it.
+     *
+     * @param input    input sequence
+     * @param matcher  matcher over the input
+     * @param limit    maximum number of tokens when positive
+     * @param consumer consumer of the tokens
+     * @return number of tokens
+     */
+    public static int split(CharSequence input, LinearMatcher matcher, int limit, TokenConsumer consumer) {
+        Tokens tokens = new Tokens(input, limit, consumer);
+        while (tokens.acceptsMatch() && matcher.find()) {
+            tokens.match(matcher.start(), matcher.end());
+        }
+        return tokens.finish();
+    }
+
+    /**
+     * Hands the input over as its only token, for inputs known not to contain any match.
+     *
+     * @param input    input sequence
+     * @param consumer consumer of the token
+     * @return number of tokens
+     */
+    public static int whole(CharSequence input, TokenConsumer consumer) {
+        consumer.accept(input.toString(), 0);
+        return 1;
+    }
+
+    private static final class Tokens {
+        private final CharSequence input;
+        private final int limit;
+        private final TokenConsumer consumer;
+        private int position;
+        private int count;
+        // Empty tokens are held back when the limit is zero, until a non-empty token shows they are not trailing.
+        private int pendingEmptyTokens;
+
+        private Tokens(CharSequence input, int limit, TokenConsumer consumer) {
+            this.input = input;
+            this.limit = limit;
+            this.consumer = consumer;
+        }
+
+        private boolean acceptsMatch() {
+            return limit <= 0 || count + pendingEmptyTokens < limit - 1;
+        }
+
+        private void match(int start, int end) {
+            if (end == 0) {
+                // A zero-width match at the beginning of the input.
+                return;
+            }
+            add(start);
+            position = end;
+        }
+
+        private int finish() {
+            if (position == 0) {
+                return whole(input, consumer);
+            }
+            add(input.length());
+            return count;
+        }
+
+        private void add(int end) {
+            if (position == end && limit == 0) {
+                pendingEmptyTokens++;
+                return;
+            }
+            while (pendingEmptyTokens > 0) {
+                consumer.accept("", count++);
+                pendingEmptyTokens--;
+            }
+            consumer.accept(input.subSequence(position, end).toString(), count++);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex.util;
+
+import io.siddhi.query.api.definition.Attribute;
+
+/**
+ * Converts the regions of an input sequence captured by regex groups into attribute values of a given type, parsing
+ * numbers straight from the chars of the region instead of creating a substring to parse.
+ *
+ * Values are parsed as by {@link Integer#parseInt(String)}, {@link Long#parseLong(String)},
+ * {@link Double#parseDouble(String)}, {@link Float#parseFloat(String)} and {@link Boolean#parseBoolean(String)}.
+ * Decimals with up to 15 significant digits and small exponents, which cover most numbers found in logs, are
+ * converted exactly with a single floating point operation, and the other ones, such as {@code NaN} or hexadecimal
+ * numbers, are handed over to the JDK.
+ */
+public final class TypedValues {
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    // Mantissas below these bounds are exact in a double and in a float respectively.
+    private static final long MAX_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_FLOAT_MANTISSA = 1L << 24;
+    private static final int MAX_SIGNIFICANT_DIGITS = 15;
+
+    private TypedValues() {
+    }
+
+    /**
+     * Converts a region of the input into a value of the given type.
+     *
+     * @param input input sequence
+     * @param start index of the first char of the region
+     * @param end   index after the last char of the region
+     * @param type  type of the value
+     * @return value of the region
+     * @throws NumberFormatException if the region does not hold a number of the given numeric type
+     */
+    public static Object convert(CharSequence input, int start, int end, Attribute.Type type) {
+        switch (type) {
+            case INT:
+                long value = parseLong(input, start, end);
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                    throw numberFormatException(input, start, end);
+                }
+                return (int) value;
+            case LONG:
+                return parseLong(input, start, end);
+            case DOUBLE:
+                return parseDouble(input, start, end);
+            case FLOAT:
+                return parseFloat(input, start, end);
+            case BOOL:
+                return parseBoolean(input, start, end);
+            default:
+                return input.subSequence(start, end).toString();
+        }
+    }
+
+    static long parseLong(CharSequence input, int start, int end) {
+        int position = start;
+        boolean negative = false;
+        if (position < end && (input.charAt(position) == '-' || input.charAt(position) == '+')) {
+            negative = input.charAt(position) == '-';
+            position++;
+        }
+        if (position == end) {
+            throw numberFormatException(input, start, end);
+        }
+        // Accumulates negatively, as Long.MIN_VALUE has no positive counterpart.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long minimum = limit / 10;
+        long result = 0;
+        while (position < end) {
+            int digit = Character.digit(input.charAt(position++), 10);
+            if (digit < 0 || result < minimum) {
+                throw numberFormatException(input, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(input, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static double parseDouble(CharSequence input, int start, int end) {
+        Decimal decimal = Decimal.parse(input, start, end);
+        if (decimal != null && decimal.mantissa < MAX_DOUBLE_MANTISSA) {
+            double mantissa = decimal.negative ? -(double) decimal.mantissa : decimal.mantissa;
+            if (decimal.mantissa == 0) {
+                return mantissa;
+            } else if (decimal.exponent >= 0 && decimal.exponent < DOUBLE_POWERS_OF_TEN.length) {
+                return mantissa * DOUBLE_POWERS_OF_TEN[decimal.exponent];
+            } else if (decimal.exponent < 0 && -decimal.exponent < DOUBLE_POWERS_OF_TEN.length) {
+                return mantissa / DOUBLE_POWERS_OF_TEN[-decimal.exponent];
+            }
+        }
+        return Double.parseDouble(input.subSequence(start, end).toString());
+    }
+
+    static float parseFloat(CharSequence input, int start, int end) {
+        Decimal decimal = Decimal.parse(input, start, end);
+        if (decimal != null && decimal.mantissa < MAX_FLOAT_MANTISSA) {
+            float mantissa = decimal.negative ? -(float) decimal.mantissa : decimal.mantissa;
+            if (decimal.mantissa == 0) {
+                return mantissa;
+            } else if (decimal.exponent >= 0 && decimal.exponent < FLOAT_POWERS_OF_TEN.length) {
+                return mantissa * FLOAT_POWERS_OF_TEN[decimal.exponent];
+            } else if (decimal.exponent < 0 && -decimal.exponent < FLOAT_POWERS_OF_TEN.length) {
+                return mantissa / FLOAT_POWERS_OF_TEN[-decimal.exponent];
+            }
+        }
+        return Float.parseFloat(input.subSequence(start, end).toString());
+    }
+
+    static boolean parseBoolean(CharSequence input, int start, int end) {
+        if (end - start != 4) {
+            return false;
+        }
+        String expected = "true";
+        for (int i = 0; i < 4; i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static NumberFormatException numberFormatException(CharSequence input, int start, int end) {
+        return new NumberFormatException("For input string: \"" + input.subSequence(start, end) + "\"");
+    }
+
+    /**
+     * A plain decimal number, {@code [+-]digits[.digits][(e|E)[+-]digits]}, as the mantissa and the power of ten it
+     * is multiplied by.
+     */
+    private static final class Decimal {
+        private boolean negative;
+        private long mantissa;
+        private int exponent;
+
+        /**
+         * Returns the decimal held by the region, or null if the region holds anything else, or more significant
+         * digits than can be converted exactly.
+         */
+        private static Decimal parse(CharSequence input, int start, int end) {
+            Decimal decimal = new Decimal();
+            int position = start;
+            if (position < end && (input.charAt(position) == '-' || input.charAt(position) == '+')) {
+                decimal.negative = input.charAt(position) == '-';
+                position++;
+            }
+            int digits = 0;
+            int significantDigits = 0;
+            boolean point = false;
+            for (; position < end; position++) {
+                char c = input.charAt(position);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                    if (decimal.mantissa != 0 || c != '0') {
+                        if (++significantDigits > MAX_SIGNIFICANT_DIGITS) {
+                            return null;
+                        }
+                        decimal.mantissa = decimal.mantissa * 10 + (c - '0');
+                    }
+                    if (point) {
+                        decimal.exponent--;
+                    }
+                } else if (c == '.' && !point) {
+                    point = true;
+                } else {
+                    break;
+                }
+            }
+            if (digits == 0) {
+                return null;
+            }
+            if (position < end) {
+                char c = input.charAt(position++);
+                if (c != 'e' && c != 'E' || position == end) {
+                    return null;
+                }
+                boolean negativeExponent = false;
+                if (input.charAt(position) == '-' || input.charAt(position) == '+') {
+                    negativeExponent = input.charAt(position) == '-';
+                    position++;
+                }
+                if (position == end || end - position > 3) {
+                    // Exponents of more than three digits are left to the JDK, which handles their overflow.
+                    return null;
+                }
+                int exponent = 0;
+                for (; position < end; position++) {
+                    char digit = input.charAt(position);
+                    if (digit < '0' || digit > '9') {
+                        return null;
+                    }
+                    exponent = exponent * 10 + (digit - '0');
+                }
+                decimal.exponent += negativeExponent ? -exponent : exponent;
+            }
+            return decimal;
+        }
+    }
+}
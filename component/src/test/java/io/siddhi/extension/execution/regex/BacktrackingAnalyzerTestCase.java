@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.linear.BacktrackingAnalyzer;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BacktrackingAnalyzerTestCase {
+    private static final Logger log = LogManager.getLogger(BacktrackingAnalyzerTestCase.class);
+
+    private static BacktrackingAnalyzer.Analysis analyze(String regex) {
+        return BacktrackingAnalyzer.analyze(LinearPattern.compile(regex));
+    }
+
+    @Test
+    public void testBacktrackingAnalyzer() {
+        log.info("BacktrackingAnalyzer TestCase classifying the matching time of regexes");
+        for (String regex : new String[]{"(a+)+b", "(a|aa)+b", "(\\w+\\s?)+$", "(a*)*b", "^(a|a)*$", "(x+x+)+y",
+                "x(a|b|ab)*y", "(a{2,5})+b", "(a{1,30}){1,10}b", "(a{1,5}){1,8}b", "(?:a|aa){1,20}b",
+                "(\\w{1,10}\\s?){1,5}x"}) {
+            AssertJUnit.assertEquals(regex, BacktrackingAnalyzer.Complexity.EXPONENTIAL,
+                    analyze(regex).getComplexity());
+        }
+        for (String regex : new String[]{"\\d+\\.\\d+", "[a-z]+@[a-z]+\\.com", "^(\\w+\\.)*\\w+@", "(ab|ac)+",
+                "(a|b)*c", "\\s*\\S+\\s*$", "([a-z]+\\.)+[a-z]+", "(\\d{20})*", "WSO2", "(\\d{1,3}\\.){3}\\d{1,3}",
+                "a{1,30}b"}) {
+            BacktrackingAnalyzer.Analysis analysis = analyze(regex);
+            AssertJUnit.assertEquals(regex, BacktrackingAnalyzer.Complexity.LINEAR, analysis.getComplexity());
+            AssertJUnit.assertEquals(regex, 1, analysis.getDegree());
+        }
+        AssertJUnit.assertEquals(2, analyze(".*foo.*bar").getDegree());
+        AssertJUnit.assertEquals(2, analyze("\\w+\\d+").getDegree());
+        AssertJUnit.assertEquals(3, analyze(".*a.*b.*c").getDegree());
+        AssertJUnit.assertEquals(BacktrackingAnalyzer.Complexity.POLYNOMIAL, analyze("(.*?,){11}P").getComplexity());
+        AssertJUnit.assertEquals(11, analyze("(.*?,){11}P").getDegree());
+
+        BacktrackingAnalyzer.Analysis analysis = analyze("<(a+)+>");
+        AssertJUnit.assertEquals("<a", analysis.getPrefix());
+        AssertJUnit.assertEquals("a", analysis.getPump());
+        AssertJUnit.assertNull(analyze("(a|b){1000}"));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testBacktrackingAnalyzer2() {
+        log.info("BacktrackingAnalyzer TestCase rejecting a regex that backtracks exponentially");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.find.backtracking.check", "reject");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "from InputStream " +
+                "select regex:find('(\\w+\\s?)+$', msg) as found " +
+                "insert into OutputStream;";
+        siddhiManager.createSiddhiAppRuntime(siddhiApp);
+    }
+
+    @Test
+    public void testBacktrackingAnalyzer3() throws InterruptedException {
+        log.info("BacktrackingAnalyzer TestCase matching the regexes that backtrack with the linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.matches.backtracking.check", "linear");
+        configMap.put("regex.group.backtracking.check", "linear");
+        configMap.put("regex.group.backtracking.max.degree", "1");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "from InputStream " +
+                "select regex:matches('(a+)+b', msg) as matched, regex:group('(.*)=(.*)', msg, 2) as value " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        AtomicInteger count = new AtomicInteger(0);
+        List<Object> results = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    results.add(event.getData(0));
+                    results.add(event.getData(1));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaac"});
+        inputHandler.send(new Object[]{"aab"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(2, count.get());
+        AssertJUnit.assertEquals(false, results.get(0));
+        AssertJUnit.assertNull(results.get(1));
+        AssertJUnit.assertEquals(true, results.get(2));
+        AssertJUnit.assertNull(results.get(3));
+        siddhiAppRuntime.shutdown();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExtractStreamProcessorExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(ExtractStreamProcessorExtensionTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testExtractStreamProcessorExtension1() throws InterruptedException {
+        log.info("ExtractStreamProcessorExtension TestCase with typed named groups");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (msg string, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:extract('(?<ts>\\d+) (?<level>\\w+) took (?<latency>[\\d.]+)ms" +
+                "(?: (\\w+)=(?<ok>\\w+))?', msg, 'ts long, latency double, ok bool') " +
+                "select price, ts, level, latency, ok " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"1620000000 INFO took 12.5ms status=TRUE", 10L});
+        inputHandler.send(new Object[]{"99999999999999999999 WARN took 1.2.3ms", 20L});
+        inputHandler.send(new Object[]{"no match", 30L});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(10L, 1620000000L, "INFO", 12.5, true),
+                Arrays.<Object>asList(20L, null, "WARN", null, null),
+                Arrays.<Object>asList(30L, null, null, null, null)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testExtractStreamProcessorExtension2() throws InterruptedException {
+        log.info("ExtractStreamProcessorExtension TestCase parsing numbers of byte[] and ByteBuffer inputs with the " +
+                "linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.extract.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (msg object, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:extract('(?<ts>\\d+) (?<level>\\w+) took (?<latency>[\\d.]+)ms" +
+                "(?: (\\w+)=(?<ok>\\w+))?', msg, 'ts long, latency double, ok bool') " +
+                "select price, ts, level, latency, ok " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"-42 DEBUG took 7ms".getBytes(StandardCharsets.UTF_8), 10L});
+        inputHandler.send(new Object[]{ByteBuffer.wrap("5 INFO took 0.5ms status=false"
+                .getBytes(StandardCharsets.UTF_8)), 20L});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(10L, 42L, "DEBUG", 7.0, null),
+                Arrays.<Object>asList(20L, 5L, "INFO", 0.5, false)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testExtractStreamProcessorExtension3() {
+        log.info("ExtractStreamProcessorExtension TestCase with a type declared for a missing group");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (msg string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:extract('(?<ts>\\d+)', msg, 'ts long, latency double') " +
+                "select ts " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testExtractStreamProcessorExtension4() {
+        log.info("ExtractStreamProcessorExtension TestCase with an invalid type");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (msg string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:extract('(?<ts>\\d+)', msg, 'ts timestamp') " +
+                "select ts " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test
+    public void testExtractStreamProcessorExtension5() throws InterruptedException {
+        log.info("ExtractStreamProcessorExtension TestCase with null inputs and inputs that are not character data");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (msg object, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:extract('(?<n>\\d+)', msg, 'n int') " +
+                "select price, n " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{null, 10L});
+        // Neither a string, byte[] nor ByteBuffer, hence the event is dropped after logging the error.
+        inputHandler.send(new Object[]{42, 20L});
+        inputHandler.send(new Object[]{"id 7", 30L});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(10L, null),
+                Arrays.<Object>asList(30L, 7)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testExtractStreamProcessorExtension6() throws InterruptedException {
+        log.info("ExtractStreamProcessorExtension TestCase emitting null attributes for an input exceeding the step " +
+                "limit");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.extract.match.step.limit", "100000");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (msg string, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:extract('(?<n>\\d+)|((a+)+)+b', msg, 'n int') " +
+                "select price, n " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        // The number would be found after the run of 'a's if matching were not aborted on it.
+        inputHandler.send(new Object[]{"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa! 12", 10L});
+        inputHandler.send(new Object[]{"7 aab", 20L});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(10L, null),
+                Arrays.<Object>asList(20L, 7)), received);
+        siddhiAppRuntime.shutdown();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.util.BatchMatcher;
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class FilterBatchStreamProcessorExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(FilterBatchStreamProcessorExtensionTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testBatchMatcher() {
+        log.info("FilterBatchStreamProcessorExtension TestCase evaluating a column of inputs");
+        Pattern pattern = Pattern.compile("(\\d\\d)(.*)(WSO2.*)");
+        BatchMatcher batchMatcher = new BatchMatcher(pattern, null, LiteralPrefilter.create(pattern.pattern(), 0),
+                null, "query1");
+        CharSequence[] inputs = {"21 products are produced by WSO2 currently", null, "WSO2 is situated in trace",
+                "21 products are produced by Siddhi", "unused"};
+        boolean[] results = new boolean[4];
+        AssertJUnit.assertEquals(1, batchMatcher.find(inputs, 4, results));
+        AssertJUnit.assertTrue(Arrays.equals(new boolean[]{true, false, false, false}, results));
+        AssertJUnit.assertEquals(0, batchMatcher.lookingAt(new CharSequence[]{" 21 WSO2"}, 1, results));
+        AssertJUnit.assertEquals(1, batchMatcher.matches(new CharSequence[]{"21 WSO2"}, 1, results));
+        String[] groups = new String[4];
+        AssertJUnit.assertEquals(1, batchMatcher.group(inputs, 4, 3, groups));
+        AssertJUnit.assertEquals(Arrays.asList("WSO2 currently", null, null, null), Arrays.asList(groups));
+    }
+
+    @Test
+    public void testFilterBatchStreamProcessorExtension1() throws InterruptedException {
+        log.info("FilterBatchStreamProcessorExtension TestCase filtering a batch of events");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:filterBatch('\\d\\d(.*)WSO2', symbol) " +
+                "select symbol, price " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<Object> prices = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    prices.add(inEvent.getData(1));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        Event[] events = new Event[200];
+        for (int i = 0; i < events.length; i++) {
+            String symbol = i % 4 == 0 ? "21 products are produced by WSO2 currently"
+                    : i % 4 == 1 ? "WSO2 is situated in trace" : i % 4 == 2 ? null : "21 products by Siddhi";
+            events[i] = new Event(System.currentTimeMillis(), new Object[]{symbol, (long) i});
+        }
+        inputHandler.send(events);
+        inputHandler.send(new Object[]{"WSO2 is situated in trace", 1000L});
+        inputHandler.send(new Object[]{"10 years of WSO2", 1001L});
+        SiddhiTestHelper.waitForEvents(100, 51, count, 60000);
+        AssertJUnit.assertEquals(51, count.get());
+        for (int i = 0; i < 50; i++) {
+            AssertJUnit.assertEquals((long) i * 4, prices.get(i));
+        }
+        AssertJUnit.assertEquals(1001L, prices.get(50));
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testFilterBatchStreamProcessorExtension2() throws InterruptedException {
+        log.info("FilterBatchStreamProcessorExtension TestCase with flags, byte[] inputs and the linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.filterBatch.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (payload object, id int);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:filterBatch('wso2.*middleware', payload, 'CASE_INSENSITIVE') " +
+                "select id " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(2, inEvent.getData(0));
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{
+                        "WSO2 is situated in trace".getBytes(StandardCharsets.UTF_8), 1}),
+                new Event(System.currentTimeMillis(), new Object[]{
+                        "WSO2 is a MIDDLEWARE company".getBytes(StandardCharsets.UTF_8), 2})});
+        SiddhiTestHelper.waitForEvents(100, 1, count, 60000);
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testFilterBatchStreamProcessorExtension3() {
+        log.info("FilterBatchStreamProcessorExtension TestCase with a regex that is not a constant");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:filterBatch(regex, symbol) " +
+                "select symbol " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+}
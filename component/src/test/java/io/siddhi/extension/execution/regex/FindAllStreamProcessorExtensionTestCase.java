@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FindAllStreamProcessorExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(FindAllStreamProcessorExtensionTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testFindAllStreamProcessorExtension1() throws InterruptedException {
+        log.info("FindAllStreamProcessorExtension TestCase with key value pairs");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:findAll('(?<key>\\w+)=(\\w+)', symbol) " +
+                "select price, match, startIndex, endIndex, key, group2 " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"user=admin host=wso2", 10L});
+        inputHandler.send(new Object[]{"no pairs here", 20L});
+        inputHandler.send(new Object[]{null, 30L});
+        inputHandler.send(new Object[]{"port=9443", 40L});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(10L, "user=admin", 0, 10, "user", "admin"),
+                Arrays.<Object>asList(10L, "host=wso2", 11, 20, "host", "wso2"),
+                Arrays.<Object>asList(40L, "port=9443", 0, 9, "port", "9443")), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testFindAllStreamProcessorExtension2() throws InterruptedException {
+        log.info("FindAllStreamProcessorExtension TestCase with the linear engine and a group not taking part in " +
+                "a match");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.findAll.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:findAll('(\\w+)(?:=(\\d+))?', symbol) " +
+                "select match, startIndex, endIndex, group1, group2 " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"a=1 b c=22"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList("a=1", 0, 3, "a", "1"),
+                Arrays.<Object>asList("b", 4, 5, "b", null),
+                Arrays.<Object>asList("c=22", 6, 10, "c", "22")), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testFindAllStreamProcessorExtension3() throws InterruptedException {
+        log.info("FindAllStreamProcessorExtension TestCase with empty matches");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:findAll('a*', symbol) " +
+                "select match, startIndex, endIndex " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"baaac"});
+        SiddhiTestHelper.waitForEvents(100, 4, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList("", 0, 0),
+                Arrays.<Object>asList("aaa", 1, 4),
+                Arrays.<Object>asList("", 4, 4),
+                Arrays.<Object>asList("", 5, 5)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testFindAllStreamProcessorExtension4() {
+        log.info("FindAllStreamProcessorExtension TestCase with a group named after a returned attribute");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:findAll('(?<match>\\w+)', symbol) " +
+                "select * " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test
+    public void testFindAllStreamProcessorExtension5() throws InterruptedException {
+        log.info("FindAllStreamProcessorExtension TestCase dropping the matches of an event exceeding the step limit");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.findAll.match.step.limit", "100000");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:findAll('x|((a+)+)+b', symbol) " +
+                "select symbol, match " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"x x aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!"});
+        inputHandler.send(new Object[]{"x aab"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList("x aab", "x"),
+                Arrays.<Object>asList("x aab", "aab")), received);
+        siddhiAppRuntime.shutdown();
+    }
+}
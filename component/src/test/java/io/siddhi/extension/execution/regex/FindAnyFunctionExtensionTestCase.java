@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FindAnyFunctionExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(FindAnyFunctionExtensionTestCase.class);
+    private AtomicInteger count;
+    private volatile boolean eventArrived;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+        eventArrived = false;
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testFindAnyFunctionExtension1() {
+        log.info("FindAnyFunctionExtension TestCase with invalid number of arguments");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select symbol , regex:findAny(symbol) as ruleIndex " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testFindAnyFunctionExtension2() {
+        log.info("FindAnyFunctionExtension TestCase with a non constant regex");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select symbol , regex:findAny(symbol, 'WSO2', regex) as ruleIndex " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test
+    public void testFindAnyFunctionExtension3() throws InterruptedException {
+        log.info("FindAnyFunctionExtension TestCase");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select symbol, regex:findAny(symbol, 'Siddhi(.*)', '\\d\\d(.*)WSO2', 'WSO2', '[a-z]+ing') " +
+                "as ruleIndex, regex:findAnyIndices(symbol, 'Siddhi(.*)', '\\d\\d(.*)WSO2', 'WSO2', " +
+                "'[a-z]+ing') as ruleIndexes " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1) {
+                        AssertJUnit.assertEquals(1, inEvent.getData(1));
+                        AssertJUnit.assertEquals(Arrays.asList(1, 2), inEvent.getData(2));
+                    }
+                    if (count.get() == 2) {
+                        AssertJUnit.assertEquals(0, inEvent.getData(1));
+                        AssertJUnit.assertEquals(Arrays.asList(0, 3), inEvent.getData(2));
+                    }
+                    if (count.get() == 3) {
+                        AssertJUnit.assertEquals(-1, inEvent.getData(1));
+                        AssertJUnit.assertEquals(Collections.emptyList(), inEvent.getData(2));
+                    }
+                    if (count.get() == 4) {
+                        AssertJUnit.assertEquals(-1, inEvent.getData(1));
+                        AssertJUnit.assertEquals(Collections.emptyList(), inEvent.getData(2));
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"21 products are produced by WSO2 currently", 60L});
+        inputHandler.send(new Object[]{"Siddhi is a streaming engine", 60L});
+        inputHandler.send(new Object[]{"21 PRODUCTS", 60L});
+        inputHandler.send(new Object[]{null, 60L});
+        SiddhiTestHelper.waitForEvents(100, 4, count, 60000);
+        AssertJUnit.assertEquals(4, count.get());
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+}
@@ -24,6 +24,7 @@ import io.siddhi.core.event.Event;
 import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.core.util.SiddhiTestHelper;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +33,10 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class FindFunctionExtensionTestCase {
@@ -177,4 +182,173 @@ public class FindFunctionExtensionTestCase {
                                                + "by WSO2 employees", 60.5f, "\\d\\d(.*)WSO2", "WSO2"});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testFindFunctionExtensionTestCase8() throws InterruptedException {
+        log.info("FindFunctionExtension TestCase with partitions processed by concurrent threads");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger matchCount = new AtomicInteger(0);
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long);";
+        String query = ("partition with (price of inputStream) " +
+                "begin " +
+                "   from inputStream " +
+                "   select symbol, regex:find('\\d\\d(.*)WSO2', symbol) as aboutWSO2 " +
+                "   insert into outputStream; " +
+                "end;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("outputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                for (Event event : events) {
+                    boolean expected = ((String) event.getData(0)).startsWith("21");
+                    AssertJUnit.assertEquals(expected, event.getData(1));
+                    if (expected) {
+                        matchCount.incrementAndGet();
+                    }
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        List<Thread> senders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            long partitionKey = i;
+            Thread sender = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 250; j++) {
+                        inputHandler.send(new Object[]{"21 products are produced by WSO2 currently", partitionKey});
+                        inputHandler.send(new Object[]{"WSO2 is situated in trace and its a middleware company",
+                                partitionKey});
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            senders.add(sender);
+            sender.start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        SiddhiTestHelper.waitForEvents(100, 2000, count, 60000);
+        AssertJUnit.assertEquals(2000, count.get());
+        AssertJUnit.assertEquals(1000, matchCount.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testFindFunctionExtensionTestCase9() throws InterruptedException {
+        log.info("FindFunctionExtension TestCase with flags");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find('wso2(.*)middleware', symbol, 'CASE_INSENSITIVE') as find, " +
+                "regex:find('wso2(.*)middleware', symbol, 10, 'CASE_INSENSITIVE') as findFrom, " +
+                "regex:find(regex, symbol, 'CASE_INSENSITIVE|DOTALL') as findDynamic, " +
+                "regex:find('(.*)', symbol, 'LITERAL') as findLiteral " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1) {
+                        AssertJUnit.assertEquals(true, inEvent.getData(0));
+                        AssertJUnit.assertEquals(false, inEvent.getData(1));
+                        AssertJUnit.assertEquals(true, inEvent.getData(2));
+                        AssertJUnit.assertEquals(false, inEvent.getData(3));
+                    }
+                    if (count.get() == 2) {
+                        AssertJUnit.assertEquals(false, inEvent.getData(0));
+                        AssertJUnit.assertEquals(false, inEvent.getData(1));
+                        AssertJUnit.assertEquals(true, inEvent.getData(2));
+                        AssertJUnit.assertEquals(true, inEvent.getData(3));
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"WSO2 is situated in trace and its a MIDDLEWARE company", "wso2.*COMPANY"});
+        inputHandler.send(new Object[]{"WSO2 (.*)\nmiddleware", "wso2.*MIDDLEWARE"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testFindFunctionExtensionTestCase10() throws InterruptedException {
+        log.info("FindFunctionExtension TestCase with an invalid flag");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select symbol , regex:find(regex, symbol, 'CASE_INSENSITIVE|GLOBAL') as aboutWSO2 " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test
+    public void testFindFunctionExtensionTestCase11() throws InterruptedException {
+        log.info("FindFunctionExtension TestCase with byte[] and ByteBuffer inputs");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (payload object);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find('WSO2(.*)middleware', payload) as find, " +
+                "regex:find('wso2', payload, 'CASE_INSENSITIVE') as findFlags, " +
+                "regex:matches('.*company', payload) as matches, " +
+                "regex:group('WSO2 (\\S+)', payload, 1) as word " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1 || count.get() == 2) {
+                        AssertJUnit.assertEquals(true, inEvent.getData(0));
+                        AssertJUnit.assertEquals(true, inEvent.getData(1));
+                        AssertJUnit.assertEquals(true, inEvent.getData(2));
+                        AssertJUnit.assertEquals("is", inEvent.getData(3));
+                    }
+                    if (count.get() == 3) {
+                        AssertJUnit.assertEquals(false, inEvent.getData(0));
+                        AssertJUnit.assertEquals(true, inEvent.getData(1));
+                        AssertJUnit.assertEquals(false, inEvent.getData(2));
+                        AssertJUnit.assertEquals("gr\u00fc\u00dft", inEvent.getData(3));
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        byte[] payload = "WSO2 is a middleware company".getBytes(StandardCharsets.UTF_8);
+        inputHandler.send(new Object[]{payload});
+        ByteBuffer buffer = ByteBuffer.allocateDirect(payload.length + 4);
+        buffer.put(new byte[]{1, 2}).put(payload).flip().position(2);
+        inputHandler.send(new Object[]{buffer});
+        inputHandler.send(new Object[]{"wso2 WSO2 gr\u00fc\u00dft".getBytes(StandardCharsets.UTF_8)});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertTrue(eventArrived);
+        AssertJUnit.assertEquals(2, buffer.position());
+        siddhiAppRuntime.shutdown();
+    }
 }
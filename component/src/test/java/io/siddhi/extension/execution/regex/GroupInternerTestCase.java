@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.util.GroupInterner;
+import io.siddhi.extension.execution.regex.util.InputSequences;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GroupInternerTestCase {
+    private static final Logger log = LogManager.getLogger(GroupInternerTestCase.class);
+
+    @Test
+    public void testGroupInterner() {
+        log.info("GroupInterner TestCase");
+        GroupInterner groupInterner = new GroupInterner(100, 8);
+        AssertJUnit.assertEquals(128, groupInterner.getCapacity());
+        String get = groupInterner.intern("GET /index.html", 0, 3);
+        AssertJUnit.assertEquals("GET", get);
+        AssertJUnit.assertSame(get, groupInterner.intern("GET /about.html", 0, 3));
+        CharSequence bytes = InputSequences.of("POST /login GET".getBytes(StandardCharsets.UTF_8));
+        AssertJUnit.assertSame(get, groupInterner.intern(bytes, 12, 15));
+        AssertJUnit.assertEquals("POST", groupInterner.intern(bytes, 0, 4));
+        AssertJUnit.assertEquals("/index.html", groupInterner.intern("GET /index.html", 4, 15));
+        AssertJUnit.assertNotSame(groupInterner.intern("GET /index.html", 4, 15),
+                groupInterner.intern("GET /index.html", 4, 15));
+        AssertJUnit.assertNull(groupInterner.intern("GET", -1, -1));
+        AssertJUnit.assertEquals(2, groupInterner.getHitCount());
+        AssertJUnit.assertEquals(2, groupInterner.getMissCount());
+    }
+
+    @Test
+    public void testGroupInternerWithGroupFunction() throws InterruptedException {
+        log.info("GroupInterner TestCase with regex:group()");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.group.group.intern.size", "16");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (request string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:group('^(\\w+) (\\S+)', request, 1) as method " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        AtomicInteger count = new AtomicInteger(0);
+        List<Object> methods = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    methods.add(event.getData(0));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"GET /index.html"});
+        inputHandler.send(new Object[]{"POST /login"});
+        inputHandler.send(new Object[]{"GET /about.html"});
+        inputHandler.send(new Object[]{"-"});
+        SiddhiTestHelper.waitForEvents(100, 4, count, 60000);
+        AssertJUnit.assertEquals("GET", methods.get(0));
+        AssertJUnit.assertEquals("POST", methods.get(1));
+        AssertJUnit.assertSame(methods.get(0), methods.get(2));
+        AssertJUnit.assertNull(methods.get(3));
+        siddhiAppRuntime.shutdown();
+    }
+}
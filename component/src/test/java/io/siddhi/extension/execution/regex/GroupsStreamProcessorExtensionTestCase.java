@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.util.CaptureGroups;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class GroupsStreamProcessorExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(GroupsStreamProcessorExtensionTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testCaptureGroupNames() {
+        log.info("GroupsStreamProcessorExtension TestCase resolving the names of the capturing groups");
+        AssertJUnit.assertEquals(Arrays.asList(null, null, "mid", "end"), Arrays.asList(
+                CaptureGroups.names(Pattern.compile("(\\d\\d)(?<mid>.*)(?:x)(?<end>WSO2.*)"))));
+        AssertJUnit.assertEquals(Arrays.asList(null, null, "n1"), Arrays.asList(
+                CaptureGroups.names(Pattern.compile("[(](a)\\((?<=b)(?<n1>c)"))));
+        AssertJUnit.assertEquals(Arrays.asList(null, null, "w"), Arrays.asList(
+                CaptureGroups.names(Pattern.compile("\\Q(x)\\E(y)[]()](?<w>z)"))));
+        AssertJUnit.assertEquals(1, CaptureGroups.names(Pattern.compile("(a)", Pattern.LITERAL)).length);
+    }
+
+    @Test
+    public void testGroupsStreamProcessorExtension1() throws InterruptedException {
+        log.info("GroupsStreamProcessorExtension TestCase with numbered and named groups");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:groups('(\\d\\d) (\\w+) .* (?<company>WSO2.*)', symbol) " +
+                "select symbol, group1, group2, company " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1) {
+                        AssertJUnit.assertEquals("21", inEvent.getData(1));
+                        AssertJUnit.assertEquals("products", inEvent.getData(2));
+                        AssertJUnit.assertEquals("WSO2 currently", inEvent.getData(3));
+                    }
+                    if (count.get() == 2 || count.get() == 3) {
+                        AssertJUnit.assertNull(inEvent.getData(1));
+                        AssertJUnit.assertNull(inEvent.getData(2));
+                        AssertJUnit.assertNull(inEvent.getData(3));
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"21 products are produced by WSO2 currently", 60L});
+        inputHandler.send(new Object[]{"WSO2 is situated in trace and its a middleware company", 70L});
+        inputHandler.send(new Object[]{null, 80L});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(3, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testGroupsStreamProcessorExtension2() throws InterruptedException {
+        log.info("GroupsStreamProcessorExtension TestCase with the linear engine and optional groups");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.groups.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:groups('(?<key>\\w+)=(?<value>\\w+)(;(\\d+))?', symbol) " +
+                "select key, value, group3, group4 " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1) {
+                        AssertJUnit.assertEquals("host", inEvent.getData(0));
+                        AssertJUnit.assertEquals("wso2", inEvent.getData(1));
+                        AssertJUnit.assertEquals(";443", inEvent.getData(2));
+                        AssertJUnit.assertEquals("443", inEvent.getData(3));
+                    }
+                    if (count.get() == 2) {
+                        AssertJUnit.assertEquals("user", inEvent.getData(0));
+                        AssertJUnit.assertEquals("admin", inEvent.getData(1));
+                        AssertJUnit.assertNull(inEvent.getData(2));
+                        AssertJUnit.assertNull(inEvent.getData(3));
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"connect host=wso2;443"});
+        inputHandler.send(new Object[]{"login user=admin"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testGroupsStreamProcessorExtension3() {
+        log.info("GroupsStreamProcessorExtension TestCase with a regex given as an event attribute");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:groups(regex, symbol) " +
+                "select * " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testGroupsStreamProcessorExtension4() {
+        log.info("GroupsStreamProcessorExtension TestCase with a group named after an input attribute");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:groups('(?<symbol>\\w+)', symbol) " +
+                "select * " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.CannotRestoreSiddhiAppStateException;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IncrementalFindStreamProcessorExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(IncrementalFindStreamProcessorExtensionTestCase.class);
+    private AtomicInteger count;
+    private List<Object> matches;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+        matches = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    private StreamCallback streamCallback() {
+        return new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    matches.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        };
+    }
+
+    @Test
+    public void testIncrementalFindStreamProcessorExtension1() throws InterruptedException {
+        log.info("IncrementalFindStreamProcessorExtension TestCase with matches spanning the fragments of each key");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String siddhiApp = "define stream PayloadStream (connection string, chunk string); " +
+                "partition with (connection of PayloadStream) " +
+                "begin " +
+                "   from PayloadStream#regex:incrementalFind('ERROR (\\d+)', chunk) " +
+                "   select connection, match, startOffset, endOffset, group1 as code " +
+                "   insert into ErrorStream; " +
+                "end;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("ErrorStream", streamCallback());
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("PayloadStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"c1", "log: ERR"});
+        inputHandler.send(new Object[]{"c2", "ERROR 4"});
+        inputHandler.send(new Object[]{"c1", "OR 50"});
+        inputHandler.send(new Object[]{"c1", null});
+        inputHandler.send(new Object[]{"c2", "04 and ERROR 1"});
+        inputHandler.send(new Object[]{"c1", "3 done"});
+        inputHandler.send(new Object[]{"c2", "2"});
+        inputHandler.send(new Object[]{"c2", "."});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.asList("c2", "ERROR 404", 0L, 9L, "404"),
+                Arrays.asList("c1", "ERROR 503", 5L, 14L, "503"),
+                Arrays.asList("c2", "ERROR 12", 14L, 22L, "12")), matches);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testIncrementalFindStreamProcessorExtension2() throws InterruptedException,
+            CannotRestoreSiddhiAppStateException {
+        log.info("IncrementalFindStreamProcessorExtension TestCase restoring a match in progress");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setPersistenceStore(new InMemoryPersistenceStore());
+
+        String siddhiApp = "@app:name('IncrementalFind') " +
+                "define stream PayloadStream (chunk string); " +
+                "@info(name = 'query1') " +
+                "from PayloadStream#regex:incrementalFind('<(?<tag>\\w+)>', chunk) " +
+                "select match, startOffset, tag " +
+                "insert into TagStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("TagStream", streamCallback());
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("PayloadStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"<a> text <bo"});
+        SiddhiTestHelper.waitForEvents(100, 1, count, 60000);
+        siddhiAppRuntime.persist();
+        siddhiAppRuntime.shutdown();
+
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("TagStream", streamCallback());
+        inputHandler = siddhiAppRuntime.getInputHandler("PayloadStream");
+        siddhiAppRuntime.start();
+        siddhiAppRuntime.restoreLastRevision();
+        inputHandler.send(new Object[]{"dy> <p"});
+        inputHandler.send(new Object[]{">"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.asList("<a>", 0L, "a"),
+                Arrays.asList("<body>", 9L, "body"),
+                Arrays.asList("<p>", 16L, "p")), matches);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testIncrementalFindStreamProcessorExtension3() {
+        log.info("IncrementalFindStreamProcessorExtension TestCase with a regex the linear engine does not support");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String siddhiApp = "define stream PayloadStream (chunk string); " +
+                "from PayloadStream#regex:incrementalFind('(a)\\1', chunk) " +
+                "select match " +
+                "insert into OutputStream;";
+        siddhiManager.createSiddhiAppRuntime(siddhiApp);
+    }
+}
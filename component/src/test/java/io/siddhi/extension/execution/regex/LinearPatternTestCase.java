@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.linear.LinearMatcher;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.linear.UnsupportedRegexException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class LinearPatternTestCase {
+    private static final Logger log = LogManager.getLogger(LinearPatternTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testLinearPatternMatchesJdk() {
+        log.info("LinearPattern TestCase comparing matches and groups with java.util.regex");
+        String[][] cases = {
+                {"\\d\\d(.*)WSO2", "21 products are produced within 10 years by WSO2 currently by WSO2 employees"},
+                {"(\\d\\d)(.*?)(WSO2.*)", "21 products are produced by WSO2 currently"},
+                {"(?<word>\\w+)\\s(\\w+)", "WSO2 is situated in trace"},
+                {"^(a|ab)(c|bcd)(d*)$", "abcd"},
+                {"(a*)+b|(a|b)*?c", "aaab aac"},
+                {"[^a-c\\s]+|\\bis\\b", "WSO2 is a middleware company"},
+                {"x{2,3}?|y{2}|z{1,}", "xxxx yyy zz"},
+                {"(?:\\Q1+1\\E=)+2", "1+1=1+1=2"},
+                {"^\\w+$", "line one\nline_two\r\nthree"},
+                {".+", "one\r\ntwo\u2028three"},
+                {"(|a)*b", "aab"}
+        };
+        int[] flagSets = {0, Pattern.CASE_INSENSITIVE, Pattern.MULTILINE, Pattern.DOTALL | Pattern.UNIX_LINES};
+        for (String[] testCase : cases) {
+            for (int flags : flagSets) {
+                Matcher expected = Pattern.compile(testCase[0], flags).matcher(testCase[1]);
+                LinearMatcher actual = LinearPattern.compile(testCase[0], flags).matcher(testCase[1]);
+                while (expected.find()) {
+                    AssertJUnit.assertTrue(actual.find());
+                    for (int group = 0; group <= expected.groupCount(); group++) {
+                        AssertJUnit.assertEquals(testCase[0], expected.group(group), actual.group(group));
+                    }
+                }
+                AssertJUnit.assertFalse(actual.find());
+                AssertJUnit.assertEquals(expected.matches(), actual.matches());
+                AssertJUnit.assertEquals(expected.lookingAt(), actual.lookingAt());
+            }
+        }
+    }
+
+    @Test
+    public void testLinearPatternUnsupportedConstructs() {
+        log.info("LinearPattern TestCase with constructs the linear engine does not support");
+        String[] regexes = {"(a)\\1", "a(?=b)", "(?<!a)b", "(?>a+)b", "a*+", "(?i)wso2", "\\p{Lu}", "[a-z&&[^x]]"};
+        for (String regex : regexes) {
+            AssertJUnit.assertFalse(regex, LinearPattern.isSupported(regex, 0));
+            try {
+                LinearPattern.compile(regex, 0);
+                AssertJUnit.fail(regex);
+            } catch (UnsupportedRegexException e) {
+                AssertJUnit.assertNotNull(e.getMessage());
+            }
+        }
+        AssertJUnit.assertFalse(LinearPattern.isSupported("(a", 0));
+        AssertJUnit.assertFalse(LinearPattern.isSupported("a", Pattern.COMMENTS));
+    }
+
+    @Test(timeOut = 10000)
+    public void testLinearPatternCatastrophicRegex() {
+        log.info("LinearPattern TestCase with a regex that backtracks catastrophically in java.util.regex");
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            input.append('a');
+        }
+        input.append('!');
+        LinearPattern linearPattern = LinearPattern.compile("(a+)+$");
+        AssertJUnit.assertFalse(linearPattern.find(input, 0));
+        AssertJUnit.assertFalse(linearPattern.matches(input));
+        AssertJUnit.assertTrue(LinearPattern.compile("(a|aa)+!").matches(input));
+        AssertJUnit.assertEquals(-1, linearPattern.maxMatchLength());
+        AssertJUnit.assertEquals(5, LinearPattern.compile("a{2,3}(b|cd)?").maxMatchLength());
+    }
+
+    @Test
+    public void testLinearEngineFunctions() throws InterruptedException {
+        log.info("LinearPattern TestCase with the regex functions configured to use the linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.find.regex.engine", "linear");
+        configMap.put("regex.matches.regex.engine", "linear");
+        configMap.put("regex.lookingAt.regex.engine", "linear");
+        configMap.put("regex.group.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find('\\d\\d(.*)WSO2', symbol) as find, " +
+                "regex:find(regex, symbol, 32) as findFrom, " +
+                "regex:matches('(a+)+$', symbol) as matches, " +
+                "regex:lookingAt(regex, symbol) as lookingAt, " +
+                "regex:group('(\\d\\d)(.*)(WSO2.*)', symbol, 3) as group, " +
+                "regex:find('(WSO2)\\1?', symbol) as fallback " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1) {
+                        AssertJUnit.assertEquals(true, inEvent.getData(0));
+                        AssertJUnit.assertEquals(false, inEvent.getData(1));
+                        AssertJUnit.assertEquals(false, inEvent.getData(2));
+                        AssertJUnit.assertEquals(true, inEvent.getData(3));
+                        AssertJUnit.assertEquals("WSO2 currently", inEvent.getData(4));
+                        AssertJUnit.assertEquals(true, inEvent.getData(5));
+                    }
+                    if (count.get() == 2) {
+                        AssertJUnit.assertEquals(false, inEvent.getData(0));
+                        AssertJUnit.assertEquals(true, inEvent.getData(1));
+                        AssertJUnit.assertEquals(true, inEvent.getData(2));
+                        AssertJUnit.assertEquals(true, inEvent.getData(3));
+                        AssertJUnit.assertNull(inEvent.getData(4));
+                        AssertJUnit.assertEquals(false, inEvent.getData(5));
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"21 products are produced by WSO2 currently", "\\d+"});
+        inputHandler.send(new Object[]{"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", "a"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testLinearEngineWithoutFallback() {
+        log.info("LinearPattern TestCase with an unsupported regex and fallback disabled");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.find.regex.engine", "linear");
+        configMap.put("regex.find.linear.engine.fallback", "false");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find('(WSO2)\\1', symbol) as aboutWSO2 " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+}
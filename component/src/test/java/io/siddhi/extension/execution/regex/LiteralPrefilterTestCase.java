@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.extension.execution.regex.util.LiteralPrefilter;
+import io.siddhi.extension.execution.regex.util.RequiredLiterals;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+public class LiteralPrefilterTestCase {
+    private static final Logger log = LogManager.getLogger(LiteralPrefilterTestCase.class);
+
+    @Test
+    public void testRequiredLiterals() {
+        log.info("RequiredLiterals TestCase");
+        AssertJUnit.assertEquals(Collections.singletonList("WSO2"), RequiredLiterals.extract("\\d\\d(.*)WSO2", 0));
+        AssertJUnit.assertEquals(Arrays.asList("WSO2 ", " ", "middleware"),
+                RequiredLiterals.extract("WSO2 (is|was) a?middleware", 0));
+        AssertJUnit.assertEquals(Arrays.asList("ab", "c"), RequiredLiterals.extract("ab+c", 0));
+        AssertJUnit.assertEquals(Collections.singletonList("a.b"), RequiredLiterals.extract("a\\.b", 0));
+        AssertJUnit.assertEquals(Collections.singletonList("bca"), RequiredLiterals.extract("[abc]+bca", 0));
+        AssertJUnit.assertEquals(Collections.emptyList(), RequiredLiterals.extract("WSO2|Siddhi", 0));
+        AssertJUnit.assertEquals(Collections.emptyList(), RequiredLiterals.extract("(?i)WSO2", 0));
+        AssertJUnit.assertEquals(Collections.emptyList(), RequiredLiterals.extract("(WSO2)\\1", 0));
+        AssertJUnit.assertEquals(Collections.emptyList(), RequiredLiterals.extract("WSO2", Pattern.CASE_INSENSITIVE));
+        AssertJUnit.assertEquals(Collections.singletonList("a.b"), RequiredLiterals.extract("a.b", Pattern.LITERAL));
+        AssertJUnit.assertEquals("middleware", RequiredLiterals.longest("WSO2 (is|was) a?middleware", 0));
+        AssertJUnit.assertNull(RequiredLiterals.longest("\\d+", 0));
+    }
+
+    @Test
+    public void testLiteralPrefilter() {
+        log.info("LiteralPrefilter TestCase");
+        LiteralPrefilter literalPrefilter = LiteralPrefilter.create("\\d\\d(.*)WSO2", 0);
+        AssertJUnit.assertNotNull(literalPrefilter);
+        AssertJUnit.assertTrue(literalPrefilter.mayMatch("21 products are produced by WSO2 currently", 0));
+        AssertJUnit.assertFalse(literalPrefilter.mayMatch("21 products are produced by WSO2 currently", 30));
+        AssertJUnit.assertFalse(literalPrefilter.mayMatch("21 products are produced by Siddhi", 0));
+        AssertJUnit.assertEquals(3, literalPrefilter.getEvaluationCount());
+        AssertJUnit.assertEquals(2, literalPrefilter.getRejectionCount());
+        AssertJUnit.assertNull(LiteralPrefilter.create("\\d\\d(.*)", 0));
+    }
+}
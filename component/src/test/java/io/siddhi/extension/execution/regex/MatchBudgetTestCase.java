@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.util.MatchBudget;
+import io.siddhi.extension.execution.regex.util.MatchBudgetExceededException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class MatchBudgetTestCase {
+    private static final Logger log = LogManager.getLogger(MatchBudgetTestCase.class);
+    // Backtracks catastrophically on a run of 'a's not followed by 'b', even with the memoization of recent JDKs.
+    private static final String CATASTROPHIC_REGEX = "((a+)+)+b";
+    private static final String CATASTROPHIC_INPUT = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testMatchBudget() {
+        log.info("MatchBudget TestCase aborting catastrophic backtracking");
+        Pattern pattern = Pattern.compile(CATASTROPHIC_REGEX);
+
+        MatchBudget stepBudget = new MatchBudget(0, 100000, "regex:find()");
+        AssertJUnit.assertTrue(pattern.matcher(stepBudget.wrap("aaab")).find());
+        try {
+            pattern.matcher(stepBudget.wrap(CATASTROPHIC_INPUT)).find();
+            AssertJUnit.fail("Step limit not enforced");
+        } catch (MatchBudgetExceededException e) {
+            AssertJUnit.assertTrue(e.getMessage().contains("step limit"));
+        }
+
+        MatchBudget timeBudget = new MatchBudget(50, 0, "regex:find()");
+        try {
+            pattern.matcher(timeBudget.wrap(CATASTROPHIC_INPUT)).find();
+            AssertJUnit.fail("Timeout not enforced");
+        } catch (MatchBudgetExceededException e) {
+            AssertJUnit.assertTrue(e.getMessage().contains("timeout"));
+        }
+        AssertJUnit.assertTrue(pattern.matcher(timeBudget.wrap("aaab")).find());
+    }
+
+    @Test
+    public void testMatchBudgetFunctions() throws InterruptedException {
+        log.info("MatchBudget TestCase with the regex functions configured with a timeout and a step limit");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.find.match.step.limit", "100000");
+        configMap.put("regex.matches.match.timeout", "50");
+        configMap.put("regex.lookingAt.match.step.limit", "100000");
+        configMap.put("regex.group.match.timeout", "50");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find(regex, symbol) as find, " +
+                "regex:matches(regex, symbol) as matches, " +
+                "regex:lookingAt('" + CATASTROPHIC_REGEX + "', symbol) as lookingAt, " +
+                "regex:group('(" + CATASTROPHIC_REGEX + ")', symbol, 1) as group " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    if (count.get() == 1) {
+                        AssertJUnit.assertEquals(true, inEvent.getData(0));
+                        AssertJUnit.assertEquals(true, inEvent.getData(1));
+                        AssertJUnit.assertEquals(true, inEvent.getData(2));
+                        AssertJUnit.assertEquals("aaab", inEvent.getData(3));
+                    }
+                    if (count.get() == 2) {
+                        AssertJUnit.assertEquals(false, inEvent.getData(0));
+                        AssertJUnit.assertEquals(false, inEvent.getData(1));
+                        AssertJUnit.assertEquals(false, inEvent.getData(2));
+                        AssertJUnit.assertNull(inEvent.getData(3));
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"aaab", CATASTROPHIC_REGEX});
+        inputHandler.send(new Object[]{CATASTROPHIC_INPUT, CATASTROPHIC_REGEX});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testInvalidMatchBudget() {
+        log.info("MatchBudget TestCase with a negative step limit");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.find.match.step.limit", "-1");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find('a+', symbol) as find " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+}
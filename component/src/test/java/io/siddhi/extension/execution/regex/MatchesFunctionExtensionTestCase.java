@@ -20,12 +20,19 @@ package io.siddhi.extension.execution.regex;
 
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
 import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class MatchesFunctionExtensionTestCase {
     private static final Logger log = LogManager.getLogger(MatchesFunctionExtensionTestCase.class);
 
@@ -86,4 +93,42 @@ public class MatchesFunctionExtensionTestCase {
         siddhiAppRuntime.shutdown();
     }
 
+    @Test
+    public void testMatchesFunctionExtension5() throws InterruptedException {
+        log.info("MatchesFunctionExtension TestCase with flags");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger count = new AtomicInteger(0);
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select symbol, regex:matches('wso2(.*)middleware(.*)', symbol, 'CASE_INSENSITIVE') as matches, " +
+                "regex:matches(regex, symbol) as matchesInline, " +
+                "regex:lookingAt('wso2', symbol, 'CASE_INSENSITIVE') as lookingAt, " +
+                "regex:group('(wso2) (\\w+)', symbol, 2, 'CASE_INSENSITIVE') as group " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(true, inEvent.getData(1));
+                    AssertJUnit.assertEquals(true, inEvent.getData(2));
+                    AssertJUnit.assertEquals(true, inEvent.getData(3));
+                    AssertJUnit.assertEquals("is", inEvent.getData(4));
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"WSO2 is situated in trace and its a MIDDLEWARE company", 60L,
+                "(?i)wso2(.*)middleware(.*)"});
+        SiddhiTestHelper.waitForEvents(100, 1, count, 60000);
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
 }
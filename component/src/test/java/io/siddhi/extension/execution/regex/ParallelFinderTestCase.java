@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.ParallelFinder;
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ParallelFinderTestCase {
+    private static final Logger log = LogManager.getLogger(ParallelFinderTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testParallelFinder() {
+        log.info("ParallelFinder TestCase comparing chunked matches with sequential matches");
+        String[] regexes = {"ab", "\\bab\\b", "^a", "b$", "(a|ab)(c|bcd)?", "x?", "[ab]{2,5}", "(?m)^ab", "aa|a",
+                "\\d{2}-\\d{2}"};
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = random.nextInt(200); j >= 0; j--) {
+                builder.append("aab \n01-23".charAt(random.nextInt(10)));
+            }
+            String input = builder.toString();
+            for (String regex : regexes) {
+                Pattern pattern = PatternCache.getInstance().getPattern(regex, 0);
+                LinearPattern linearPattern = PatternCache.getInstance().getLinearPattern(regex, 0);
+                int chunkSize = 1 + random.nextInt(10);
+                assertSameMatches(pattern, ParallelFinder.create(pattern, null, 0, chunkSize, null), input);
+                assertSameMatches(pattern, ParallelFinder.create(pattern, linearPattern, 0, chunkSize, null),
+                        input);
+            }
+        }
+        AssertJUnit.assertNull(ParallelFinder.create(Pattern.compile("a+b"), null, 0, 10, null));
+        AssertJUnit.assertNull(ParallelFinder.create(Pattern.compile("(a)\\1"), null, 0, 10, null));
+    }
+
+    private static void assertSameMatches(Pattern pattern, ParallelFinder parallelFinder, String input) {
+        List<String> expected = new ArrayList<>();
+        Matcher matcher = pattern.matcher(input);
+        while (matcher.find()) {
+            int[] match = new int[2 * (matcher.groupCount() + 1)];
+            for (int group = 0; group <= matcher.groupCount(); group++) {
+                match[2 * group] = matcher.start(group);
+                match[2 * group + 1] = matcher.end(group);
+            }
+            expected.add(Arrays.toString(match));
+        }
+        List<int[]> matches = new ArrayList<>();
+        parallelFinder.findAll(input, matches);
+        List<String> actual = new ArrayList<>();
+        for (int[] match : matches) {
+            actual.add(Arrays.toString(match));
+        }
+        AssertJUnit.assertEquals(pattern + " on " + input, expected, actual);
+        for (int from = 0; from <= input.length(); from++) {
+            AssertJUnit.assertEquals(pattern.matcher(input).find(from), parallelFinder.find(input, from));
+        }
+    }
+
+    @Test
+    public void testParallelFind() throws InterruptedException {
+        log.info("ParallelFinder TestCase with regex:find and #regex:findAll on large inputs");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.find.parallel.threshold", "1000");
+        configMap.put("regex.find.parallel.chunk.size", "100");
+        configMap.put("regex.findAll.parallel.threshold", "1000");
+        configMap.put("regex.findAll.parallel.chunk.size", "100");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (document string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select regex:find('WSO2-(\\d{4})', document) as find " +
+                "insert into findStream; " +
+                "@info(name = 'query2') " +
+                "from inputStream#regex:findAll('WSO2-(\\d{4})', document) " +
+                "select match, startIndex, group1 " +
+                "insert into findAllStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<Object> finds = new ArrayList<>();
+        List<Object> matches = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event inEvent : inEvents) {
+                    finds.add(inEvent.getData(0));
+                    count.incrementAndGet();
+                }
+            }
+        });
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event inEvent : inEvents) {
+                    matches.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        StringBuilder document = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            document.append("lorem ipsum ");
+        }
+        inputHandler.send(new Object[]{document.toString()});
+        document.insert(97, "WSO2-2026");
+        document.append("WSO2-1");
+        document.insert(5000, "WSO2-2015");
+        inputHandler.send(new Object[]{document.toString()});
+        SiddhiTestHelper.waitForEvents(100, 4, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(false, true), finds);
+        AssertJUnit.assertEquals(Arrays.asList(Arrays.asList("WSO2-2026", 97, "2026"),
+                Arrays.asList("WSO2-2015", 5000, "2015")), matches);
+        siddhiAppRuntime.shutdown();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.extension.execution.regex.util.PatternCache;
+import io.siddhi.extension.execution.regex.util.RegexFlags;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+public class PatternCacheTestCase {
+    private static final Logger log = LogManager.getLogger(PatternCacheTestCase.class);
+
+    @Test
+    public void testPatternCacheHitAndMiss() {
+        log.info("PatternCache TestCase for cache hits and misses");
+        PatternCache patternCache = new PatternCache(10);
+        Pattern first = patternCache.getPattern("\\d\\d(.*)WSO2", 0);
+        Pattern second = patternCache.getPattern("\\d\\d(.*)WSO2", 0);
+        Pattern caseInsensitive = patternCache.getPattern("\\d\\d(.*)WSO2", Pattern.CASE_INSENSITIVE);
+
+        AssertJUnit.assertSame(first, second);
+        AssertJUnit.assertNotSame(first, caseInsensitive);
+        AssertJUnit.assertEquals(1, patternCache.getHitCount());
+        AssertJUnit.assertEquals(2, patternCache.getMissCount());
+        AssertJUnit.assertEquals(2, patternCache.size());
+    }
+
+    @Test
+    public void testPatternCacheEviction() {
+        log.info("PatternCache TestCase for least recently used eviction");
+        PatternCache patternCache = new PatternCache(2);
+        Pattern wso2 = patternCache.getPattern("WSO2", 0);
+        patternCache.getPattern("Siddhi", 0);
+        patternCache.getPattern("WSO2", 0);
+        patternCache.getPattern("regex", 0);
+
+        AssertJUnit.assertEquals(2, patternCache.size());
+        AssertJUnit.assertEquals(1, patternCache.getEvictionCount());
+        AssertJUnit.assertSame(wso2, patternCache.getPattern("WSO2", 0));
+        AssertJUnit.assertEquals(2, patternCache.getHitCount());
+
+        patternCache.addCapacity(5);
+        patternCache.addCapacity(3);
+        patternCache.getPattern("Siddhi", 0);
+        patternCache.getPattern("Siddhi", Pattern.CASE_INSENSITIVE);
+        AssertJUnit.assertEquals(4, patternCache.size());
+        AssertJUnit.assertEquals(1, patternCache.getEvictionCount());
+
+        patternCache.removeCapacity(5);
+        AssertJUnit.assertEquals(3, patternCache.getCapacity());
+        AssertJUnit.assertEquals(3, patternCache.size());
+        AssertJUnit.assertEquals(2, patternCache.getEvictionCount());
+        AssertJUnit.assertSame(wso2, patternCache.getPattern("WSO2", 0));
+
+        patternCache.removeCapacity(3);
+        AssertJUnit.assertEquals(2, patternCache.getCapacity());
+        AssertJUnit.assertEquals(2, patternCache.size());
+    }
+
+    @Test
+    public void testPatternCacheCanonicalFlags() {
+        log.info("PatternCache TestCase sharing patterns that only differ by their leading inline flags");
+        PatternCache patternCache = new PatternCache(10);
+        Pattern flags = patternCache.getPattern("wso2(.*)middleware", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+        Pattern inlineFlags = patternCache.getPattern("(?is)wso2(.*)middleware", 0);
+        Pattern mixedFlags = patternCache.getPattern("(?s)wso2(.*)middleware", Pattern.CASE_INSENSITIVE);
+        Pattern groupFlags = patternCache.getPattern("(?is:wso2(.*)middleware)", 0);
+
+        AssertJUnit.assertSame(flags, inlineFlags);
+        AssertJUnit.assertSame(flags, mixedFlags);
+        AssertJUnit.assertNotSame(flags, groupFlags);
+        AssertJUnit.assertTrue(inlineFlags.matcher("WSO2 is a\nMIDDLEWARE").find());
+        AssertJUnit.assertEquals(Pattern.CASE_INSENSITIVE, RegexFlags.canonicalFlags("(?i-s)wso2", Pattern.DOTALL));
+        AssertJUnit.assertEquals("(?i)wso2", RegexFlags.canonicalRegex("(?i)wso2", Pattern.LITERAL));
+        AssertJUnit.assertNotNull(patternCache.getLinearPattern("(?i)wso2", 0));
+    }
+}
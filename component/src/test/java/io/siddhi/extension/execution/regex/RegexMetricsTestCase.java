@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.statistics.metrics.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class RegexMetricsTestCase {
+    private static final Logger log = LogManager.getLogger(RegexMetricsTestCase.class);
+    private AtomicInteger count;
+    private List<Object> results;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+        results = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void testRegexMetrics() throws InterruptedException, JMException {
+        log.info("RegexMetrics TestCase with statistics enabled, and then turned off at runtime");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String siddhiApp = "@app:name('RegexMetrics') " +
+                "@app:statistics(reporter = 'jmx') " +
+                "define stream InputStream (regex string, msg string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:find('WSO2 (\\d+)', msg) as found, regex:matches(regex, msg) as matched, " +
+                "regex:lookingAt('\\d+', msg) as leading, regex:group('WSO2 (\\d+)', msg, 1) as version " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    results.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"\\d+ .*", "21 WSO2 5"});
+        inputHandler.send(new Object[]{"\\d+", "Siddhi"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(2, metricCount("regex.find", "evaluations"));
+        AssertJUnit.assertEquals(1, metricCount("regex.find", "matches"));
+        AssertJUnit.assertEquals(2, metricCount("regex.matches", "evaluations"));
+        AssertJUnit.assertEquals(1, metricCount("regex.matches", "matches"));
+        AssertJUnit.assertEquals(2, patternLookups("regex.matches"));
+
+        siddhiAppRuntime.setStatisticsLevel(Level.OFF);
+        inputHandler.send(new Object[]{"\\d+", "42"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(2, metricCount("regex.find", "evaluations"));
+        AssertJUnit.assertEquals(2, metricCount("regex.matches", "evaluations"));
+        AssertJUnit.assertEquals(1, metricCount("regex.matches", "matches"));
+        AssertJUnit.assertEquals(2, patternLookups("regex.matches"));
+
+        siddhiAppRuntime.setStatisticsLevel(Level.BASIC);
+        inputHandler.send(new Object[]{"[a-z]+", "WSO2 7"});
+        SiddhiTestHelper.waitForEvents(100, 4, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.asList(true, true, true, "5"),
+                Arrays.asList(false, false, false, null),
+                Arrays.asList(false, true, true, null),
+                Arrays.asList(true, false, false, "7")), results);
+        AssertJUnit.assertEquals(3, metricCount("regex.find", "evaluations"));
+        AssertJUnit.assertEquals(2, metricCount("regex.find", "matches"));
+        AssertJUnit.assertEquals(3, metricCount("regex.lookingAt", "evaluations"));
+        AssertJUnit.assertEquals(1, metricCount("regex.lookingAt", "matches"));
+        AssertJUnit.assertEquals(3, metricCount("regex.matches", "evaluations"));
+        AssertJUnit.assertEquals(1, metricCount("regex.matches", "matches"));
+        AssertJUnit.assertEquals(3, patternLookups("regex.matches"));
+        AssertJUnit.assertTrue(metricCount("regex.matches", "cacheHits") >= 1);
+        siddhiAppRuntime.shutdown();
+    }
+
+    private static long patternLookups(String function) throws JMException {
+        return metricCount(function, "compilations") + metricCount(function, "cacheHits");
+    }
+
+    /**
+     * Sums the counts of the throughput metrics of the RegexMetrics app reported through JMX for the counter of the
+     * function, the segments following the function name in the metric name being its regex label, if any, and the
+     * counter.
+     */
+    private static long metricCount(String function, String counter) throws JMException {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        long count = 0;
+        for (ObjectName objectName : mBeanServer.queryNames(null, null)) {
+            String name = objectName.getKeyProperty("name");
+            if (name == null) {
+                continue;
+            }
+            if (name.startsWith("\"")) {
+                name = ObjectName.unquote(name);
+            }
+            int functionIndex = name.indexOf("." + function + ".");
+            if (!name.contains("RegexMetrics") || functionIndex < 0) {
+                continue;
+            }
+            List<String> segments = Arrays.asList(name.substring(functionIndex + function.length() + 2).split("\\."));
+            if (segments.contains(counter)) {
+                count += ((Number) mBeanServer.getAttribute(objectName, "Count")).longValue();
+            }
+        }
+        return count;
+    }
+}
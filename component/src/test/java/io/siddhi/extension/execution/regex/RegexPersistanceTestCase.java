@@ -24,6 +24,7 @@ import io.siddhi.core.event.Event;
 import io.siddhi.core.exception.CannotRestoreSiddhiAppStateException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.core.util.SiddhiTestHelper;
 import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
@@ -281,4 +282,58 @@ public class RegexPersistanceTestCase {
         AssertJUnit.assertTrue(eventArrived);
         executionPlanRuntime.shutdown();
     }
+
+    @Test
+    public void testPartitionedPersistence() throws InterruptedException, CannotRestoreSiddhiAppStateException {
+        log.info("Persistence TestCase with the regex functions used in a partition with many keys");
+        PersistenceStore persistenceStore = new InMemoryPersistenceStore();
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setPersistenceStore(persistenceStore);
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, regex string);";
+        String query = ("partition with (price of inputStream) " +
+                "begin " +
+                "   @info(name = 'query1') " +
+                "   from inputStream " +
+                "   select symbol, regex:find('\\d\\d(.*)WSO2', symbol) as aboutWSO2, " +
+                "   regex:matches(regex, symbol) as matches " +
+                "   insert into outputStream; " +
+                "end;");
+        SiddhiAppRuntime executionPlanRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        AtomicInteger matchCount = new AtomicInteger(0);
+        executionPlanRuntime.addCallback("outputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                for (Event event : events) {
+                    boolean expected = ((String) event.getData(0)).startsWith("21");
+                    AssertJUnit.assertEquals(expected, event.getData(1));
+                    AssertJUnit.assertEquals(expected, event.getData(2));
+                    if (expected) {
+                        matchCount.incrementAndGet();
+                    }
+                    count.incrementAndGet();
+                }
+            }
+        });
+        InputHandler inputHandler = executionPlanRuntime.getInputHandler("inputStream");
+        executionPlanRuntime.start();
+        for (long key = 0; key < 100; key++) {
+            inputHandler.send(new Object[]{"21 products are produced by WSO2 currently", key, "\\d\\d.*"});
+        }
+        SiddhiTestHelper.waitForEvents(100, 100, count, 60000);
+        executionPlanRuntime.persist();
+        executionPlanRuntime.shutdown();
+        inputHandler = executionPlanRuntime.getInputHandler("inputStream");
+        executionPlanRuntime.start();
+        executionPlanRuntime.restoreLastRevision();
+        for (long key = 0; key < 100; key++) {
+            inputHandler.send(new Object[]{"WSO2 is situated in trace and its a middleware company", key,
+                    "\\d\\d.*"});
+        }
+        SiddhiTestHelper.waitForEvents(100, 200, count, 60000);
+        AssertJUnit.assertEquals(200, count.get());
+        AssertJUnit.assertEquals(100, matchCount.get());
+        executionPlanRuntime.shutdown();
+    }
 }
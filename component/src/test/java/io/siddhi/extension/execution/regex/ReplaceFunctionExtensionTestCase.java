@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.linear.LinearPattern;
+import io.siddhi.extension.execution.regex.util.Replacement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class ReplaceFunctionExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(ReplaceFunctionExtensionTestCase.class);
+    private AtomicInteger count;
+    private List<Object> results;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+        results = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void testReplaceFunctionExtension1() throws InterruptedException {
+        log.info("ReplaceFunctionExtensionTestCase TestCase with group references");
+        runAndAssert(new SiddhiManager(), new Object[][]{
+                {"Contact john@wso2.com or jane@wso2.com", "$1 at ${domain}"},
+                {"No address", "$1"},
+                {null, "$1"}
+        }, Arrays.asList(
+                Arrays.asList("Contact ***@wso2.com or ***@wso2.com", "Contact ***@wso2.com or jane@wso2.com",
+                        "Contact john at wso2.com or jane at wso2.com"),
+                Arrays.asList("No address", "No address", "No address"),
+                Arrays.asList(null, null, null)));
+    }
+
+    @Test
+    public void testReplaceFunctionExtension2() throws InterruptedException {
+        log.info("ReplaceFunctionExtensionTestCase TestCase with the linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.replaceAll.regex.engine", "linear");
+        configMap.put("regex.replaceFirst.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+        runAndAssert(siddhiManager, new Object[][]{
+                {"Contact john@wso2.com or jane@wso2.com".getBytes(StandardCharsets.UTF_8), "[${domain}\\$]"},
+        }, Collections.singletonList(
+                Arrays.asList("Contact ***@wso2.com or ***@wso2.com", "Contact ***@wso2.com or jane@wso2.com",
+                        "Contact [wso2.com$] or [wso2.com$]")));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testReplaceFunctionExtension3() {
+        log.info("ReplaceFunctionExtensionTestCase TestCase with a reference to a missing group");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "from InputStream " +
+                "select regex:replaceAll('(\\w+)@', msg, '$2@') as masked " +
+                "insert into OutputStream;";
+        siddhiManager.createSiddhiAppRuntime(siddhiApp);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testReplaceFunctionExtension4() {
+        log.info("ReplaceFunctionExtensionTestCase TestCase with invalid number of arguments");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "from InputStream " +
+                "select regex:replaceFirst('(\\w+)@', msg) as masked " +
+                "insert into OutputStream;";
+        siddhiManager.createSiddhiAppRuntime(siddhiApp);
+    }
+
+    @Test
+    public void testReplacement() {
+        log.info("Replacement TestCase");
+        Pattern pattern = Pattern.compile("(?<key>\\w+)=(\\d+)?");
+        String input = "a=1, b=, c=33";
+        for (String replacement : new String[]{"$2:${key}", "\\$1$0", "$20", ""}) {
+            AssertJUnit.assertEquals(pattern.matcher(input).replaceAll(replacement),
+                    Replacement.parse(replacement, pattern).replace(input, pattern.matcher(input), true));
+            AssertJUnit.assertEquals(pattern.matcher(input).replaceFirst(replacement),
+                    Replacement.parse(replacement, pattern).replace(input, pattern.matcher(input), false));
+            LinearPattern linearPattern = LinearPattern.compile(pattern.pattern());
+            AssertJUnit.assertEquals(pattern.matcher(input).replaceAll(replacement),
+                    Replacement.parse(replacement, linearPattern).replace(input, linearPattern.matcher(input), true));
+        }
+        String unmatched = "no pairs";
+        AssertJUnit.assertSame(unmatched,
+                Replacement.parse("$1", pattern).replace(unmatched, pattern.matcher(unmatched), true));
+        AssertJUnit.assertNull(Replacement.parse("$1", pattern).replaceMatches(unmatched,
+                pattern.matcher(unmatched), true));
+        AssertJUnit.assertEquals("1=a, =b, 33=c", Replacement.parse("$2=${key}", pattern).replaceMatches(input,
+                pattern.matcher(input), true));
+        for (String replacement : new String[]{"$3", "${value}", "$", "\\", "${key"}) {
+            try {
+                Replacement.parse(replacement, pattern);
+                AssertJUnit.fail("Replacement '" + replacement + "' should be rejected");
+            } catch (IllegalArgumentException e) {
+                log.info("Rejected '" + replacement + "': " + e.getMessage());
+            }
+        }
+    }
+
+    private void runAndAssert(SiddhiManager siddhiManager, Object[][] events, List<List<Object>> expected)
+            throws InterruptedException {
+        String siddhiApp = "define stream InputStream (msg object, replacement string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:replaceAll('\\w+@', msg, '***@') as maskedAll, " +
+                "regex:replaceFirst('\\w+@', msg, '***@') as maskedFirst, " +
+                "regex:replaceAll('(\\w+)@(?<domain>[\\w.]+)', msg, replacement) as rewritten " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    results.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        for (Object[] event : events) {
+            inputHandler.send(event);
+        }
+        SiddhiTestHelper.waitForEvents(100, expected.size(), count, 60000);
+        AssertJUnit.assertEquals(expected, results);
+        siddhiAppRuntime.shutdown();
+    }
+}
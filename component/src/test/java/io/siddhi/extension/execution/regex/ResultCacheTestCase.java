@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.util.ResultCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class ResultCacheTestCase {
+    private static final Logger log = LogManager.getLogger(ResultCacheTestCase.class);
+
+    @Test
+    public void testResultCache() {
+        log.info("ResultCache TestCase");
+        ResultCache resultCache = new ResultCache(2, 1024, 8);
+        AssertJUnit.assertTrue(resultCache.accepts("GET"));
+        AssertJUnit.assertFalse(resultCache.accepts("GET /index.html"));
+        AssertJUnit.assertFalse(resultCache.accepts(new StringBuilder("GET")));
+        AssertJUnit.assertSame(ResultCache.MISS, resultCache.get("a"));
+        resultCache.put("a", true);
+        resultCache.put("b", null);
+        AssertJUnit.assertEquals(true, resultCache.get("a"));
+        AssertJUnit.assertNull(resultCache.get("b"));
+        resultCache.put("c", "x");
+        AssertJUnit.assertEquals(2, resultCache.getSize());
+        AssertJUnit.assertSame(ResultCache.MISS, resultCache.get("a"));
+        AssertJUnit.assertEquals("x", resultCache.get("c"));
+        AssertJUnit.assertEquals(1, resultCache.getEvictionCount());
+        AssertJUnit.assertEquals(3, resultCache.getHitCount());
+        AssertJUnit.assertEquals(2, resultCache.getMissCount());
+        AssertJUnit.assertEquals(0.6, resultCache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testResultCacheMemoryBound() {
+        log.info("ResultCache TestCase with memory bound");
+        ResultCache resultCache = new ResultCache(100, 400, 64);
+        resultCache.put("first", "1");
+        resultCache.put("second", "2");
+        AssertJUnit.assertEquals(2, resultCache.getSize());
+        long bytes = resultCache.getEstimatedBytes();
+        resultCache.put("second", "22");
+        AssertJUnit.assertEquals(bytes + 2, resultCache.getEstimatedBytes());
+        resultCache.put("third", "3");
+        AssertJUnit.assertTrue(resultCache.getEstimatedBytes() <= 400);
+        AssertJUnit.assertSame(ResultCache.MISS, resultCache.get("first"));
+        AssertJUnit.assertEquals("22", resultCache.get("second"));
+        AssertJUnit.assertEquals("3", resultCache.get("third"));
+    }
+
+    @Test
+    public void testResultCacheWithFunctions() throws Exception {
+        log.info("ResultCache TestCase with regex:matches() and regex:group()");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.matches.result.cache.size", "16");
+        configMap.put("regex.group.result.cache.size", "16");
+        configMap.put("regex.group.result.cache.max.input.length", "12");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (request string, payload object); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:matches('(GET|POST) /.*', request) as valid, " +
+                "regex:group('^(\\w+) (\\S+)', request, 2) as path, " +
+                "regex:matches('(GET|POST) /.*', payload) as validPayload " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        AtomicInteger count = new AtomicInteger(0);
+        List<Object[]> results = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    results.add(event.getData());
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        byte[] payload = "GET /a".getBytes(StandardCharsets.UTF_8);
+        inputHandler.send(new Object[]{"GET /a", payload});
+        inputHandler.send(new Object[]{"-", payload});
+        inputHandler.send(new Object[]{"GET /a", payload});
+        inputHandler.send(new Object[]{"-", payload});
+        inputHandler.send(new Object[]{"POST /login.html", payload});
+        inputHandler.send(new Object[]{"POST /login.html", payload});
+        SiddhiTestHelper.waitForEvents(100, 6, count, 60000);
+        AssertJUnit.assertArrayEquals(new Object[]{true, "/a", true}, results.get(0));
+        AssertJUnit.assertArrayEquals(new Object[]{false, null, true}, results.get(1));
+        AssertJUnit.assertArrayEquals(new Object[]{true, "/a", true}, results.get(2));
+        AssertJUnit.assertArrayEquals(new Object[]{false, null, true}, results.get(3));
+        AssertJUnit.assertArrayEquals(new Object[]{true, "/login.html", true}, results.get(4));
+        AssertJUnit.assertArrayEquals(new Object[]{true, "/login.html", true}, results.get(5));
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName matchesCaches = new ObjectName(ResultCache.OBJECT_NAME_PREFIX + ",query=\"query1\"," +
+                "function=" + ObjectName.quote("regex:matches()") + ",*");
+        Set<ObjectName> names = mBeanServer.queryNames(matchesCaches, null);
+        AssertJUnit.assertEquals(2, names.size());
+        long hits = 0;
+        long misses = 0;
+        for (ObjectName name : names) {
+            hits += (Long) mBeanServer.getAttribute(name, "HitCount");
+            misses += (Long) mBeanServer.getAttribute(name, "MissCount");
+        }
+        AssertJUnit.assertEquals(3, hits);
+        AssertJUnit.assertEquals(3, misses);
+        siddhiAppRuntime.shutdown();
+        AssertJUnit.assertTrue(mBeanServer.queryNames(matchesCaches, null).isEmpty());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.extension.execution.regex.util.RuleSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RuleSetTestCase {
+    private static final Logger log = LogManager.getLogger(RuleSetTestCase.class);
+    private AtomicInteger count;
+    private List<Object> alerts;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+        alerts = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void testRuleSet() {
+        log.info("RuleSet TestCase with rules added, replaced and removed across rebuilds of the index");
+        RuleSet ruleSet = RuleSet.acquire("RuleSetTestCase", "testRuleSet");
+        for (int i = 0; i < 200; i++) {
+            ruleSet.put("rule" + i, "token" + i + "\\b");
+        }
+        AssertJUnit.assertEquals(200, ruleSet.size());
+        AssertJUnit.assertTrue(ruleSet.getRebuildCount() > 0);
+        AssertJUnit.assertEquals("rule150", ruleSet.findFirst("a token150 b"));
+        AssertJUnit.assertEquals("rule1", ruleSet.findFirst("token1"));
+        AssertJUnit.assertNull(ruleSet.findFirst("token1000"));
+
+        ruleSet.put("rule5", "replaced");
+        AssertJUnit.assertNull(ruleSet.findFirst("token5"));
+        AssertJUnit.assertEquals("rule5", ruleSet.findFirst("replaced"));
+        ruleSet.put("late", "token7");
+        AssertJUnit.assertEquals("rule7", ruleSet.findFirst("token7"));
+
+        for (int i = 0; i < 150; i++) {
+            ruleSet.remove("rule" + i);
+        }
+        AssertJUnit.assertEquals(51, ruleSet.size());
+        AssertJUnit.assertEquals("late", ruleSet.findFirst("token7"));
+        AssertJUnit.assertEquals("rule160", ruleSet.findFirst("token160"));
+        AssertJUnit.assertNull(ruleSet.findFirst("token20"));
+
+        Map<String, String> rules = ruleSet.getRules();
+        ruleSet.setRules(Collections.emptyMap());
+        AssertJUnit.assertNull(ruleSet.findFirst("token160"));
+        ruleSet.setRules(rules);
+        AssertJUnit.assertEquals(51, ruleSet.size());
+        AssertJUnit.assertEquals("rule160", ruleSet.findFirst("token160"));
+
+        AssertJUnit.assertSame(ruleSet, RuleSet.acquire("RuleSetTestCase", "testRuleSet"));
+        ruleSet.release();
+        AssertJUnit.assertEquals(51, RuleSet.acquire("RuleSetTestCase", "testRuleSet").size());
+        ruleSet.release();
+        ruleSet.release();
+        RuleSet newRuleSet = RuleSet.acquire("RuleSetTestCase", "testRuleSet");
+        AssertJUnit.assertNotSame(ruleSet, newRuleSet);
+        AssertJUnit.assertEquals(0, newRuleSet.size());
+        newRuleSet.release();
+    }
+
+    @Test
+    public void testRuleSetConcurrentUpdates() throws InterruptedException {
+        log.info("RuleSet TestCase matching a rule while it is replaced by another thread");
+        RuleSet ruleSet = RuleSet.acquire("RuleSetTestCase", "testRuleSetConcurrentUpdates");
+        for (int i = 0; i < 100; i++) {
+            ruleSet.put("rule" + i, "token" + i + "\\b");
+        }
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread updater = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                ruleSet.put("rule50", "token50\\b");
+            }
+            done.set(true);
+        });
+        updater.start();
+        int misses = 0;
+        while (!done.get()) {
+            if (!"rule50".equals(ruleSet.findFirst("a token50 b"))) {
+                misses++;
+            }
+        }
+        updater.join();
+        AssertJUnit.assertEquals(0, misses);
+        ruleSet.release();
+    }
+
+    @Test
+    public void testRuleSetWithoutLiterals() {
+        log.info("RuleSet TestCase with rules that have no required literal and are verified for every input");
+        RuleSet ruleSet = RuleSet.acquire("RuleSetTestCase", "testRuleSetWithoutLiterals");
+        for (int i = 0; i < 100; i++) {
+            ruleSet.put("digits" + (i + 1), "^\\d{" + (i + 1) + "}$");
+        }
+        ruleSet.put("number", "\\d+");
+        ruleSet.put("word", "^[a-z]+$");
+        AssertJUnit.assertTrue(ruleSet.getRebuildCount() > 0);
+        AssertJUnit.assertEquals("digits5", ruleSet.findFirst("12345"));
+        AssertJUnit.assertEquals("number", ruleSet.findFirst("id 12345"));
+        AssertJUnit.assertEquals("word", ruleSet.findFirst("siddhi"));
+        AssertJUnit.assertNull(ruleSet.findFirst("Siddhi"));
+
+        ruleSet.remove("digits5");
+        AssertJUnit.assertEquals("number", ruleSet.findFirst("12345"));
+        ruleSet.put("digits5", "^[0-9]{5}$");
+        AssertJUnit.assertEquals("number", ruleSet.findFirst("12345"));
+        ruleSet.remove("number");
+        AssertJUnit.assertEquals("digits5", ruleSet.findFirst("12345"));
+        ruleSet.release();
+    }
+
+    @Test
+    public void testRuleSet2() throws InterruptedException {
+        log.info("RuleSet TestCase joining a table on the rule matched by regex:matchRuleSet");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String siddhiApp = "@app:name('RuleSet') " +
+                "define stream RuleStream (ruleId string, pattern string, severity string); " +
+                "define stream LogStream (msg string); " +
+                "@PrimaryKey('ruleId') " +
+                "define table RuleTable (ruleId string, pattern string, severity string); " +
+                "from RuleStream#regex:updateRuleSet('alerts', ruleId, pattern) " +
+                "select ruleId, pattern, severity " +
+                "update or insert into RuleTable " +
+                "   on RuleTable.ruleId == ruleId; " +
+                "@info(name = 'query1') " +
+                "from LogStream join RuleTable " +
+                "   on RuleTable.ruleId == regex:matchRuleSet('alerts', LogStream.msg) " +
+                "select LogStream.msg, RuleTable.ruleId, RuleTable.severity " +
+                "insert into AlertStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("AlertStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    alerts.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler ruleHandler = siddhiAppRuntime.getInputHandler("RuleStream");
+        InputHandler logHandler = siddhiAppRuntime.getInputHandler("LogStream");
+        siddhiAppRuntime.start();
+        ruleHandler.send(new Object[]{"disk", "disk (failure|error)", "HIGH"});
+        ruleHandler.send(new Object[]{"login", "login failed for \\w+", "LOW"});
+        ruleHandler.send(new Object[]{"invalid", "(unclosed", "LOW"});
+        logHandler.send(new Object[]{"disk error on /dev/sda"});
+        logHandler.send(new Object[]{"login failed for admin"});
+        logHandler.send(new Object[]{"all good"});
+        ruleHandler.send(new Object[]{"login", null, "LOW"});
+        ruleHandler.send(new Object[]{"disk", "disk (failure|error|full)", "MEDIUM"});
+        logHandler.send(new Object[]{"login failed for admin"});
+        logHandler.send(new Object[]{"disk full"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.asList("disk error on /dev/sda", "disk", "HIGH"),
+                Arrays.asList("login failed for admin", "login", "LOW"),
+                Arrays.asList("disk full", "disk", "MEDIUM")), alerts);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testRuleSet3() {
+        log.info("RuleSet TestCase with a rule set name that is not a constant");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String siddhiApp = "define stream LogStream (name string, msg string); " +
+                "from LogStream " +
+                "select regex:matchRuleSet(name, msg) as ruleId " +
+                "insert into OutputStream;";
+        siddhiManager.createSiddhiAppRuntime(siddhiApp);
+    }
+}
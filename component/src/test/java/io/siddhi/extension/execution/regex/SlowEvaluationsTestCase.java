@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.execution.regex.util.SlowEvaluations;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.ObjectName;
+
+public class SlowEvaluationsTestCase {
+    private static final Logger log = LogManager.getLogger(SlowEvaluationsTestCase.class);
+
+    @Test
+    public void testSlowEvaluations() throws Exception {
+        log.info("SlowEvaluations TestCase recording the input that drives regex:group() into backtracking");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.group.profile.threshold", "5");
+        configMap.put("regex.group.profile.top.n", "5");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "@app:name('SlowEvaluations') " +
+                "define stream InputStream (msg string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:group('(a+)+b', msg, 1) as run " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        AtomicInteger count = new AtomicInteger(0);
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                count.addAndGet(events.length);
+            }
+        });
+        SlowEvaluations slowEvaluations = SlowEvaluations.getInstance();
+        slowEvaluations.reset();
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"aaaaaaaaaaaaaaaaaaaaaaaaaac"});
+        inputHandler.send(new Object[]{"aab"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        siddhiAppRuntime.shutdown();
+
+        List<SlowEvaluations.Evaluation> evaluations = slowEvaluations.getEvaluations();
+        AssertJUnit.assertFalse(evaluations.isEmpty());
+        SlowEvaluations.Evaluation slowest = evaluations.get(0);
+        AssertJUnit.assertEquals("regex:group()", slowest.getFunctionName());
+        AssertJUnit.assertEquals("SlowEvaluations", slowest.getSiddhiAppName());
+        AssertJUnit.assertEquals("query1", slowest.getQueryName());
+        AssertJUnit.assertEquals("(a+)+b", slowest.getRegex());
+        AssertJUnit.assertEquals(27, slowest.getInputLength());
+        AssertJUnit.assertNull(slowest.getInputExcerpt());
+        AssertJUnit.assertFalse(slowest.toString().contains("aaaac"));
+        AssertJUnit.assertTrue(slowest.getDurationNanos() >= 5000000L);
+        AssertJUnit.assertTrue(slowEvaluations.getCapacity() >= 5);
+
+        String[] descriptions = (String[]) ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(SlowEvaluations.OBJECT_NAME), "SlowestEvaluations");
+        AssertJUnit.assertEquals(evaluations.size(), descriptions.length);
+        AssertJUnit.assertEquals(slowest.toString(), descriptions[0]);
+    }
+
+    @Test
+    public void testSlowEvaluationsWithInputExcerpt() throws Exception {
+        log.info("SlowEvaluations TestCase recording an excerpt of the input when enabled");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.matches.profile.threshold", "5");
+        configMap.put("regex.matches.profile.input.excerpt", "true");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "from InputStream " +
+                "select regex:matches('(a+)+b', msg) as matched " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        AtomicInteger count = new AtomicInteger(0);
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                count.addAndGet(events.length);
+            }
+        });
+        SlowEvaluations slowEvaluations = SlowEvaluations.getInstance();
+        slowEvaluations.reset();
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"aaaaaaaaaaaaaaaaaaaaaaaaaac"});
+        SiddhiTestHelper.waitForEvents(100, 1, count, 60000);
+        siddhiAppRuntime.shutdown();
+
+        List<SlowEvaluations.Evaluation> evaluations = slowEvaluations.getEvaluations();
+        AssertJUnit.assertFalse(evaluations.isEmpty());
+        AssertJUnit.assertEquals("regex:matches()", evaluations.get(0).getFunctionName());
+        AssertJUnit.assertEquals("aaaaaaaaaaaaaaaaaaaaaaaaaac", evaluations.get(0).getInputExcerpt());
+        AssertJUnit.assertTrue(evaluations.get(0).toString().endsWith(": 'aaaaaaaaaaaaaaaaaaaaaaaaaac'"));
+    }
+
+    @Test
+    public void testSlowEvaluationsLogInterval() {
+        log.info("SlowEvaluations TestCase logging at the shortest interval of the running Siddhi apps");
+        Map<String, String> hourlyConfig = new HashMap<>();
+        hourlyConfig.put("regex.find.profile.threshold", "5");
+        hourlyConfig.put("regex.find.profile.log.interval", "3600000");
+        SiddhiManager hourlySiddhiManager = new SiddhiManager();
+        hourlySiddhiManager.setConfigManager(new InMemoryConfigManager(hourlyConfig, null));
+        Map<String, String> minutelyConfig = new HashMap<>();
+        minutelyConfig.put("regex.find.profile.threshold", "5");
+        minutelyConfig.put("regex.find.profile.log.interval", "60000");
+        SiddhiManager minutelySiddhiManager = new SiddhiManager();
+        minutelySiddhiManager.setConfigManager(new InMemoryConfigManager(minutelyConfig, null));
+
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "from InputStream " +
+                "select regex:find('\\d+', msg) as found " +
+                "insert into OutputStream;";
+        SlowEvaluations slowEvaluations = SlowEvaluations.getInstance();
+        AssertJUnit.assertEquals(0, slowEvaluations.getLogIntervalMillis());
+        SiddhiAppRuntime hourlyRuntime = hourlySiddhiManager.createSiddhiAppRuntime(siddhiApp);
+        hourlyRuntime.start();
+        AssertJUnit.assertEquals(3600000, slowEvaluations.getLogIntervalMillis());
+        SiddhiAppRuntime minutelyRuntime = minutelySiddhiManager.createSiddhiAppRuntime(siddhiApp);
+        minutelyRuntime.start();
+        AssertJUnit.assertEquals(60000, slowEvaluations.getLogIntervalMillis());
+
+        minutelyRuntime.shutdown();
+        AssertJUnit.assertEquals(3600000, slowEvaluations.getLogIntervalMillis());
+        hourlyRuntime.shutdown();
+        AssertJUnit.assertEquals(0, slowEvaluations.getLogIntervalMillis());
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SplitFunctionExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(SplitFunctionExtensionTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testSplitFunctionExtension1() throws InterruptedException {
+        log.info("SplitFunctionExtensionTestCase TestCase with limits");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:split(',\\s*', msg) as tokens, regex:split(',\\s*', msg, 2) as firstTwo, " +
+                "regex:split(',', msg, -1) as allTokens " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    received.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"WSO2, Siddhi,CEP,,"});
+        inputHandler.send(new Object[]{null});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(Arrays.asList("WSO2", "Siddhi", "CEP"), Arrays.asList("WSO2", "Siddhi,CEP,,"),
+                        Arrays.asList("WSO2", " Siddhi", "CEP", "", "")),
+                Arrays.<Object>asList(null, null, null)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testSplitFunctionExtension2() throws InterruptedException {
+        log.info("SplitFunctionExtensionTestCase TestCase with byte[] and ByteBuffer inputs, zero width matches and " +
+                "the linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.split.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (msg object, regex string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:split(regex, msg, -1) as allTokens " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    received.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"WSO2".getBytes(StandardCharsets.UTF_8), "x*"});
+        inputHandler.send(new Object[]{ByteBuffer.wrap("a1b22c".getBytes(StandardCharsets.UTF_8)), "\\d+"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Collections.<Object>singletonList(Arrays.asList("W", "S", "O", "2", "")),
+                Collections.<Object>singletonList(Arrays.asList("a", "b", "c"))), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testSplitFunctionExtension3() {
+        log.info("SplitFunctionExtensionTestCase TestCase with invalid datatype");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String siddhiApp = "define stream InputStream (msg string, maxTokens double); " +
+                "from InputStream " +
+                "select regex:split(',', msg, maxTokens) as tokens " +
+                "insert into OutputStream;";
+        siddhiManager.createSiddhiAppRuntime(siddhiApp);
+    }
+
+    @Test
+    public void testSplitFunctionExtension4() throws InterruptedException {
+        log.info("SplitFunctionExtensionTestCase TestCase returning null for an input exceeding the step limit");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.split.match.step.limit", "100000");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String siddhiApp = "define stream InputStream (msg string); " +
+                "@info(name = 'query1') " +
+                "from InputStream " +
+                "select regex:split(';|((a+)+)+b', msg) as tokens " +
+                "insert into OutputStream;";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    received.add(Arrays.asList(event.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"k;v;aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!"});
+        inputHandler.send(new Object[]{"k;v aab w"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Collections.singletonList(null),
+                Collections.<Object>singletonList(Arrays.asList("k", "v ", " w"))), received);
+        siddhiAppRuntime.shutdown();
+    }
+}
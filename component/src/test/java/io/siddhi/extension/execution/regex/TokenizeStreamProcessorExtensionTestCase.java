@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.siddhi.extension.execution.regex;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TokenizeStreamProcessorExtensionTestCase {
+    private static final Logger log = LogManager.getLogger(TokenizeStreamProcessorExtensionTestCase.class);
+    private AtomicInteger count;
+
+    @BeforeMethod
+    public void init() {
+        count = new AtomicInteger(0);
+    }
+
+    @Test
+    public void testTokenizeStreamProcessorExtension1() throws InterruptedException {
+        log.info("TokenizeStreamProcessorExtension TestCase with delimited payloads and limits");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, maxTokens int);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:tokenize(';\\s*', symbol, maxTokens) " +
+                "select price, token, tokenIndex " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"IBM; WSO2;;", 10L, 0});
+        inputHandler.send(new Object[]{"no delimiter", 20L, 0});
+        inputHandler.send(new Object[]{null, 30L, 0});
+        inputHandler.send(new Object[]{"a;b;c", 40L, 2});
+        SiddhiTestHelper.waitForEvents(100, 5, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList(10L, "IBM", 0),
+                Arrays.<Object>asList(10L, "WSO2", 1),
+                Arrays.<Object>asList(20L, "no delimiter", 0),
+                Arrays.<Object>asList(40L, "a", 0),
+                Arrays.<Object>asList(40L, "b;c", 1)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testTokenizeStreamProcessorExtension2() throws InterruptedException {
+        log.info("TokenizeStreamProcessorExtension TestCase keeping trailing empty tokens of byte[] payloads with " +
+                "the linear engine");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.tokenize.regex.engine", "linear");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (payload object);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:tokenize(',', payload, -1) " +
+                "select token, tokenIndex " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"a,,b,".getBytes(StandardCharsets.UTF_8)});
+        inputHandler.send(new Object[]{ByteBuffer.wrap("c,d".getBytes(StandardCharsets.UTF_8))});
+        SiddhiTestHelper.waitForEvents(100, 6, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList("a", 0),
+                Arrays.<Object>asList("", 1),
+                Arrays.<Object>asList("b", 2),
+                Arrays.<Object>asList("", 3),
+                Arrays.<Object>asList("c", 0),
+                Arrays.<Object>asList("d", 1)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testTokenizeStreamProcessorExtension3() {
+        log.info("TokenizeStreamProcessorExtension TestCase with a non constant regex");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (symbol string, regex string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:tokenize(regex, symbol) " +
+                "select token " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
+
+    @Test
+    public void testTokenizeStreamProcessorExtension4() throws InterruptedException {
+        log.info("TokenizeStreamProcessorExtension TestCase dropping the tokens of an event exceeding the step limit");
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("regex.tokenize.match.step.limit", "100000");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configMap, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:tokenize(';|((a+)+)+b', symbol) " +
+                "select symbol, token, tokenIndex " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"k;v;aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!"});
+        inputHandler.send(new Object[]{"k;v aab w"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList("k;v aab w", "k", 0),
+                Arrays.<Object>asList("k;v aab w", "v ", 1),
+                Arrays.<Object>asList("k;v aab w", " w", 2)), received);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testTokenizeStreamProcessorExtension5() throws InterruptedException {
+        log.info("TokenizeStreamProcessorExtension TestCase dropping an event whose input is not character data");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (payload object);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#regex:tokenize(';', payload) " +
+                "select token, tokenIndex " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<List<Object>> received = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    received.add(Arrays.asList(inEvent.getData()));
+                    count.incrementAndGet();
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        // Neither a string, byte[] nor ByteBuffer, hence the event is dropped after logging the error.
+        inputHandler.send(new Object[]{42});
+        inputHandler.send(new Object[]{"x;y"});
+        SiddhiTestHelper.waitForEvents(100, 2, count, 60000);
+        AssertJUnit.assertEquals(Arrays.asList(
+                Arrays.<Object>asList("x", 0),
+                Arrays.<Object>asList("y", 1)), received);
+        siddhiAppRuntime.shutdown();
+    }
+}